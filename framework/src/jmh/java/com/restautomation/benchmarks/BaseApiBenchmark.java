@@ -0,0 +1,91 @@
+package com.restautomation.benchmarks;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.restautomation.base.BaseAPI;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * BaseApiBenchmark - Cost of a BaseAPI call against an in-process WireMock server. The raw
+ * HttpClient call to the same stub is the baseline: the difference is framework overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BaseApiBenchmark {
+    private static final Map<String, String> HEADERS = Collections.singletonMap("X-Request-Source", "benchmark");
+    private static final Map<String, Object> PATH_PARAMS = Collections.singletonMap("id", 1);
+
+    private WireMockServer server;
+    private String endpoint;
+    private BenchmarkAPI api;
+    private HttpClient rawClient;
+    private HttpRequest rawRequest;
+
+    @Setup
+    public void setup() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        server.stubFor(get(urlPathMatching("/users/.*")).willReturn(okJson(BenchmarkData.USER_JSON)));
+        endpoint = "http://localhost:" + server.port() + "/users/{id}";
+        api = new BenchmarkAPI();
+        rawClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        rawRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + "/users/1")).GET().build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BaseAPI.shutdownTransport();
+        server.stop();
+    }
+
+    @Benchmark
+    public RequestSpecification buildRequest() {
+        return api.buildRequest(HEADERS);
+    }
+
+    @Benchmark
+    public Response baseApiGet() {
+        return api.get(endpoint, PATH_PARAMS, null);
+    }
+
+    @Benchmark
+    public Response baseApiGetAsync() {
+        return api.getAsync(endpoint, PATH_PARAMS, null).join();
+    }
+
+    @Benchmark
+    public HttpResponse<byte[]> rawHttpClientGet() throws Exception {
+        return rawClient.send(rawRequest, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * BenchmarkAPI - Exposes request construction without sending the request
+     */
+    static class BenchmarkAPI extends BaseAPI {
+        RequestSpecification buildRequest(Map<String, String> headers) {
+            return setHeaders(headers);
+        }
+    }
+}
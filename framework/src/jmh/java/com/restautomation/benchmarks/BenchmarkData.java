@@ -0,0 +1,39 @@
+package com.restautomation.benchmarks;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+
+/**
+ * BenchmarkData - Shared payloads for the benchmarks, shaped like the jsonplaceholder resources
+ */
+final class BenchmarkData {
+    static final String USER_JSON = "{\"id\":1,\"name\":\"Leanne Graham\",\"username\":\"Bret\","
+            + "\"email\":\"Sincere@april.biz\",\"address\":{\"street\":\"Kulas Light\",\"suite\":\"Apt. 556\","
+            + "\"city\":\"Gwenborough\",\"zipcode\":\"92998-3874\",\"geo\":{\"lat\":\"-37.3159\",\"lng\":\"81.1496\"}},"
+            + "\"phone\":\"1-770-736-8031 x56442\",\"website\":\"hildegard.org\",\"company\":{\"name\":\"Romaguera-Crona\","
+            + "\"catchPhrase\":\"Multi-layered client-server neural-net\",\"bs\":\"harness real-time e-markets\"}}";
+
+    static final String POST_JSON = "{\"userId\":1,\"id\":1,\"title\":\"sunt aut facere repellat provident occaecati\","
+            + "\"body\":\"quia et suscipit\\nsuscipit recusandae consequuntur expedita et cum\\nreprehenderit molestiae\"}";
+
+    static final String PHOTO_JSON = "{\"albumId\":1,\"id\":1,\"title\":\"accusamus beatae ad facilis cum similique qui sunt\","
+            + "\"url\":\"https://via.placeholder.com/600/92c952\",\"thumbnailUrl\":\"https://via.placeholder.com/150/92c952\"}";
+
+    private BenchmarkData() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Build an in-memory JSON response, no network involved
+     * @param body response body
+     * @return Response with status 200
+     */
+    static Response jsonResponse(String body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setStatusLine("HTTP/1.1 200 OK")
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+}
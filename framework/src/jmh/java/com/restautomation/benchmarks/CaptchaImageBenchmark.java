@@ -0,0 +1,50 @@
+package com.restautomation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CaptchaImageBenchmark - Cost of the image work CaptchaReader does before OCR: cropping the
+ * CAPTCHA element out of a full-page screenshot and encoding it as PNG (OCR itself needs the
+ * native Tesseract library and is not measured)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CaptchaImageBenchmark {
+    private BufferedImage screenshot;
+
+    @Setup
+    public void setup() {
+        screenshot = new BufferedImage(1366, 768, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = screenshot.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 1366, 768);
+        graphics.setColor(Color.DARK_GRAY);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 36));
+        graphics.drawString("XK7P2Q", 520, 330);
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public byte[] cropAndEncode() throws IOException {
+        BufferedImage captcha = screenshot.getSubimage(480, 280, 240, 70);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(captcha, "png", png);
+        return png.toByteArray();
+    }
+}
@@ -0,0 +1,62 @@
+package com.restautomation.benchmarks;
+
+import com.restautomation.models.Photo;
+import com.restautomation.models.Post;
+import com.restautomation.models.User;
+import com.restautomation.utils.TestDataUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonMappingBenchmark - Cost of TestDataUtil JSON mapping for the API models
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonMappingBenchmark {
+    @Param({"user", "post", "photo"})
+    private String model;
+
+    private String json;
+    private Class<?> modelClass;
+    private Object instance;
+
+    @Setup
+    public void setup() {
+        switch (model) {
+            case "user":
+                json = BenchmarkData.USER_JSON;
+                modelClass = User.class;
+                break;
+            case "post":
+                json = BenchmarkData.POST_JSON;
+                modelClass = Post.class;
+                break;
+            case "photo":
+                json = BenchmarkData.PHOTO_JSON;
+                modelClass = Photo.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown model: " + model);
+        }
+        instance = TestDataUtil.jsonToObject(json, modelClass);
+    }
+
+    @Benchmark
+    public Object jsonToObject() {
+        return TestDataUtil.jsonToObject(json, modelClass);
+    }
+
+    @Benchmark
+    public String objectToJson() {
+        return TestDataUtil.objectToJson(instance);
+    }
+}
@@ -0,0 +1,34 @@
+package com.restautomation.benchmarks;
+
+import com.seleniumautomation.utils.LocatorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LocatorUtilBenchmark - Cost of parsing fallback locator chains ("css:...|xpath:...")
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocatorUtilBenchmark {
+
+    @Setup
+    public void setup() throws IOException {
+        LocatorUtil.loadLocators("myntra-locators");
+    }
+
+    @Benchmark
+    public List<By> getLocators() {
+        return LocatorUtil.getLocators("searchBar");
+    }
+}
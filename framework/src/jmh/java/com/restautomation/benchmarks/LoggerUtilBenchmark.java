@@ -0,0 +1,45 @@
+package com.restautomation.benchmarks;
+
+import com.restautomation.utils.LoggerUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoggerUtilBenchmark - Cost of LoggerUtil calls with the test log4j2 configuration
+ * (async root logger in front of the console and file appenders); debug is below the configured level
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggerUtilBenchmark {
+    private final String endpoint = "/users/{id}";
+    private final Integer id = 1;
+
+    @Benchmark
+    public void infoPlain() {
+        LoggerUtil.info("Performing GET request");
+    }
+
+    @Benchmark
+    public void infoWithArgs() {
+        LoggerUtil.info("Performing GET request to: {} with path params: {}", endpoint, id);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void infoWithArgsContended() {
+        LoggerUtil.info("Performing GET request to: {} with path params: {}", endpoint, id);
+    }
+
+    @Benchmark
+    public void debugDisabled() {
+        LoggerUtil.debug("Performing GET request to: {} with path params: {}", endpoint, id);
+    }
+}
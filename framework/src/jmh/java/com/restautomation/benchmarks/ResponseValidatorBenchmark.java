@@ -0,0 +1,60 @@
+package com.restautomation.benchmarks;
+
+import com.restautomation.utils.ResponseValidator;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResponseValidatorBenchmark - Cost of validating an in-memory user response
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseValidatorBenchmark {
+    private static final Map<String, Object> EXPECTED_FIELDS = new LinkedHashMap<>();
+
+    static {
+        EXPECTED_FIELDS.put("name", "Leanne Graham");
+        EXPECTED_FIELDS.put("address.city", "Gwenborough");
+        EXPECTED_FIELDS.put("company.name", "Romaguera-Crona");
+    }
+
+    private Response response;
+
+    @Setup
+    public void setup() {
+        response = BenchmarkData.jsonResponse(BenchmarkData.USER_JSON);
+    }
+
+    @Benchmark
+    public void validateFieldValue() {
+        ResponseValidator.validateFieldValue(response, "name", "Leanne Graham");
+    }
+
+    @Benchmark
+    public void validateThreeFieldValues() {
+        ResponseValidator.validateFieldValue(response, "name", "Leanne Graham");
+        ResponseValidator.validateFieldValue(response, "address.city", "Gwenborough");
+        ResponseValidator.validateFieldValue(response, "company.name", "Romaguera-Crona");
+    }
+
+    @Benchmark
+    public void validateThreeFieldsBatched() {
+        ResponseValidator.validateFields(response, EXPECTED_FIELDS);
+    }
+
+    @Benchmark
+    public void validateSchema() {
+        ResponseValidator.validateSchema(response, "schemas/user-schema.json");
+    }
+}
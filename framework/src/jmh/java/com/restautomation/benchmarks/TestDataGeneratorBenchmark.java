@@ -0,0 +1,51 @@
+package com.restautomation.benchmarks;
+
+import com.restautomation.utils.TestDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * TestDataGeneratorBenchmark - Records per second generated by TestDataGenerator
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TestDataGeneratorBenchmark {
+    @Param({"user", "post", "product"})
+    private String model;
+
+    private LongFunction<?> factory;
+    private long index;
+
+    @Setup
+    public void setup() {
+        TestDataGenerator generator = new TestDataGenerator(42);
+        switch (model) {
+            case "user":
+                factory = generator::user;
+                break;
+            case "post":
+                factory = generator::post;
+                break;
+            case "product":
+                factory = generator::product;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown model: " + model);
+        }
+    }
+
+    @Benchmark
+    public Object generate() {
+        return factory.apply(index++);
+    }
+}
@@ -1,20 +1,20 @@
 package com.restautomation.api;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restautomation.base.BaseAPI;
 import com.restautomation.constants.Endpoints;
 import com.restautomation.models.Photo;
 import com.restautomation.utils.LoggerUtil;
 import io.restassured.response.Response;
 
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * PhotoAPI - API methods for photo endpoints
  */
 public class PhotoAPI extends BaseAPI {
-    private final ObjectMapper objectMapper = new ObjectMapper();
     
     /**
      * Get all photos
@@ -25,6 +25,15 @@ public class PhotoAPI extends BaseAPI {
         return get(Endpoints.PHOTOS, null);
     }
     
+    /**
+     * Get all photos as an unbuffered stream for StreamingArrayValidator
+     * @return body stream of the photos array; close it when done
+     */
+    public InputStream getAllPhotosStream() {
+        LoggerUtil.info("Streaming all photos");
+        return getStream(Endpoints.PHOTOS, null);
+    }
+    
     /**
      * Get photo by ID
      * @param photoId photo ID
@@ -37,6 +46,18 @@ public class PhotoAPI extends BaseAPI {
         return get(Endpoints.PHOTO_BY_ID, pathParams, null);
     }
     
+    /**
+     * Get photo by ID asynchronously
+     * @param photoId photo ID
+     * @return future completed with the photo details Response
+     */
+    public CompletableFuture<Response> getPhotoByIdAsync(int photoId) {
+        LoggerUtil.info("Getting photo asynchronously with ID: {}", photoId);
+        Map<String, Object> pathParams = new HashMap<>();
+        pathParams.put("id", photoId);
+        return getAsync(Endpoints.PHOTO_BY_ID, pathParams, null);
+    }
+    
     /**
      * Create new photo
      * @param photo Photo object
@@ -0,0 +1,393 @@
+package com.restautomation.base;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.exceptions.APIException;
+import com.restautomation.logging.HttpExchange;
+import com.restautomation.logging.HttpExchangeBuffer;
+import com.restautomation.logging.HttpLogFilter;
+import com.restautomation.logging.HttpLogMode;
+import com.restautomation.metrics.LatencyFilter;
+import com.restautomation.metrics.TestMetrics;
+import com.restautomation.utils.JsonUtil;
+import com.restautomation.utils.LoggerUtil;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * AsyncHttpTransport - Process-wide non-blocking HTTP transport for the async BaseAPI methods.
+ * Requests are sent with the JDK HttpClient and limited to a configurable number in flight;
+ * excess requests are queued without blocking the caller. Like the synchronous request spec it
+ * honours api.sslVerification and http.log.mode, and records latencies through LatencyFilter.
+ */
+public final class AsyncHttpTransport {
+    private static volatile AsyncHttpTransport instance;
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final int maxInFlight;
+    private final HttpLogFilter logFilter;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+    private AsyncHttpTransport(ConfigManager config) {
+        this.requestTimeout = Duration.ofSeconds(config.getTimeout());
+        this.maxInFlight = config.getAsyncMaxInFlight();
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (!config.isSslVerificationEnabled()) {
+            builder.sslContext(relaxedSslContext());
+        }
+        if (config.isVirtualThreadsEnabled()) {
+            // Response handling and dependent stages run on virtual threads instead of a cached platform pool
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        this.httpClient = builder.build();
+        this.logFilter = config.getHttpLogMode() == HttpLogMode.OFF ? null : new HttpLogFilter();
+        LoggerUtil.info("Initialized async HTTP transport: maxInFlight={}, virtualThreads={}, sslVerification={}",
+                maxInFlight, config.isVirtualThreadsEnabled(), config.isSslVerificationEnabled());
+    }
+
+    /**
+     * Get the shared async transport, building it on first use
+     * @return AsyncHttpTransport instance
+     */
+    public static AsyncHttpTransport getInstance() {
+        AsyncHttpTransport transport = instance;
+        if (transport == null) {
+            synchronized (AsyncHttpTransport.class) {
+                transport = instance;
+                if (transport == null) {
+                    transport = new AsyncHttpTransport(ConfigManager.getInstance());
+                    instance = transport;
+                }
+            }
+        }
+        return transport;
+    }
+
+    /**
+     * Drop the shared async transport; the next request builds it from the current configuration
+     */
+    static synchronized void shutdown() {
+        if (instance != null) {
+            instance.httpClient.shutdown();
+            instance = null;
+        }
+    }
+
+    /**
+     * Get number of requests currently in flight
+     * @return in-flight request count
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Get number of requests waiting for an in-flight slot
+     * @return queued request count
+     */
+    public int getQueued() {
+        return pending.size();
+    }
+
+    /**
+     * Send a request asynchronously
+     * @param method HTTP method
+     * @param baseUrl base URL used when the endpoint is relative
+     * @param endpoint API endpoint, may contain {name} path parameters
+     * @param pathParams path parameters (may be null)
+     * @param queryParams query parameters (may be null)
+     * @param requestBody request body (may be null)
+     * @param headers request headers (may be null)
+     * @return future completed with the response
+     */
+    public CompletableFuture<Response> send(String method, String baseUrl, String endpoint,
+                                            Map<String, Object> pathParams, Map<String, Object> queryParams,
+                                            Object requestBody, Map<String, String> headers) {
+        return prepare(method, baseUrl, endpoint, pathParams, queryParams, requestBody, headers).get();
+    }
+
+    /**
+     * Prepare a request that can be sent any number of times, e.g. again after a transient failure
+     * @param method HTTP method
+     * @param baseUrl base URL used when the endpoint is relative
+     * @param endpoint API endpoint, may contain {name} path parameters
+     * @param pathParams path parameters (may be null)
+     * @param queryParams query parameters (may be null)
+     * @param requestBody request body (may be null)
+     * @param headers request headers (may be null)
+     * @return sends the request asynchronously on every call
+     */
+    public Supplier<CompletableFuture<Response>> prepare(String method, String baseUrl, String endpoint,
+                                                         Map<String, Object> pathParams, Map<String, Object> queryParams,
+                                                         Object requestBody, Map<String, String> headers) {
+        HttpRequest request;
+        byte[] body;
+        try {
+            body = requestBody == null ? null : serialize(requestBody);
+            request = buildRequest(method, buildUri(baseUrl, endpoint, pathParams, queryParams), body, headers);
+        } catch (RuntimeException e) {
+            return () -> CompletableFuture.failedFuture(e);
+        }
+        // Responses and re-sends complete on other threads, so capture the calling test's metrics and log buffer now
+        TestMetrics metrics = TestMetrics.current();
+        HttpExchangeBuffer logBuffer = HttpExchangeBuffer.current();
+        String thread = Thread.currentThread().getName();
+        return () -> submit(() -> {
+            long startMillis = System.currentTimeMillis();
+            long start = System.nanoTime();
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .thenApply(httpResponse -> {
+                        long elapsedNanos = System.nanoTime() - start;
+                        LatencyFilter.record(method, endpoint, httpResponse.statusCode(), startMillis, elapsedNanos,
+                                body == null ? 0 : body.length, httpResponse.body().length, metrics, thread);
+                        Response response = toResponse(httpResponse, elapsedNanos / 1_000_000);
+                        if (logFilter != null) {
+                            logFilter.log(new HttpExchange(method, request.uri().toString(),
+                                    toHeaders(request.headers().map()),
+                                    body == null ? null : new String(body, StandardCharsets.UTF_8), response), logBuffer);
+                        }
+                        return response;
+                    });
+        });
+    }
+
+    /**
+     * Run the task once an in-flight slot is free
+     * @param task task starting the request
+     * @return future completed with the task result
+     */
+    private <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        pending.add(() -> {
+            CompletableFuture<T> future;
+            try {
+                future = task.get();
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((value, error) -> {
+                inFlight.decrementAndGet();
+                drain();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        drain();
+        return result;
+    }
+
+    /**
+     * Start queued requests while in-flight slots are available. Requests that complete at once
+     * call drain() again from inside the loop; such calls only make the running loop look again,
+     * so the stack does not grow with the queue.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int requests = 1;
+        do {
+            // Only the thread running this loop takes in-flight slots
+            while (inFlight.get() < maxInFlight) {
+                Runnable next = pending.poll();
+                if (next == null) {
+                    break;
+                }
+                inFlight.incrementAndGet();
+                next.run();
+            }
+            requests = drainRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    private URI buildUri(String baseUrl, String endpoint, Map<String, Object> pathParams, Map<String, Object> queryParams) {
+        String path = endpoint;
+        if (pathParams != null) {
+            for (Map.Entry<String, Object> param : pathParams.entrySet()) {
+                path = path.replace("{" + param.getKey() + "}", encode(String.valueOf(param.getValue())));
+            }
+        }
+        StringBuilder uri = new StringBuilder();
+        if (!path.startsWith("http://") && !path.startsWith("https://")) {
+            uri.append(baseUrl);
+        }
+        uri.append(path);
+        if (queryParams != null && !queryParams.isEmpty()) {
+            char separator = path.contains("?") ? '&' : '?';
+            for (Map.Entry<String, Object> param : queryParams.entrySet()) {
+                uri.append(separator).append(encode(param.getKey())).append('=')
+                        .append(encode(String.valueOf(param.getValue())));
+                separator = '&';
+            }
+        }
+        return URI.create(uri.toString());
+    }
+
+    private HttpRequest buildRequest(String method, URI uri, byte[] body, Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (headers != null) {
+            headers.forEach(builder::setHeader);
+        }
+        return builder.method(method, body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(body)).build();
+    }
+
+    private byte[] serialize(Object requestBody) {
+        if (requestBody instanceof byte[]) {
+            return (byte[]) requestBody;
+        }
+        if (requestBody instanceof String) {
+            return ((String) requestBody).getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            return JsonUtil.toJsonBytes(requestBody);
+        } catch (IOException e) {
+            throw new APIException("Failed to serialize request body", e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static Headers toHeaders(Map<String, List<String>> headers) {
+        List<Header> headerList = new ArrayList<>();
+        headers.forEach((name, values) -> values.forEach(value -> headerList.add(new Header(name, value))));
+        return new Headers(headerList);
+    }
+
+    /**
+     * Adapt a JDK HTTP response to a RestAssured response so ResponseValidator can be used on it
+     */
+    private static Response toResponse(HttpResponse<byte[]> httpResponse, long elapsedMillis) {
+        // The JDK client does not expose the reason phrase, so use the standard one
+        String reason = EnglishReasonPhraseCatalog.INSTANCE.getReason(httpResponse.statusCode(), Locale.ENGLISH);
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine("HTTP/1.1 " + httpResponse.statusCode() + (reason == null ? "" : " " + reason))
+                .setHeaders(toHeaders(httpResponse.headers().map()))
+                .setBody(httpResponse.body());
+        httpResponse.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return withTime(builder.build(), elapsedMillis);
+    }
+
+    /**
+     * Expose the measured time through Response.getTime() like a synchronous call; RestAssured
+     * only sets it from its own filter chain, so the response is wrapped in a proxy answering
+     * the time methods and delegating everything else
+     */
+    private static Response withTime(Response response, long elapsedMillis) {
+        return (Response) Proxy.newProxyInstance(Response.class.getClassLoader(), new Class<?>[] {Response.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "time":
+                        case "getTime":
+                            return elapsedMillis;
+                        case "timeIn":
+                        case "getTimeIn":
+                            return ((TimeUnit) args[0]).convert(elapsedMillis, TimeUnit.MILLISECONDS);
+                        default:
+                            try {
+                                return method.invoke(response, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                });
+    }
+
+    private static SSLContext relaxedSslContext() {
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, new TrustManager[] {new TrustAllManager()}, null);
+            return context;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to relax HTTPS validation", e);
+        }
+    }
+
+    /**
+     * TrustAllManager - Accepts any certificate and host name, as RestAssured's relaxed HTTPS
+     * validation does for the synchronous calls (api.sslVerification=false)
+     */
+    private static final class TrustAllManager extends X509ExtendedTrustManager {
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            // Trust everything
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            // Trust everything
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+            // Trust everything
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+            // Trust everything; host name checks happen here for extended trust managers
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+            // Trust everything
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+            // Trust everything; host name checks happen here for extended trust managers
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
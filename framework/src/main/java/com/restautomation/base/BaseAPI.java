@@ -1,77 +1,133 @@
 package com.restautomation.base;
 
 import com.restautomation.config.ConfigManager;
+import com.restautomation.constants.StatusCodes;
+import com.restautomation.exceptions.APIException;
+import com.restautomation.logging.HttpLogFilter;
+import com.restautomation.logging.HttpLogMode;
+import com.restautomation.metrics.LatencyFilter;
+import com.restautomation.utils.FailureType;
+import com.restautomation.utils.JsonUtil;
 import com.restautomation.utils.LoggerUtil;
+import com.restautomation.utils.RetryAnalyzer;
+import com.restautomation.utils.RetryPolicy;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
 import io.restassured.filter.log.LogDetail;
+import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
-import static io.restassured.config.ConnectionConfig.connectionConfig;
-import static io.restassured.config.HttpClientConfig.httpClientConfig;
+import org.apache.http.pool.PoolStats;
+import org.testng.ITestResult;
+import org.testng.Reporter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * BaseAPI - Base class for all API requests
  */
 public class BaseAPI {
     protected static final ConfigManager config = ConfigManager.getInstance();
-    protected RequestSpecification requestSpec;
-    protected ResponseSpecification responseSpec;
+    protected final ResponseSpecification responseSpec;
+    private final String baseUrl;
+    
+    private static final ConcurrentMap<String, RequestSpecification> REQUEST_SPECS = new ConcurrentHashMap<>();
+    private static final ResponseSpecification RESPONSE_SPEC = buildResponseSpec();
+    private static final Set<String> IDEMPOTENT_METHODS = new HashSet<>(Arrays.asList("GET", "PUT", "DELETE"));
+    private static final ThreadLocal<Boolean> RESENDS_DISABLED = ThreadLocal.withInitial(() -> Boolean.FALSE);
     
     /**
-     * Initialize base specs
+     * Bind the client to the configured base URL. Clients hold no per-request state, so one
+     * instance can be shared by any number of threads (see APIFactory).
      */
     public BaseAPI() {
-        initializeRequestSpec();
-        initializeResponseSpec();
+        baseUrl = config.getBaseUrl();
+        responseSpec = RESPONSE_SPEC;
     }
     
     /**
-     * Initialize request specification with common settings
+     * Build request specification with common settings
+     * @param baseUrl base URL of the API
+     * @return RequestSpecification for the base URL
      */
-    private void initializeRequestSpec() {
-    LoggerUtil.info("Initializing request specification");
-
-    RequestSpecBuilder requestSpecBuilder = new RequestSpecBuilder()
-        .setBaseUri(config.getBaseUrl())
-        .setContentType(ContentType.JSON)
-        .setAccept(ContentType.JSON);
+    private static RequestSpecification buildRequestSpec(String baseUrl) {
+        LoggerUtil.info("Initializing request specification for: {}", baseUrl);
 
-    // Set SSL relaxation if configured
-    if (!config.isSslVerificationEnabled()) {
-        requestSpecBuilder.setRelaxedHTTPSValidation();
-    }
+        RequestSpecBuilder requestSpecBuilder = new RequestSpecBuilder()
+            .setConfig(HttpTransport.getInstance().getConfig())
+            .setBaseUri(baseUrl)
+            .setContentType(ContentType.JSON)
+            .setAccept(ContentType.JSON)
+            .addFilter(new LatencyFilter());
 
-    // Set timeouts using proper config chaining
-    RestAssured.config = RestAssured.config()
-        .connectionConfig(connectionConfig())
-        .httpClient(httpClientConfig()
-            .setParam("http.connection.timeout", config.getTimeout() * 1000)
-            .setParam("http.socket.timeout", config.getTimeout() * 1000));
+        // Set SSL relaxation if configured
+        if (!config.isSslVerificationEnabled()) {
+            requestSpecBuilder.setRelaxedHTTPSValidation();
+        }
 
-    // Log request details
-    requestSpecBuilder.log(LogDetail.ALL);
+        // Log requests and responses as configured by http.log.mode
+        HttpLogMode logMode = config.getHttpLogMode();
+        if (logMode == HttpLogMode.FULL) {
+            requestSpecBuilder.log(LogDetail.ALL);
+            requestSpecBuilder.addFilter(new ResponseLoggingFilter(LogDetail.ALL));
+        } else if (logMode != HttpLogMode.OFF) {
+            requestSpecBuilder.addFilter(new HttpLogFilter());
+        }
 
-    requestSpec = requestSpecBuilder.build();
-}
+        return requestSpecBuilder.build();
+    }
     
     /**
-     * Initialize response specification with common settings
+     * Build response specification with common settings
+     * @return ResponseSpecification shared by all API clients
      */
-    private void initializeResponseSpec() {
+    private static ResponseSpecification buildResponseSpec() {
         LoggerUtil.info("Initializing response specification");
         
+        // Responses are logged by the request spec filters according to http.log.mode
         ResponseSpecBuilder responseSpecBuilder = new ResponseSpecBuilder();
-        // Log response details
-        responseSpecBuilder.log(LogDetail.ALL);
         
-        responseSpec = responseSpecBuilder.build();
+        return responseSpecBuilder.build();
+    }
+    
+    /**
+     * Get the request specification of the base URL from the shared cache, rebuilding it after
+     * shutdownTransport() so long-lived clients move to the new connection pool
+     * @return RequestSpecification for the base URL
+     */
+    protected RequestSpecification getRequestSpec() {
+        return REQUEST_SPECS.computeIfAbsent(baseUrl, BaseAPI::buildRequestSpec);
+    }
+    
+    /**
+     * Get statistics of the shared connection pool
+     * @return pool statistics (leased, available, pending and max)
+     */
+    public static PoolStats getConnectionPoolStats() {
+        return HttpTransport.getInstance().getPoolStats();
+    }
+    
+    /**
+     * Close the shared connection pools; the next request rebuilds them from the current configuration
+     */
+    public static void shutdownTransport() {
+        REQUEST_SPECS.clear();
+        HttpTransport.shutdown();
+        AsyncHttpTransport.shutdown();
     }
     
     /**
@@ -80,13 +136,247 @@ public class BaseAPI {
      * @return RequestSpecification with headers
      */
     protected RequestSpecification setHeaders(Map<String, String> headers) {
-        RequestSpecification reqSpec = RestAssured.given().spec(requestSpec);
+        RequestSpecification reqSpec = RestAssured.given().spec(getRequestSpec());
         if (headers != null && !headers.isEmpty()) {
             reqSpec.headers(headers);
         }
         return reqSpec;
     }
     
+    /**
+     * Make calls on this thread without sending failed requests again, e.g. while measuring
+     * latencies and error rates under load: every attempt is then one measured call, and
+     * neither the backoff nor a re-send that succeeds hides a failure of the service
+     * @param calls API client calls
+     * @return result of the calls
+     */
+    public static <T> T withoutResends(Supplier<T> calls) {
+        boolean disabled = RESENDS_DISABLED.get();
+        RESENDS_DISABLED.set(Boolean.TRUE);
+        try {
+            return calls.get();
+        } finally {
+            if (!disabled) {
+                RESENDS_DISABLED.remove();
+            }
+        }
+    }
+    
+    private static RetryPolicy retryPolicy(String method) {
+        boolean resend = IDEMPOTENT_METHODS.contains(method) && !RESENDS_DISABLED.get();
+        return RetryPolicy.builder()
+                .maxRetries(resend ? config.getHttpRetryCount() : 0)
+                .baseDelayMillis(config.getHttpRetryIntervalMillis())
+                .build();
+    }
+    
+    /**
+     * Send a request through the circuit breaker of its host. Idempotent requests failing with
+     * a timeout, a dropped connection or a 408/429/502/503/504 are sent again after the backoff
+     * of retry.interval, up to retry.count times, honouring Retry-After; not inside withoutResends.
+     * The async methods go through sendAsync, which applies the same breaker and re-sends.
+     * @param method HTTP method
+     * @param endpoint API endpoint or absolute URL
+     * @param request sends the request once
+     * @return last response
+     */
+    protected Response send(String method, String endpoint, Supplier<Response> request) {
+        CircuitBreaker circuitBreaker = CircuitBreaker.forHost(host(endpoint));
+        RetryPolicy policy = retryPolicy(method);
+        for (int retry = 0; ; retry++) {
+            circuitBreaker.acquire();
+            Response response = null;
+            boolean hostFailed = false;
+            try {
+                response = request.get();
+            } catch (Exception e) {
+                // RestAssured rethrows IOExceptions unchecked
+                FailureType type = FailureType.classify(e);
+                if (type == FailureType.TRANSIENT || e instanceof IOException) {
+                    circuitBreaker.onFailure();
+                    hostFailed = true;
+                }
+                if (type != FailureType.TRANSIENT) {
+                    throw unchecked(method, endpoint, e);
+                }
+                if (retry >= policy.getMaxRetries()) {
+                    giveUp(policy);
+                    throw unchecked(method, endpoint, e);
+                }
+                LoggerUtil.warn("{} {} failed: {}", method, endpoint, e.toString());
+                if (!backoff(method, endpoint, policy, retry, -1)) {
+                    throw unchecked(method, endpoint, e);
+                }
+                continue;
+            } finally {
+                if (response == null && !hostFailed) {
+                    // Failed before reaching the host, e.g. in a filter: free a half-open trial for the next request
+                    circuitBreaker.release();
+                }
+            }
+
+            int statusCode = response.getStatusCode();
+            if (FailureType.isTransientStatus(statusCode) && statusCode != StatusCodes.TOO_MANY_REQUESTS) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            if (!FailureType.isTransientStatus(statusCode)) {
+                return response;
+            }
+            if (retry >= policy.getMaxRetries()) {
+                giveUp(policy);
+                return response;
+            }
+            LoggerUtil.warn("{} {} returned {}", method, endpoint, response.getStatusLine());
+            long retryAfterMillis = RetryPolicy.parseRetryAfterMillis(response.getHeader("Retry-After"));
+            discard(response);
+            if (!backoff(method, endpoint, policy, retry, retryAfterMillis)) {
+                // The discarded response can no longer be read, so it cannot be returned
+                throw new APIException(method + " " + endpoint + " interrupted while waiting to send it again after "
+                        + response.getStatusLine(), new InterruptedException());
+            }
+        }
+    }
+    
+    /**
+     * Send a request asynchronously like send: through the circuit breaker of its host, and
+     * again after a transient failure of an idempotent request. The backoff waits on a timer,
+     * not on the calling or a completing thread.
+     * @param method HTTP method
+     * @param endpoint API endpoint or absolute URL
+     * @param request sends the request once on every call
+     * @return future completed with the last response
+     */
+    protected CompletableFuture<Response> sendAsync(String method, String endpoint,
+                                                    Supplier<CompletableFuture<Response>> request) {
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        sendAsync(method, endpoint, request, CircuitBreaker.forHost(host(endpoint)), retryPolicy(method),
+                Reporter.getCurrentTestResult(), 0, result);
+        return result;
+    }
+    
+    private static void sendAsync(String method, String endpoint, Supplier<CompletableFuture<Response>> request,
+                                  CircuitBreaker circuitBreaker, RetryPolicy policy, ITestResult test, int retry,
+                                  CompletableFuture<Response> result) {
+        CompletableFuture<Response> attempt;
+        try {
+            circuitBreaker.acquire();
+            attempt = request.get();
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        attempt.whenComplete((response, error) -> {
+            long retryAfterMillis = -1;
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                FailureType type = FailureType.classify(cause);
+                if (type == FailureType.TRANSIENT || cause instanceof IOException) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.release();
+                }
+                if (type != FailureType.TRANSIENT || retry >= policy.getMaxRetries()) {
+                    if (type == FailureType.TRANSIENT) {
+                        giveUp(policy, test);
+                    }
+                    result.completeExceptionally(cause);
+                    return;
+                }
+                LoggerUtil.warn("{} {} failed: {}", method, endpoint, cause.toString());
+            } else {
+                int statusCode = response.getStatusCode();
+                if (FailureType.isTransientStatus(statusCode) && statusCode != StatusCodes.TOO_MANY_REQUESTS) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+                if (!FailureType.isTransientStatus(statusCode) || retry >= policy.getMaxRetries()) {
+                    if (FailureType.isTransientStatus(statusCode)) {
+                        giveUp(policy, test);
+                    }
+                    result.complete(response);
+                    return;
+                }
+                LoggerUtil.warn("{} {} returned {}", method, endpoint, response.getStatusLine());
+                retryAfterMillis = RetryPolicy.parseRetryAfterMillis(response.getHeader("Retry-After"));
+            }
+            long delay = policy.backoffMillis(retry, retryAfterMillis);
+            LoggerUtil.info("Sending {} {} again in {} ms (retry {} of {})", method, endpoint, delay, retry + 1,
+                    policy.getMaxRetries());
+            CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(() ->
+                    sendAsync(method, endpoint, request, circuitBreaker, policy, test, retry + 1, result));
+        });
+    }
+    
+    /**
+     * Keep the test from being retried on top of HTTP re-sends that already ran out
+     * @param policy HTTP retry policy of the request
+     */
+    private static void giveUp(RetryPolicy policy) {
+        giveUp(policy, Reporter.getCurrentTestResult());
+    }
+    
+    private static void giveUp(RetryPolicy policy, ITestResult test) {
+        if (policy.getMaxRetries() > 0) {
+            RetryAnalyzer.onHttpRetriesExhausted(test);
+        }
+    }
+    
+    private static boolean backoff(String method, String endpoint, RetryPolicy policy, int retry, long retryAfterMillis) {
+        long delay = policy.backoffMillis(retry, retryAfterMillis);
+        LoggerUtil.info("Sending {} {} again in {} ms (retry {} of {})", method, endpoint, delay, retry + 1,
+                policy.getMaxRetries());
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    /**
+     * Serialize a request body once, through the cached writer of its type; strings and bytes
+     * are sent as they are
+     * @param requestBody request body
+     * @return JSON string, or the body itself
+     */
+    private static Object jsonBody(Object requestBody) {
+        if (requestBody == null || requestBody instanceof String || requestBody instanceof byte[]) {
+            return requestBody;
+        }
+        try {
+            return JsonUtil.toJson(requestBody);
+        } catch (IOException e) {
+            throw new APIException("Failed to serialize request body", e);
+        }
+    }
+    
+    private static RuntimeException unchecked(String method, String endpoint, Exception e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        return new APIException(method + " " + endpoint + " failed: " + e.getMessage(), e);
+    }
+    
+    private static void discard(Response response) {
+        // Releases the pooled connection of an unread streaming response
+        try {
+            response.asInputStream().close();
+        } catch (IOException | RuntimeException ignored) {
+            // Nothing left to release
+        }
+    }
+    
+    private String host(String endpoint) {
+        String url = endpoint.contains("://") ? endpoint : baseUrl;
+        int start = url.indexOf("://") + 3;
+        int end = url.indexOf('/', start);
+        return end < 0 ? url.substring(start) : url.substring(start, end);
+    }
+    
     /**
      * Perform GET request
      * @param endpoint API endpoint
@@ -95,13 +385,13 @@ public class BaseAPI {
      */
     public Response get(String endpoint, Map<String, String> headers) {
         LoggerUtil.info("Performing GET request to: {}", endpoint);
-        return setHeaders(headers)
+        return send("GET", endpoint, () -> setHeaders(headers)
                 .when()
                 .get(endpoint)
                 .then()
                 .spec(responseSpec)
                 .extract()
-                .response();
+                .response());
     }
     
     /**
@@ -113,14 +403,35 @@ public class BaseAPI {
      */
     public Response get(String endpoint, Map<String, Object> pathParams, Map<String, String> headers) {
         LoggerUtil.info("Performing GET request to: {} with path params: {}", endpoint, pathParams);
-        return setHeaders(headers)
+        return send("GET", endpoint, () -> setHeaders(headers)
                 .pathParams(pathParams)
                 .when()
                 .get(endpoint)
                 .then()
                 .spec(responseSpec)
                 .extract()
-                .response();
+                .response());
+    }
+    
+    /**
+     * Perform GET request and return the body as an unbuffered stream for large responses.
+     * The response is neither logged nor kept in the failure log buffer, so its body is not held
+     * in memory; close the stream to release the pooled connection.
+     * @param endpoint API endpoint
+     * @param headers request headers
+     * @return body stream
+     */
+    public InputStream getStream(String endpoint, Map<String, String> headers) {
+        LoggerUtil.info("Performing streaming GET request to: {}", endpoint);
+        Response response = send("GET", endpoint, () -> setHeaders(headers)
+                .noFiltersOfType(ResponseLoggingFilter.class)
+                .noFiltersOfType(HttpLogFilter.class)
+                .noFiltersOfType(LatencyFilter.class)
+                .filter(new LatencyFilter(false))
+                .when()
+                .get(endpoint));
+        LoggerUtil.info("Streaming response status: {}", response.getStatusLine());
+        return response.asInputStream();
     }
     
     /**
@@ -132,14 +443,14 @@ public class BaseAPI {
      */
     public Response getWithQueryParams(String endpoint, Map<String, Object> queryParams, Map<String, String> headers) {
         LoggerUtil.info("Performing GET request to: {} with query params: {}", endpoint, queryParams);
-        return setHeaders(headers)
+        return send("GET", endpoint, () -> setHeaders(headers)
                 .queryParams(queryParams)
                 .when()
                 .get(endpoint)
                 .then()
                 .spec(responseSpec)
                 .extract()
-                .response();
+                .response());
     }
     
     /**
@@ -151,17 +462,20 @@ public class BaseAPI {
      */
     public Response post(String endpoint, Object requestBody, Map<String, String> headers) {
         LoggerUtil.info("Performing POST request to: {}", endpoint);
-        RequestSpecification request = setHeaders(headers);
-        if (requestBody != null) {
-            request.body(requestBody);
-        }
-        return request
-                .when()
-                .post(endpoint)
-                .then()
-                .spec(responseSpec)
-                .extract()
-                .response();
+        Object body = jsonBody(requestBody);
+        return send("POST", endpoint, () -> {
+            RequestSpecification request = setHeaders(headers);
+            if (body != null) {
+                request.body(body);
+            }
+            return request
+                    .when()
+                    .post(endpoint)
+                    .then()
+                    .spec(responseSpec)
+                    .extract()
+                    .response();
+        });
     }
     
     /**
@@ -173,14 +487,15 @@ public class BaseAPI {
      */
     public Response put(String endpoint, Object requestBody, Map<String, String> headers) {
         LoggerUtil.info("Performing PUT request to: {}", endpoint);
-        return setHeaders(headers)
-                .body(requestBody)
+        Object body = jsonBody(requestBody);
+        return send("PUT", endpoint, () -> setHeaders(headers)
+                .body(body)
                 .when()
                 .put(endpoint)
                 .then()
                 .spec(responseSpec)
                 .extract()
-                .response();
+                .response());
     }
     
     /**
@@ -193,15 +508,16 @@ public class BaseAPI {
      */
     public Response put(String endpoint, Object requestBody, Map<String, Object> pathParams, Map<String, String> headers) {
         LoggerUtil.info("Performing PUT request to: {} with path params: {}", endpoint, pathParams);
-        return setHeaders(headers)
+        Object body = jsonBody(requestBody);
+        return send("PUT", endpoint, () -> setHeaders(headers)
                 .pathParams(pathParams)
-                .body(requestBody)
+                .body(body)
                 .when()
                 .put(endpoint)
                 .then()
                 .spec(responseSpec)
                 .extract()
-                .response();
+                .response());
     }
     
     /**
@@ -212,13 +528,13 @@ public class BaseAPI {
      */
     public Response delete(String endpoint, Map<String, String> headers) {
         LoggerUtil.info("Performing DELETE request to: {}", endpoint);
-        return setHeaders(headers)
+        return send("DELETE", endpoint, () -> setHeaders(headers)
                 .when()
                 .delete(endpoint)
                 .then()
                 .spec(responseSpec)
                 .extract()
-                .response();
+                .response());
     }
     
     /**
@@ -230,14 +546,14 @@ public class BaseAPI {
      */
     public Response delete(String endpoint, Map<String, Object> pathParams, Map<String, String> headers) {
         LoggerUtil.info("Performing DELETE request to: {} with path params: {}", endpoint, pathParams);
-        return setHeaders(headers)
+        return send("DELETE", endpoint, () -> setHeaders(headers)
                 .pathParams(pathParams)
                 .when()
                 .delete(endpoint)
                 .then()
                 .spec(responseSpec)
                 .extract()
-                .response();
+                .response());
     }
     
     /**
@@ -249,13 +565,130 @@ public class BaseAPI {
      */
     public Response patch(String endpoint, Object requestBody, Map<String, String> headers) {
         LoggerUtil.info("Performing PATCH request to: {}", endpoint);
-        return setHeaders(headers)
-                .body(requestBody)
+        Object body = jsonBody(requestBody);
+        return send("PATCH", endpoint, () -> setHeaders(headers)
+                .body(body)
                 .when()
                 .patch(endpoint)
                 .then()
                 .spec(responseSpec)
                 .extract()
-                .response();
+                .response());
+    }
+    
+    /**
+     * Perform GET request asynchronously
+     * @param endpoint API endpoint
+     * @param headers request headers
+     * @return future completed with the Response object
+     */
+    public CompletableFuture<Response> getAsync(String endpoint, Map<String, String> headers) {
+        LoggerUtil.info("Performing async GET request to: {}", endpoint);
+        return sendAsync("GET", endpoint,
+                AsyncHttpTransport.getInstance().prepare("GET", baseUrl, endpoint, null, null, null, headers));
+    }
+    
+    /**
+     * Perform GET request with path parameters asynchronously
+     * @param endpoint API endpoint
+     * @param pathParams path parameters
+     * @param headers request headers
+     * @return future completed with the Response object
+     */
+    public CompletableFuture<Response> getAsync(String endpoint, Map<String, Object> pathParams, Map<String, String> headers) {
+        LoggerUtil.info("Performing async GET request to: {} with path params: {}", endpoint, pathParams);
+        return sendAsync("GET", endpoint,
+                AsyncHttpTransport.getInstance().prepare("GET", baseUrl, endpoint, pathParams, null, null, headers));
+    }
+    
+    /**
+     * Perform GET request with query parameters asynchronously
+     * @param endpoint API endpoint
+     * @param queryParams query parameters
+     * @param headers request headers
+     * @return future completed with the Response object
+     */
+    public CompletableFuture<Response> getWithQueryParamsAsync(String endpoint, Map<String, Object> queryParams, Map<String, String> headers) {
+        LoggerUtil.info("Performing async GET request to: {} with query params: {}", endpoint, queryParams);
+        return sendAsync("GET", endpoint,
+                AsyncHttpTransport.getInstance().prepare("GET", baseUrl, endpoint, null, queryParams, null, headers));
+    }
+    
+    /**
+     * Perform POST request asynchronously
+     * @param endpoint API endpoint
+     * @param requestBody request body
+     * @param headers request headers
+     * @return future completed with the Response object
+     */
+    public CompletableFuture<Response> postAsync(String endpoint, Object requestBody, Map<String, String> headers) {
+        LoggerUtil.info("Performing async POST request to: {}", endpoint);
+        return sendAsync("POST", endpoint,
+                AsyncHttpTransport.getInstance().prepare("POST", baseUrl, endpoint, null, null, requestBody, headers));
+    }
+    
+    /**
+     * Perform PUT request asynchronously
+     * @param endpoint API endpoint
+     * @param requestBody request body
+     * @param headers request headers
+     * @return future completed with the Response object
+     */
+    public CompletableFuture<Response> putAsync(String endpoint, Object requestBody, Map<String, String> headers) {
+        LoggerUtil.info("Performing async PUT request to: {}", endpoint);
+        return sendAsync("PUT", endpoint,
+                AsyncHttpTransport.getInstance().prepare("PUT", baseUrl, endpoint, null, null, requestBody, headers));
+    }
+    
+    /**
+     * Perform PUT request with path parameters asynchronously
+     * @param endpoint API endpoint
+     * @param requestBody request body
+     * @param pathParams path parameters
+     * @param headers request headers
+     * @return future completed with the Response object
+     */
+    public CompletableFuture<Response> putAsync(String endpoint, Object requestBody, Map<String, Object> pathParams, Map<String, String> headers) {
+        LoggerUtil.info("Performing async PUT request to: {} with path params: {}", endpoint, pathParams);
+        return sendAsync("PUT", endpoint,
+                AsyncHttpTransport.getInstance().prepare("PUT", baseUrl, endpoint, pathParams, null, requestBody, headers));
+    }
+    
+    /**
+     * Perform DELETE request asynchronously
+     * @param endpoint API endpoint
+     * @param headers request headers
+     * @return future completed with the Response object
+     */
+    public CompletableFuture<Response> deleteAsync(String endpoint, Map<String, String> headers) {
+        LoggerUtil.info("Performing async DELETE request to: {}", endpoint);
+        return sendAsync("DELETE", endpoint,
+                AsyncHttpTransport.getInstance().prepare("DELETE", baseUrl, endpoint, null, null, null, headers));
+    }
+    
+    /**
+     * Perform DELETE request with path parameters asynchronously
+     * @param endpoint API endpoint
+     * @param pathParams path parameters
+     * @param headers request headers
+     * @return future completed with the Response object
+     */
+    public CompletableFuture<Response> deleteAsync(String endpoint, Map<String, Object> pathParams, Map<String, String> headers) {
+        LoggerUtil.info("Performing async DELETE request to: {} with path params: {}", endpoint, pathParams);
+        return sendAsync("DELETE", endpoint,
+                AsyncHttpTransport.getInstance().prepare("DELETE", baseUrl, endpoint, pathParams, null, null, headers));
+    }
+    
+    /**
+     * Perform PATCH request asynchronously
+     * @param endpoint API endpoint
+     * @param requestBody request body
+     * @param headers request headers
+     * @return future completed with the Response object
+     */
+    public CompletableFuture<Response> patchAsync(String endpoint, Object requestBody, Map<String, String> headers) {
+        LoggerUtil.info("Performing async PATCH request to: {}", endpoint);
+        return sendAsync("PATCH", endpoint,
+                AsyncHttpTransport.getInstance().prepare("PATCH", baseUrl, endpoint, null, null, requestBody, headers));
     }
 }
\ No newline at end of file
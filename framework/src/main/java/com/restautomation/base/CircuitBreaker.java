@@ -0,0 +1,132 @@
+package com.restautomation.base;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.exceptions.APIException;
+import com.restautomation.utils.LoggerUtil;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CircuitBreaker - Per-host breaker that stops sending requests to a host that is clearly down.
+ * After failureThreshold consecutive failures (connection errors or 502/503/504) the circuit
+ * opens and requests fail fast with an APIException for openMillis; then one trial request is
+ * let through, which closes the circuit on success or opens it again on failure. A trial that
+ * ends without reaching the host is released, so the next request becomes the trial.
+ */
+public final class CircuitBreaker {
+    private static final ConcurrentMap<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    /**
+     * State - Whether requests are sent
+     */
+    public enum State {
+        /** Requests are sent */
+        CLOSED,
+        /** Requests fail fast */
+        OPEN,
+        /** One trial request is in flight, others fail fast */
+        HALF_OPEN
+    }
+
+    private final String host;
+    private final int failureThreshold;
+    private final long openNanos;
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+
+    /**
+     * Create a circuit breaker
+     * @param host host and port the breaker guards
+     * @param failureThreshold consecutive failures opening the circuit
+     * @param openMillis time the circuit stays open before a trial request
+     */
+    public CircuitBreaker(String host, int failureThreshold, long openMillis) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Circuit breaker failure threshold must be positive: " + failureThreshold);
+        }
+        this.host = host;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    }
+
+    /**
+     * Get the shared breaker of a host, configured by the circuitBreaker.* properties
+     * @param host host and port, e.g. "jsonplaceholder.typicode.com"
+     * @return CircuitBreaker instance
+     */
+    public static CircuitBreaker forHost(String host) {
+        return BREAKERS.computeIfAbsent(host, key -> new CircuitBreaker(key,
+                ConfigManager.getInstance().getCircuitBreakerFailureThreshold(),
+                ConfigManager.getInstance().getCircuitBreakerOpenMillis()));
+    }
+
+    /**
+     * Forget the state of all hosts
+     */
+    public static void resetAll() {
+        BREAKERS.clear();
+    }
+
+    /**
+     * Check a request may be sent
+     * @throws APIException when the circuit is open
+     */
+    public synchronized void acquire() {
+        if (state == State.CLOSED) {
+            return;
+        }
+        long openFor = openNanos - (System.nanoTime() - openedAt);
+        if (state == State.OPEN && openFor <= 0) {
+            state = State.HALF_OPEN;
+            LoggerUtil.info("Circuit breaker of {} half-open, sending a trial request", host);
+            return;
+        }
+        throw new APIException("Circuit breaker open for " + host + " after " + failures
+                + " consecutive failures, failing fast for " + Math.max(0, TimeUnit.NANOSECONDS.toMillis(openFor)) + " ms");
+    }
+
+    /**
+     * Record a request that reached a working host
+     */
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            LoggerUtil.info("Circuit breaker of {} closed", host);
+        }
+        state = State.CLOSED;
+        failures = 0;
+    }
+
+    /**
+     * Record a request that failed because the host is unreachable or unavailable
+     */
+    public synchronized void onFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && failures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            LoggerUtil.warn("Circuit breaker of {} open after {} consecutive failures", host, failures);
+        }
+    }
+
+    /**
+     * Record a request that ended without telling whether the host works, e.g. one failing
+     * before it was sent; a half-open circuit lets the next request through as its trial
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            // openedAt is past the open period, so the next acquire() starts a new trial
+            state = State.OPEN;
+        }
+    }
+
+    /**
+     * Get the current state
+     * @return state
+     */
+    public synchronized State getState() {
+        return state;
+    }
+}
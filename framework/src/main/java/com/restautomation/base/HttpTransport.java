@@ -0,0 +1,134 @@
+package com.restautomation.base;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.utils.JsonUtil;
+import com.restautomation.utils.LoggerUtil;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpTransport - Process-wide pooled HTTP transport shared by all API clients.
+ * The connection pool and RestAssured config are built once; every request
+ * leases a keep-alive connection from the same bounded pool.
+ */
+@SuppressWarnings("deprecation")
+public final class HttpTransport {
+    private static volatile HttpTransport instance;
+
+    private final PoolingClientConnectionManager connectionManager;
+    private final RestAssuredConfig restAssuredConfig;
+    private final ScheduledExecutorService idleConnectionEvictor;
+    private final long keepAliveMillis;
+
+    private HttpTransport(ConfigManager config) {
+        int timeoutMillis = config.getTimeout() * 1000;
+        int idleTimeoutSeconds = config.getPoolIdleTimeout();
+        this.keepAliveMillis = TimeUnit.SECONDS.toMillis(config.getKeepAlive());
+
+        connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(config.getPoolMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(config.getPoolMaxPerRoute());
+
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+            HeaderElementIterator it = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (it.hasNext()) {
+                HeaderElement element = it.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Math.min(Long.parseLong(element.getValue()) * 1000, keepAliveMillis);
+                    } catch (NumberFormatException ignored) {
+                        // Fall through to the configured keep-alive
+                    }
+                }
+            }
+            return keepAliveMillis;
+        };
+
+        // The factory hands RestAssured a lightweight client per request, but all of them
+        // lease connections from the shared pool, so sockets are reused across clients
+        restAssuredConfig = RestAssuredConfig.config()
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .httpClientFactory(() -> {
+                            DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+                            client.setKeepAliveStrategy(keepAliveStrategy);
+                            return client;
+                        })
+                        .setParam("http.connection.timeout", timeoutMillis)
+                        .setParam("http.socket.timeout", timeoutMillis))
+                // Response.as() maps bodies with the shared mapper instead of one per request
+                .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                        .jackson2ObjectMapperFactory((type, charset) -> JsonUtil.getMapper()));
+
+        idleConnectionEvictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-transport-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        idleConnectionEvictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS);
+        }, idleTimeoutSeconds, idleTimeoutSeconds, TimeUnit.SECONDS);
+
+        LoggerUtil.info("Initialized HTTP transport: maxTotal={}, maxPerRoute={}, idleTimeout={}s, keepAlive={}s",
+                config.getPoolMaxTotal(), config.getPoolMaxPerRoute(), idleTimeoutSeconds, config.getKeepAlive());
+    }
+
+    /**
+     * Get the shared transport, building it on first use
+     * @return HttpTransport instance
+     */
+    public static HttpTransport getInstance() {
+        HttpTransport transport = instance;
+        if (transport == null) {
+            synchronized (HttpTransport.class) {
+                transport = instance;
+                if (transport == null) {
+                    transport = new HttpTransport(ConfigManager.getInstance());
+                    instance = transport;
+                }
+            }
+        }
+        return transport;
+    }
+
+    /**
+     * Get the RestAssured config bound to the shared connection pool
+     * @return RestAssuredConfig instance
+     */
+    public RestAssuredConfig getConfig() {
+        return restAssuredConfig;
+    }
+
+    /**
+     * Get connection pool statistics (leased, available, pending and max)
+     * @return pool statistics snapshot
+     */
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Close all pooled connections and stop the idle connection evictor
+     */
+    static synchronized void shutdown() {
+        if (instance != null) {
+            LoggerUtil.info("Shutting down HTTP transport: {}", instance.getPoolStats());
+            instance.idleConnectionEvictor.shutdownNow();
+            instance.connectionManager.shutdown();
+            instance = null;
+        }
+    }
+}
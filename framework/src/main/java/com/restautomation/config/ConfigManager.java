@@ -1,23 +1,46 @@
 package com.restautomation.config;
 
+import com.restautomation.logging.HttpLogMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- * ConfigManager - Singleton class to manage configuration properties
+ * ConfigManager - Singleton class to manage configuration properties. Values are layered, each
+ * overriding the one before: config/dev-config.properties, the profile of -Denv (e.g.
+ * config/qa-config.properties for -Denv=qa; a missing profile is skipped with a warning),
+ * environment variables named after the key (HTTP_POOL_MAX_TOTAL for http.pool.maxTotal), then
+ * system properties. ${NAME} placeholders in a value are resolved from environment variables or
+ * system properties; a value whose placeholder is not set keeps the value of the layers below,
+ * and fails the loading if there is none. The layers are loaded once into an immutable
+ * ConfigSnapshot that readers use without locking; setProperty and setSnapshot swap in a new
+ * snapshot atomically.
  */
 public class ConfigManager {
     private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
-    private static final Properties properties = new Properties();
-    private static ConfigManager instance;
-    private static final String CONFIG_FILE = "src/test/resources/config/dev-config.properties";
+    private static final String CONFIG_DIR = "src/test/resources/config/";
+    private static final String CONFIG_FILE = CONFIG_DIR + "dev-config.properties";
+    private static final String REST_ASSURED_FILE = "src/test/resources/rest-assured.properties";
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
+    private static volatile ConfigManager instance;
+
+    private final AtomicReference<ConfigSnapshot> snapshot;
+    private final ConfigSnapshot restAssuredDefaults;
 
     private ConfigManager() {
-        loadConfig();
+        snapshot = new AtomicReference<>(loadConfig(System.getenv()));
+        restAssuredDefaults = loadRestAssuredDefaults();
     }
 
     /**
@@ -25,22 +48,147 @@ public class ConfigManager {
      * @return ConfigManager instance
      */
     public static ConfigManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigManager();
+        ConfigManager manager = instance;
+        if (manager == null) {
+            synchronized (ConfigManager.class) {
+                manager = instance;
+                if (manager == null) {
+                    manager = new ConfigManager();
+                    instance = manager;
+                }
+            }
         }
-        return instance;
+        return manager;
     }
 
-    private void loadConfig() {
+    private static ConfigSnapshot loadConfig(Map<String, String> environment) {
+        Map<String, String> values = new HashMap<>();
         try {
             logger.info("Loading configuration from: {}", CONFIG_FILE);
-            try (InputStream input = new FileInputStream(CONFIG_FILE)) {
-                properties.load(input);
+            overlay(values, read(CONFIG_FILE), CONFIG_FILE, environment);
+            String env = System.getProperty("env");
+            if (env != null && !env.trim().isEmpty() && !"dev".equals(env.trim())) {
+                String profile = CONFIG_DIR + env.trim() + "-config.properties";
+                if (Files.exists(Paths.get(profile))) {
+                    logger.info("Loading configuration profile from: {}", profile);
+                    overlay(values, read(profile), profile, environment);
+                } else {
+                    logger.warn("No configuration profile for env {} at {}, using {}", env, profile, CONFIG_FILE);
+                }
             }
         } catch (IOException e) {
             logger.error("Failed to load configuration: {}", e.getMessage());
             throw new RuntimeException("Failed to load configuration", e);
         }
+        for (String key : new ArrayList<>(values.keySet())) {
+            String value = environment.get(ConfigSnapshot.environmentName(key));
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        Map<String, String> systemProperties = new HashMap<>();
+        System.getProperties().forEach((key, value) -> systemProperties.put(String.valueOf(key), String.valueOf(value)));
+        overlay(values, systemProperties, "system properties", environment);
+        return new ConfigSnapshot(values, environment);
+    }
+
+    private static ConfigSnapshot loadRestAssuredDefaults() {
+        Map<String, String> values = new HashMap<>();
+        try {
+            values.putAll(read(REST_ASSURED_FILE));
+        } catch (IOException e) {
+            logger.warn("No REST Assured configuration at {}, using defaults", REST_ASSURED_FILE);
+        }
+        return new ConfigSnapshot(values);
+    }
+
+    private static Map<String, String> read(String file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream input = new FileInputStream(file)) {
+            properties.load(input);
+        }
+        Map<String, String> values = new HashMap<>();
+        properties.stringPropertyNames().forEach(key -> values.put(key, properties.getProperty(key)));
+        return values;
+    }
+
+    /**
+     * Put the values of a layer over the layers below it, resolving their placeholders
+     * @param values values of the layers below, updated
+     * @param layer values of the layer
+     * @param source name of the layer for messages
+     * @param environment environment variables for the placeholders
+     * @throws IllegalStateException if a placeholder is not set and no layer below has a value
+     */
+    private static void overlay(Map<String, String> values, Map<String, String> layer, String source,
+                                Map<String, String> environment) {
+        layer.forEach((key, value) -> {
+            String resolved = resolvePlaceholders(value, environment);
+            if (resolved != null) {
+                values.put(key, resolved);
+            } else if (values.containsKey(key)) {
+                logger.warn("Placeholder of {} in {} is not set, keeping the value below it: {}", key, source, value);
+            } else {
+                throw new IllegalStateException("Placeholder of " + key + " in " + source
+                        + " is not set and no other layer has a value: " + value);
+            }
+        });
+    }
+
+    /**
+     * Replace ${NAME} placeholders with environment variables, or system properties of that name
+     * @param value property value
+     * @param environment environment variables
+     * @return resolved value, or null if a placeholder is not set
+     */
+    private static String resolvePlaceholders(String value, Map<String, String> environment) {
+        if (value.indexOf("${") < 0) {
+            return value;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(value);
+        StringBuffer resolved = new StringBuffer();
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            String replacement = environment.get(name) != null ? environment.get(name) : System.getProperty(name);
+            if (replacement == null) {
+                return null;
+            }
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+
+    /**
+     * Get the current configuration
+     * @return immutable ConfigSnapshot
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Replace the whole configuration, e.g. to restore a snapshot taken before a test override
+     * @param configSnapshot new configuration
+     */
+    public void setSnapshot(ConfigSnapshot configSnapshot) {
+        snapshot.set(configSnapshot);
+        logger.info("Replaced configuration snapshot");
+    }
+
+    /**
+     * Load all configuration layers again, dropping overrides made with setProperty
+     */
+    public void reload() {
+        reload(System.getenv());
+    }
+
+    /**
+     * Load all configuration layers again with other environment variables, e.g. to test a CI setup
+     * @param environment environment variable name to value
+     */
+    public void reload(Map<String, String> environment) {
+        snapshot.set(loadConfig(environment));
     }
 
     /**
@@ -49,7 +197,7 @@ public class ConfigManager {
      * @return property value
      */
     public String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = snapshot.get().get(key);
         if (value == null) {
             logger.error("Configuration property not found: {}", key);
             throw new RuntimeException("Configuration property not found: " + key);
@@ -64,7 +212,7 @@ public class ConfigManager {
      * @return property value or default
      */
     public String getProperty(String key, String defaultValue) {
-        String value = properties.getProperty(key);
+        String value = snapshot.get().get(key);
         if (value == null) {
             logger.warn("Configuration property not found: {}. Using default: {}", key, defaultValue);
             return defaultValue;
@@ -85,12 +233,349 @@ public class ConfigManager {
      * @return timeout in seconds
      */
     public int getTimeout() {
-        try {
-            return Integer.parseInt(getProperty("timeout", "30"));
-        } catch (NumberFormatException e) {
-            logger.warn("Invalid timeout value, using default 30 seconds");
-            return 30;
-        }
+        return getIntProperty("timeout", 30);
+    }
+    
+    /**
+     * Get maximum number of pooled HTTP connections across all routes; in the virtual-thread
+     * mode at least virtualThreads.concurrency, so every running test can lease a connection
+     * @return max total connections
+     */
+    public int getPoolMaxTotal() {
+        int maxTotal = getIntProperty("http.pool.maxTotal", 50);
+        return isVirtualThreadsEnabled() ? Math.max(maxTotal, getVirtualThreadsConcurrency()) : maxTotal;
+    }
+    
+    /**
+     * Get maximum number of pooled HTTP connections per route (host); in the virtual-thread
+     * mode at least virtualThreads.concurrency, so every running test can lease a connection
+     * @return max connections per route
+     */
+    public int getPoolMaxPerRoute() {
+        int maxPerRoute = getIntProperty("http.pool.maxPerRoute", 20);
+        return isVirtualThreadsEnabled() ? Math.max(maxPerRoute, getVirtualThreadsConcurrency()) : maxPerRoute;
+    }
+    
+    /**
+     * Get idle time after which pooled HTTP connections are evicted
+     * @return idle timeout in seconds
+     */
+    public int getPoolIdleTimeout() {
+        return getIntProperty("http.pool.idleTimeout", 30);
+    }
+    
+    /**
+     * Get keep-alive duration for pooled HTTP connections
+     * @return keep-alive in seconds
+     */
+    public int getKeepAlive() {
+        return getIntProperty("http.keepAlive", 30);
+    }
+    
+    /**
+     * Get maximum number of asynchronous requests in flight at once
+     * @return max in-flight async requests
+     */
+    public int getAsyncMaxInFlight() {
+        return getIntProperty("http.async.maxInFlight", 64);
+    }
+    
+    /**
+     * Check if the virtual-thread execution mode is enabled (-DvirtualThreads=true)
+     * @return true if tests and async requests should run on virtual threads
+     */
+    public boolean isVirtualThreadsEnabled() {
+        ConfigSnapshot current = snapshot.get();
+        return current.getBoolean("virtualThreads", current.getBoolean("execution.virtualThreads", false));
+    }
+    
+    /**
+     * Get maximum number of tests running at once on virtual threads (-DvirtualThreads.concurrency)
+     * @return test count
+     */
+    public int getVirtualThreadsConcurrency() {
+        return getIntProperty("virtualThreads.concurrency", 200);
+    }
+    
+    /**
+     * Get HTTP request/response logging mode (-Dhttp.log.mode overrides the file)
+     * @return logging mode, ON_FAILURE by default
+     */
+    public HttpLogMode getHttpLogMode() {
+        return HttpLogMode.fromString(snapshot.get().get("http.log.mode", HttpLogMode.ON_FAILURE.name()));
+    }
+    
+    /**
+     * Get number of HTTP calls kept per test for failure logging
+     * @return buffered calls per test
+     */
+    public int getHttpLogBufferSize() {
+        return getIntProperty("http.log.bufferSize", 20);
+    }
+    
+    /**
+     * Get fraction of calls logged in full in SAMPLED mode
+     * @return sample rate between 0 and 1
+     */
+    public double getHttpLogSampleRate() {
+        return getDoubleProperty("http.log.sampleRate", 0.01);
+    }
+    
+    /**
+     * Get maximum number of body characters rendered per logged request or response
+     * @return body character limit
+     */
+    public int getHttpLogMaxBodyChars() {
+        return getIntProperty("http.log.maxBodyChars", 10000);
+    }
+    
+    /**
+     * Check if JSON schemas should be compiled when the suite starts
+     * @return true if schemas under schemas/ are preloaded
+     */
+    public boolean isSchemaPreloadEnabled() {
+        return snapshot.get().getBoolean("schema.preload", false);
+    }
+    
+    /**
+     * Check if the in-memory ExtentReports report is built (the streaming event log is always written).
+     * The Extent report keeps every test in memory until the suite ends, so memory only stays
+     * bounded on huge runs with report.extent.enabled=false
+     * @return true unless report.extent.enabled is false
+     */
+    public boolean isExtentReportEnabled() {
+        return snapshot.get().getBoolean("report.extent.enabled", true);
+    }
+    
+    /**
+     * Get directory of the reports, event logs and performance exports written during a run
+     * @return report directory, test-output/reports by default
+     */
+    public String getReportDir() {
+        return snapshot.get().get("report.dir", System.getProperty("user.dir") + "/test-output/reports");
+    }
+    
+    /**
+     * Get performance export formats written by TestListener
+     * @return comma-separated list of csv, jsonl and binary; empty disables the export
+     */
+    public String getPerfExportFormats() {
+        return snapshot.get().get("perf.export.formats", "csv,jsonl,binary");
+    }
+    
+    /**
+     * Get number of HTTP calls per test kept individually in the performance export
+     * @return call limit; later calls only count towards the test totals
+     */
+    public int getPerfExportMaxRequestsPerTest() {
+        return getIntProperty("perf.export.maxRequestsPerTest", 1000);
+    }
+    
+    /**
+     * Check if test and endpoint timings are compared with the baseline of previous runs
+     * @return true unless perf.regression.enabled is false
+     */
+    public boolean isPerfRegressionEnabled() {
+        return snapshot.get().getBoolean("perf.regression.enabled", true);
+    }
+    
+    /**
+     * Get directory of the performance baseline; cache it between CI builds
+     * @return baseline directory
+     */
+    public String getPerfBaselineDir() {
+        return snapshot.get().get("perf.baseline.dir", System.getProperty("user.dir") + "/test-output/perf-baseline");
+    }
+    
+    /**
+     * Get number of previous runs kept in the performance baseline
+     * @return run count
+     */
+    public int getPerfBaselineRuns() {
+        return getIntProperty("perf.baseline.runs", 10);
+    }
+    
+    /**
+     * Check if finished runs are added to the performance baseline (-Dperf.baseline.update overrides the file)
+     * @return true only for builds that record the baseline, e.g. CI builds of the main branch
+     */
+    public boolean isPerfBaselineUpdateEnabled() {
+        return snapshot.get().getBoolean("perf.baseline.update", false);
+    }
+    
+    /**
+     * Get number of previous runs needed before a test or endpoint is compared
+     * @return run count
+     */
+    public int getPerfRegressionMinRuns() {
+        return getIntProperty("perf.regression.minRuns", 3);
+    }
+    
+    /**
+     * Get relative slowdown against the baseline median reported as a regression
+     * @return e.g. 0.3 for 30% slower
+     */
+    public double getPerfRegressionThreshold() {
+        return getDoubleProperty("perf.regression.threshold", 0.3);
+    }
+    
+    /**
+     * Get relative slowdown against the baseline median failing the build
+     * @return e.g. 1.0 for twice as slow; 0 never fails
+     */
+    public double getPerfRegressionFailThreshold() {
+        return getDoubleProperty("perf.regression.failThreshold", 0);
+    }
+    
+    /**
+     * Get number of scaled median absolute deviations a regression must exceed the median by
+     * @return MAD multiplier
+     */
+    public double getPerfRegressionMadMultiplier() {
+        return getDoubleProperty("perf.regression.madMultiplier", 3);
+    }
+    
+    /**
+     * Get smallest absolute slowdown reported as a regression
+     * @return milliseconds
+     */
+    public double getPerfRegressionMinDeltaMillis() {
+        return getDoubleProperty("perf.regression.minDeltaMillis", 25);
+    }
+    
+    /**
+     * Get maximum retries of a test failing with a transient error
+     * @return retry count
+     */
+    public int getTestRetryMaxRetries() {
+        return getIntProperty("test.retry.maxRetries", 2);
+    }
+    
+    /**
+     * Get backoff before the first test retry; doubled for every further retry
+     * @return milliseconds
+     */
+    public int getTestRetryBaseDelayMillis() {
+        return getIntProperty("test.retry.baseDelayMillis", 500);
+    }
+    
+    /**
+     * Get longest backoff between test retries, also capping Retry-After
+     * @return milliseconds
+     */
+    public int getTestRetryMaxDelayMillis() {
+        return getIntProperty("test.retry.maxDelayMillis", 10000);
+    }
+    
+    /**
+     * Get maximum test retries of a whole suite
+     * @return retry count
+     */
+    public int getTestRetryBudget() {
+        return getIntProperty("test.retry.budget", 20);
+    }
+    
+    /**
+     * Get maximum re-sends of an idempotent HTTP request failing with a transient error
+     * @return retry count from rest-assured.properties unless overridden, 0 to never re-send
+     */
+    public int getHttpRetryCount() {
+        return getRestAssuredIntProperty("retry.count", 3);
+    }
+    
+    /**
+     * Get backoff before the first re-send of an HTTP request; doubled for every further re-send
+     * @return milliseconds from rest-assured.properties unless overridden
+     */
+    public int getHttpRetryIntervalMillis() {
+        return getRestAssuredIntProperty("retry.interval", 1000);
+    }
+    
+    /**
+     * Get consecutive connection failures or 502/503/504 responses of a host opening its circuit breaker
+     * @return failure count from rest-assured.properties unless overridden
+     */
+    public int getCircuitBreakerFailureThreshold() {
+        return getRestAssuredIntProperty("circuitBreaker.failureThreshold", 5);
+    }
+    
+    /**
+     * Get how long an open circuit breaker fails requests fast before letting a trial request through
+     * @return milliseconds from rest-assured.properties unless overridden
+     */
+    public int getCircuitBreakerOpenMillis() {
+        return getRestAssuredIntProperty("circuitBreaker.openMillis", 30000);
+    }
+    
+    /**
+     * Get integer property of rest-assured.properties, overridden by the environment configuration
+     * @param key property key
+     * @param defaultValue default value if property not found or invalid
+     * @return property value or default
+     */
+    private int getRestAssuredIntProperty(String key, int defaultValue) {
+        ConfigSnapshot current = snapshot.get();
+        return current.contains(key) ? current.getInt(key, defaultValue) : restAssuredDefaults.getInt(key, defaultValue);
+    }
+    
+    /**
+     * Get integer property value with default
+     * @param key property key
+     * @param defaultValue default value if property not found or invalid
+     * @return property value or default
+     */
+    private int getIntProperty(String key, int defaultValue) {
+        return snapshot.get().getInt(key, defaultValue);
+    }
+    
+    /**
+     * Get 0-based shard run by this JVM (-Dshard.index)
+     * @return shard index
+     */
+    public int getShardIndex() {
+        return getIntProperty("shard.index", 0);
+    }
+    
+    /**
+     * Get number of shards the suite is split into for parallel CI agents (-Dshard.count)
+     * @return shard count, 1 to run the whole suite
+     */
+    public int getShardCount() {
+        return getIntProperty("shard.count", 1);
+    }
+    
+    /**
+     * Get maximum number of parsed test data files kept in memory by TestDataUtil
+     * @return file count
+     */
+    public int getTestDataCacheMaxFiles() {
+        return getIntProperty("testdata.cache.maxFiles", 64);
+    }
+    
+    /**
+     * Get how often a cached test data file is checked for changes on disk
+     * @return milliseconds between modification-time checks, 0 to check on every read
+     */
+    public int getTestDataCacheCheckIntervalMillis() {
+        return getIntProperty("testdata.cache.checkIntervalMillis", 1000);
+    }
+    
+    /**
+     * Get seed of TestDataGenerator; the same seed always generates the same records
+     * @return seed
+     */
+    public int getTestDataGeneratorSeed() {
+        return getIntProperty("testdata.generator.seed", 42);
+    }
+    
+    /**
+     * Get decimal property value with default
+     * @param key property key
+     * @param defaultValue default value if property not found or invalid
+     * @return property value or default
+     */
+    private double getDoubleProperty(String key, double defaultValue) {
+        return snapshot.get().getDouble(key, defaultValue);
     }
     
     /**
@@ -98,11 +583,16 @@ public class ConfigManager {
      * @return true if SSL verification is enabled
      */
     public boolean isSslVerificationEnabled() {
-        return Boolean.parseBoolean(getProperty("api.sslVerification", "true"));
+        return snapshot.get().getBoolean("api.sslVerification", true);
     }
 
+    /**
+     * Override a property by swapping in a new snapshot; readers see the old or the new value, never a mix
+     * @param key property key
+     * @param value property value
+     */
     public void setProperty(String key, String value) {
-        properties.setProperty(key, value);
+        snapshot.updateAndGet(current -> current.with(key, value));
         logger.info("Set configuration property: {} = {}", key, value);
     }
 
@@ -0,0 +1,173 @@
+package com.restautomation.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * ConfigSnapshot - Immutable set of configuration values. Typed values are parsed on first
+ * read and cached, so hot paths read a parsed number without locking or re-parsing. Changes
+ * create a new snapshot, which ConfigManager swaps in atomically. A key without a value falls
+ * back to the environment variable of that name (see environmentName).
+ */
+public final class ConfigSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(ConfigSnapshot.class);
+    private static final Object INVALID = new Object();
+
+    private final Map<String, String> values;
+    private final Map<String, String> environment;
+    private final ConcurrentMap<String, Object> ints = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> doubles = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Boolean> booleans = new ConcurrentHashMap<>();
+
+    /**
+     * Create a snapshot of values
+     * @param values property key to value; copied
+     */
+    public ConfigSnapshot(Map<String, String> values) {
+        this(values, Collections.emptyMap());
+    }
+
+    /**
+     * Create a snapshot of values over environment variables
+     * @param values property key to value; copied
+     * @param environment environment variable name to value, read for keys without a value
+     */
+    public ConfigSnapshot(Map<String, String> values, Map<String, String> environment) {
+        this.values = Collections.unmodifiableMap(new HashMap<>(values));
+        this.environment = environment;
+    }
+
+    /**
+     * Get the environment variable name of a property key: upper case, with words of the key
+     * separated by underscores, e.g. HTTP_POOL_MAX_TOTAL for http.pool.maxTotal
+     * @param key property key
+     * @return environment variable name
+     */
+    public static String environmentName(String key) {
+        StringBuilder name = new StringBuilder(key.length() + 8);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && Character.isLowerCase(key.charAt(i - 1))) {
+                name.append('_');
+            }
+            name.append(Character.isLetterOrDigit(c) ? Character.toUpperCase(c) : '_');
+        }
+        return name.toString();
+    }
+
+    /**
+     * Create a snapshot with one value added or replaced
+     * @param key property key
+     * @param value property value
+     * @return new ConfigSnapshot; this snapshot is unchanged
+     */
+    public ConfigSnapshot with(String key, String value) {
+        Map<String, String> copy = new HashMap<>(values);
+        copy.put(key, value);
+        return new ConfigSnapshot(copy, environment);
+    }
+
+    /**
+     * Check if a property is set
+     * @param key property key
+     * @return true if the property has a value
+     */
+    public boolean contains(String key) {
+        return raw(key) != null;
+    }
+
+    /**
+     * Get property value
+     * @param key property key
+     * @return property value, or null if not set
+     */
+    public String get(String key) {
+        return raw(key);
+    }
+
+    /**
+     * Get property value with default
+     * @param key property key
+     * @param defaultValue default value if property not set
+     * @return property value or default
+     */
+    public String get(String key, String defaultValue) {
+        String value = raw(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Get integer property value with default
+     * @param key property key
+     * @param defaultValue default value if property not set or invalid
+     * @return property value or default
+     */
+    public int getInt(String key, int defaultValue) {
+        Object value = parsed(ints, key, Integer::valueOf);
+        return value instanceof Integer ? (Integer) value : defaultValue;
+    }
+
+    /**
+     * Get decimal property value with default
+     * @param key property key
+     * @param defaultValue default value if property not set or invalid
+     * @return property value or default
+     */
+    public double getDouble(String key, double defaultValue) {
+        Object value = parsed(doubles, key, Double::valueOf);
+        return value instanceof Double ? (Double) value : defaultValue;
+    }
+
+    /**
+     * Get boolean property value with default
+     * @param key property key
+     * @param defaultValue default value if property not set
+     * @return true if the property is "true" (ignoring case), the default if not set
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = raw(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return booleans.computeIfAbsent(key, k -> Boolean.parseBoolean(value.trim()));
+    }
+
+    private Object parsed(ConcurrentMap<String, Object> cache, String key, Function<String, Object> parser) {
+        Object value = cache.get(key);
+        if (value != null) {
+            return value;
+        }
+        String raw = raw(key);
+        if (raw == null) {
+            return null;
+        }
+        return cache.computeIfAbsent(key, k -> {
+            try {
+                return parser.apply(raw.trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid {} value, using the default: {}", key, raw);
+                return INVALID;
+            }
+        });
+    }
+
+    private String raw(String key) {
+        String value = values.get(key);
+        return value != null || environment.isEmpty() ? value : environment.get(environmentName(key));
+    }
+
+    /**
+     * Get all values, without the environment variables of keys that are not set
+     * @return unmodifiable map of property key to value
+     */
+    public Map<String, String> asMap() {
+        return values;
+    }
+}
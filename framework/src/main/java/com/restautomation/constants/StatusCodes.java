@@ -15,6 +15,7 @@ public class StatusCodes {
     public static final int UNAUTHORIZED = 401;
     public static final int FORBIDDEN = 403;
     public static final int NOT_FOUND = 404;
+    public static final int REQUEST_TIMEOUT = 408;
     public static final int CONFLICT = 409;
     public static final int UNPROCESSABLE_ENTITY = 422;
     public static final int TOO_MANY_REQUESTS = 429;
@@ -23,6 +24,7 @@ public class StatusCodes {
     public static final int INTERNAL_SERVER_ERROR = 500;
     public static final int BAD_GATEWAY = 502;
     public static final int SERVICE_UNAVAILABLE = 503;
+    public static final int GATEWAY_TIMEOUT = 504;
     
     private StatusCodes() {
         // Private constructor to prevent instantiation
@@ -5,6 +5,7 @@ package com.restautomation.exceptions;
  */
 public class APIException extends RuntimeException {
     private final int statusCode;
+    private final long retryAfterMillis;
     
     /**
      * Constructor with message
@@ -13,6 +14,7 @@ public class APIException extends RuntimeException {
     public APIException(String message) {
         super(message);
         this.statusCode = 0;
+        this.retryAfterMillis = -1;
     }
     
     /**
@@ -23,6 +25,19 @@ public class APIException extends RuntimeException {
     public APIException(String message, int statusCode) {
         super(message);
         this.statusCode = statusCode;
+        this.retryAfterMillis = -1;
+    }
+    
+    /**
+     * Constructor with message, status code and the delay the server asked for before retrying
+     * @param message error message
+     * @param statusCode HTTP status code
+     * @param retryAfterMillis Retry-After delay in milliseconds, -1 if none
+     */
+    public APIException(String message, int statusCode, long retryAfterMillis) {
+        super(message);
+        this.statusCode = statusCode;
+        this.retryAfterMillis = retryAfterMillis;
     }
     
     /**
@@ -33,6 +48,7 @@ public class APIException extends RuntimeException {
     public APIException(String message, Throwable cause) {
         super(message, cause);
         this.statusCode = 0;
+        this.retryAfterMillis = -1;
     }
     
     /**
@@ -44,6 +60,7 @@ public class APIException extends RuntimeException {
     public APIException(String message, int statusCode, Throwable cause) {
         super(message, cause);
         this.statusCode = statusCode;
+        this.retryAfterMillis = -1;
     }
     
     /**
@@ -53,4 +70,12 @@ public class APIException extends RuntimeException {
     public int getStatusCode() {
         return statusCode;
     }
+    
+    /**
+     * Get delay the server asked for before retrying (Retry-After)
+     * @return milliseconds, -1 if none
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.restautomation.exceptions;
+
+/**
+ * StatusCodeAssertionError - Failed status code assertion, carrying the actual status code and
+ * the Retry-After of the response so a transient status (e.g. 503) can be retried
+ */
+public class StatusCodeAssertionError extends AssertionError {
+    private final int statusCode;
+    private final long retryAfterMillis;
+
+    /**
+     * Constructor with message, actual status code and the delay the server asked for before retrying
+     * @param message error message
+     * @param statusCode actual HTTP status code
+     * @param retryAfterMillis Retry-After delay in milliseconds, -1 if none
+     */
+    public StatusCodeAssertionError(String message, int statusCode, long retryAfterMillis) {
+        super(message);
+        this.statusCode = statusCode;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * Get actual HTTP status code
+     * @return status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Get delay the server asked for before retrying (Retry-After)
+     * @return milliseconds, -1 if none
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,224 @@
+package com.restautomation.execution;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.metrics.PerformanceBaseline;
+import com.restautomation.metrics.RobustStats;
+import com.restautomation.utils.LoggerUtil;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlSuite;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DurationAwareScheduler - TestNG method interceptor that orders test classes longest-first,
+ * using the median durations of previous runs from the PerformanceBaseline, so the slowest
+ * class starts first instead of becoming the tail of a parallel run. With
+ * -Dshard.count=N -Dshard.index=i each CI agent runs only its share of the classes, assigned
+ * longest-first to the least loaded shard so the shards finish at about the same time. Every
+ * agent must plan from the same baseline, so sharding requires a shared baseline that the shards
+ * only read (-Dperf.baseline.update=false); agents updating their own copy would plan different
+ * shards and run some classes twice and others not at all.
+ * Classes stay whole so class-level fixtures run once; methods are reordered inside a class only
+ * for parallel="methods" and when no method sets a priority. Classes with dependsOnMethods/dependsOnGroups
+ * methods and the classes they depend on always run on the first shard, so a dependency never ends
+ * up on another agent. Longest-first ordering applies to a &lt;test&gt; with preserve-order="false",
+ * as set on the bundled API tests; otherwise TestNG keeps the XML class order and only the sharding
+ * takes effect.
+ */
+public class DurationAwareScheduler implements IMethodInterceptor {
+    private final PerformanceBaseline baseline;
+    private final int shardIndex;
+    private final int shardCount;
+
+    /**
+     * Create a scheduler for the configured baseline and shard
+     * @throws IllegalStateException if the suite is sharded and runs still update the baseline
+     */
+    public DurationAwareScheduler() {
+        this(loadBaseline(ConfigManager.getInstance()),
+                ConfigManager.getInstance().getShardIndex(), ConfigManager.getInstance().getShardCount());
+    }
+
+    /**
+     * Create a scheduler
+     * @param baseline durations of previous runs
+     * @param shardIndex 0-based shard run by this JVM
+     * @param shardCount number of shards, 1 to run everything
+     */
+    public DurationAwareScheduler(PerformanceBaseline baseline, int shardIndex, int shardCount) {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Invalid shard " + shardIndex + " of " + shardCount);
+        }
+        this.baseline = baseline;
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Load the configured baseline, failing fast when shards could plan from diverging baselines
+     * @param config configuration
+     * @return performance baseline
+     */
+    private static PerformanceBaseline loadBaseline(ConfigManager config) {
+        if (config.getShardCount() > 1 && config.isPerfRegressionEnabled() && config.isPerfBaselineUpdateEnabled()) {
+            throw new IllegalStateException("Sharding with shard.count=" + config.getShardCount()
+                    + " needs one shared baseline that no shard updates; run the shards with -Dperf.baseline.update=false"
+                    + " against the same " + config.getPerfBaselineDir());
+        }
+        return PerformanceBaseline.load(Paths.get(config.getPerfBaselineDir()), config.getPerfBaselineRuns());
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (shardCount == 1 && context.getCurrentXmlTest().getPreserveOrder()) {
+            LoggerUtil.info("Keeping the XML order of {}, set preserve-order=\"false\" to run the longest classes first",
+                    context.getCurrentXmlTest().getName());
+            return methods;
+        }
+        Map<String, List<IMethodInstance>> byClass = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            byClass.computeIfAbsent(method.getMethod().getRealClass().getName(), k -> new ArrayList<>()).add(method);
+        }
+
+        Map<IMethodInstance, Double> estimates = estimate(methods);
+        Map<String, Double> classDurations = new LinkedHashMap<>();
+        byClass.forEach((className, classMethods) -> classDurations.put(className,
+                classMethods.stream().mapToDouble(estimates::get).sum()));
+
+        Set<String> pinned = dependencyClasses(methods);
+        List<List<String>> shards = plan(classDurations, pinned, shardCount);
+        List<String> classes = shards.get(shardIndex);
+        boolean reorderMethods = context.getCurrentXmlTest().getParallel() == XmlSuite.ParallelMode.METHODS;
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        for (String className : classes) {
+            List<IMethodInstance> classMethods = byClass.get(className);
+            if (reorderMethods && classMethods.stream().allMatch(method -> method.getMethod().getPriority() == 0)) {
+                classMethods.sort(Comparator.comparingDouble((IMethodInstance method) -> estimates.get(method)).reversed());
+            }
+            ordered.addAll(classMethods);
+        }
+        if (shardCount > 1) {
+            LoggerUtil.info("Shard {} of {} runs {} of {} classes, estimated {} ms from a baseline of {} runs: {}",
+                    shardIndex + 1, shardCount, classes.size(), byClass.size(), Math.round(sum(classDurations, classes)),
+                    baseline.getRuns(), classes);
+            if (!pinned.isEmpty()) {
+                LoggerUtil.info("Classes with dependencies run on shard 1: {}", pinned);
+            }
+        } else {
+            LoggerUtil.info("Scheduling {} classes longest-first: {}", classes.size(), classes);
+        }
+        return ordered;
+    }
+
+    /**
+     * Split classes into shards: longest class first, each to the shard with the least estimated time
+     * @param classDurations class name to estimated duration
+     * @param shardCount number of shards
+     * @return class names of each shard, longest first; the same input always gives the same plan
+     */
+    public static List<List<String>> plan(Map<String, Double> classDurations, int shardCount) {
+        return plan(classDurations, Collections.emptySet(), shardCount);
+    }
+
+    /**
+     * Split classes into shards, keeping the pinned classes on the first shard
+     * @param classDurations class name to estimated duration
+     * @param pinned classes that must run on the first shard
+     * @param shardCount number of shards
+     * @return class names of each shard, longest first; the same input always gives the same plan
+     */
+    public static List<List<String>> plan(Map<String, Double> classDurations, Set<String> pinned, int shardCount) {
+        List<Map.Entry<String, Double>> classes = new ArrayList<>(classDurations.entrySet());
+        classes.sort(Map.Entry.<String, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        List<List<String>> shards = new ArrayList<>(shardCount);
+        double[] loads = new double[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (Map.Entry<String, Double> entry : classes) {
+            if (pinned.contains(entry.getKey())) {
+                loads[0] += entry.getValue();
+            }
+        }
+        for (Map.Entry<String, Double> entry : classes) {
+            if (pinned.contains(entry.getKey())) {
+                shards.get(0).add(entry.getKey());
+                continue;
+            }
+            int target = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (loads[i] < loads[target]) {
+                    target = i;
+                }
+            }
+            shards.get(target).add(entry.getKey());
+            loads[target] += entry.getValue();
+        }
+        return shards;
+    }
+
+    /**
+     * Find the classes linked by dependencies: classes with methods depending on other methods or
+     * groups, and the classes holding those methods and groups
+     */
+    private static Set<String> dependencyClasses(List<IMethodInstance> methods) {
+        Set<String> methodsDependedUpon = new HashSet<>();
+        Set<String> groupsDependedUpon = new HashSet<>();
+        Set<String> classes = new LinkedHashSet<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            if (method.getMethodsDependedUpon().length > 0 || method.getGroupsDependedUpon().length > 0) {
+                classes.add(method.getRealClass().getName());
+                methodsDependedUpon.addAll(Arrays.asList(method.getMethodsDependedUpon()));
+                groupsDependedUpon.addAll(Arrays.asList(method.getGroupsDependedUpon()));
+            }
+        }
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            if (methodsDependedUpon.contains(method.getQualifiedName())
+                    || Arrays.stream(method.getGroups()).anyMatch(groupsDependedUpon::contains)) {
+                classes.add(method.getRealClass().getName());
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Estimate each method from the median durations of its previous runs, summed over data
+     * provider invocations; methods without history get the median of the known methods
+     */
+    private Map<IMethodInstance, Double> estimate(List<IMethodInstance> methods) {
+        Map<String, Double> byMethod = new LinkedHashMap<>();
+        for (String testId : baseline.getTestIds()) {
+            int parameters = testId.indexOf('[');
+            String methodId = parameters < 0 ? testId : testId.substring(0, parameters);
+            byMethod.merge(methodId, RobustStats.median(baseline.getTestHistory(testId)), Double::sum);
+        }
+        double unknown = byMethod.isEmpty() ? 1 : RobustStats.median(new ArrayList<>(byMethod.values()));
+
+        Map<IMethodInstance, Double> estimates = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            String methodId = method.getMethod().getRealClass().getName() + "." + method.getMethod().getMethodName();
+            estimates.put(method, byMethod.getOrDefault(methodId, unknown));
+        }
+        return estimates;
+    }
+
+    private static double sum(Map<String, Double> classDurations, List<String> classes) {
+        return classes.stream().mapToDouble(classDurations::get).sum();
+    }
+}
@@ -0,0 +1,139 @@
+package com.restautomation.execution;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.utils.LoggerUtil;
+import org.testng.IDynamicGraph;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.thread.IExecutorFactory;
+import org.testng.thread.IThreadWorkerFactory;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IWorker;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VirtualThreadExecutorFactory - TestNG executor factory that runs suite and test method
+ * workers on virtual threads. Enable it with -threadpoolfactoryclass together with
+ * -Dtestng.favor.custom.thread-pool.executor=true (see the virtual-threads Maven profile).
+ * <p>
+ * RestAssured and the Apache HTTP client block inside synchronized code, which pins a virtual
+ * thread to its carrier on JDK 21. Tests waiting for a pooled connection would then hold every
+ * carrier while the tests that could give a connection back cannot be scheduled. Concurrency is
+ * therefore capped at virtualThreads.concurrency, to which the HTTP connection pool grows in the
+ * virtual-thread mode, and never exceeds the pool size, so no test has to wait for a connection.
+ * The suite thread count can lower the cap but not raise it. Data provider rows are not run
+ * by this factory; TestNG runs them on its own platform thread pool.
+ */
+public class VirtualThreadExecutorFactory implements IExecutorFactory {
+    /**
+     * System property that makes TestNG use the configured executor factory for test methods
+     */
+    public static final String FAVOUR_CUSTOM_EXECUTOR = "testng.favor.custom.thread-pool.executor";
+
+    @Override
+    public ITestNGThreadPoolExecutor newSuiteExecutor(String name, IDynamicGraph<ISuite> graph,
+                                                      IThreadWorkerFactory<ISuite> factory, int corePoolSize,
+                                                      int maxPoolSize, long keepAliveTime, TimeUnit unit,
+                                                      BlockingQueue<Runnable> workQueue, Comparator<ISuite> comparator) {
+        return newExecutor(name, graph, factory, maxPoolSize, workQueue, comparator);
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+                                                           IThreadWorkerFactory<ITestNGMethod> factory, int corePoolSize,
+                                                           int maxPoolSize, long keepAliveTime, TimeUnit unit,
+                                                           BlockingQueue<Runnable> workQueue, Comparator<ITestNGMethod> comparator) {
+        return newExecutor(name, graph, factory, maxPoolSize, workQueue, comparator);
+    }
+
+    /**
+     * Get the highest number of tests that may run at once
+     * @param requested thread count of the suite
+     * @return requested count capped at virtualThreads.concurrency and the HTTP connection pool size
+     */
+    public static int concurrency(int requested) {
+        ConfigManager config = ConfigManager.getInstance();
+        int poolSize = Math.min(config.getPoolMaxPerRoute(), config.getPoolMaxTotal());
+        return Math.max(1, Math.min(requested, Math.min(config.getVirtualThreadsConcurrency(), poolSize)));
+    }
+
+    private <T> ITestNGThreadPoolExecutor newExecutor(String name, IDynamicGraph<T> graph,
+                                                      IThreadWorkerFactory<T> factory, int maxPoolSize,
+                                                      BlockingQueue<Runnable> workQueue, Comparator<T> comparator) {
+        int concurrency = concurrency(maxPoolSize);
+        if (concurrency < maxPoolSize) {
+            LoggerUtil.warn("Capping virtual thread concurrency of {} from {} to {} (virtualThreads.concurrency "
+                    + "and the HTTP connection pool size)", name, maxPoolSize, concurrency);
+        }
+        LoggerUtil.info("Creating virtual thread executor for {} with concurrency {}", name, concurrency);
+        return new GraphExecutor<>(name, graph, factory, concurrency, workQueue, comparator);
+    }
+
+    /**
+     * GraphExecutor - Runs the nodes of a TestNG dependency graph as soon as their dependencies
+     * have finished, one virtual thread per running worker. Built on TestNG's public
+     * IDynamicGraph and IWorker API only.
+     */
+    private static final class GraphExecutor<T> extends ThreadPoolExecutor implements ITestNGThreadPoolExecutor {
+        private final IDynamicGraph<T> graph;
+        private final IThreadWorkerFactory<T> factory;
+        private final Comparator<T> comparator;
+
+        GraphExecutor(String name, IDynamicGraph<T> graph, IThreadWorkerFactory<T> factory, int concurrency,
+                      BlockingQueue<Runnable> workQueue, Comparator<T> comparator) {
+            // Thread names must contain "TestNG" so TestNG recognises its own worker threads
+            super(concurrency, concurrency, 0, TimeUnit.MILLISECONDS, workQueue,
+                    Thread.ofVirtual().name("TestNG-virtual-" + name + "-", 1).factory());
+            this.graph = graph;
+            this.factory = factory;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public void run() {
+            synchronized (graph) {
+                runFreeNodes();
+            }
+        }
+
+        @Override
+        protected void afterExecute(Runnable runnable, Throwable error) {
+            synchronized (graph) {
+                @SuppressWarnings("unchecked")
+                IWorker<T> worker = (IWorker<T>) runnable;
+                setStatus(worker, IDynamicGraph.Status.FINISHED);
+                if (graph.getNodeCount() == graph.getNodeCountWithStatus(IDynamicGraph.Status.FINISHED)) {
+                    shutdown();
+                } else {
+                    runFreeNodes();
+                }
+            }
+        }
+
+        private void runFreeNodes() {
+            List<T> nodes = graph.getFreeNodes();
+            if (comparator != null) {
+                nodes.sort(comparator);
+            }
+            for (IWorker<T> worker : factory.createWorkers(nodes)) {
+                setStatus(worker, IDynamicGraph.Status.RUNNING);
+                try {
+                    execute(worker);
+                } catch (RuntimeException e) {
+                    LoggerUtil.error("Failed to start TestNG worker: " + e.getMessage(), e);
+                }
+            }
+        }
+
+        private void setStatus(IWorker<T> worker, IDynamicGraph.Status status) {
+            for (T task : worker.getTasks()) {
+                graph.setStatus(task, status);
+            }
+        }
+    }
+}
@@ -6,13 +6,21 @@ import com.restautomation.api.UserAPI;
 import com.restautomation.api.AlbumAPI;
 import com.restautomation.api.PhotoAPI;
 import com.restautomation.api.TodoAPI;
+import com.restautomation.base.BaseAPI;
+import com.restautomation.config.ConfigManager;
 import com.restautomation.utils.LoggerUtil;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
 /**
- * APIFactory - Factory class for creating API instances
+ * APIFactory - Factory class for API instances. API clients are stateless and thread-safe, so
+ * each client type is created once per base URL and shared by all test classes and threads.
  */
 public class APIFactory {
-    private static APIFactory instance;
+    private static volatile APIFactory instance;
+    private final ConcurrentMap<String, BaseAPI> clients = new ConcurrentHashMap<>();
     
     private APIFactory() {
         // Private constructor for singleton
@@ -22,64 +30,87 @@ public class APIFactory {
      * Get singleton instance
      * @return APIFactory instance
      */
-    public static synchronized APIFactory getInstance() {
-        if (instance == null) {
-            instance = new APIFactory();
+    public static APIFactory getInstance() {
+        APIFactory factory = instance;
+        if (factory == null) {
+            synchronized (APIFactory.class) {
+                factory = instance;
+                if (factory == null) {
+                    factory = new APIFactory();
+                    instance = factory;
+                }
+            }
         }
-        return instance;
+        return factory;
+    }
+    
+    /**
+     * Get the shared client of a type for the configured base URL, creating it on first use
+     * @param type API client class
+     * @param constructor creates the client
+     * @param <T> API client type
+     * @return shared client instance
+     */
+    private <T extends BaseAPI> T getClient(Class<T> type, Supplier<T> constructor) {
+        String baseUrl = ConfigManager.getInstance().getBaseUrl();
+        return type.cast(clients.computeIfAbsent(type.getName() + "@" + baseUrl, key -> {
+            LoggerUtil.info("Creating {} instance for: {}", type.getSimpleName(), baseUrl);
+            return constructor.get();
+        }));
+    }
+    
+    /**
+     * Drop all shared clients; the next get creates new ones
+     */
+    public void clear() {
+        clients.clear();
     }
     
     /**
      * Get UserAPI instance
-     * @return UserAPI instance
+     * @return shared UserAPI instance
      */
     public UserAPI getUserAPI() {
-        LoggerUtil.info("Creating UserAPI instance");
-        return new UserAPI();
+        return getClient(UserAPI.class, UserAPI::new);
     }
     
     /**
      * Get PostAPI instance
-     * @return PostAPI instance
+     * @return shared PostAPI instance
      */
     public PostAPI getPostAPI() {
-        LoggerUtil.info("Creating PostAPI instance");
-        return new PostAPI();
+        return getClient(PostAPI.class, PostAPI::new);
     }
     
     /**
      * Get AuthAPI instance
-     * @return AuthAPI instance
+     * @return shared AuthAPI instance
      */
     public AuthAPI getAuthAPI() {
-        LoggerUtil.info("Creating AuthAPI instance");
-        return new AuthAPI();
+        return getClient(AuthAPI.class, AuthAPI::new);
     }
     
     /**
      * Get AlbumAPI instance
-     * @return AlbumAPI instance
+     * @return shared AlbumAPI instance
      */
     public AlbumAPI getAlbumAPI() {
-        LoggerUtil.info("Creating AlbumAPI instance");
-        return new AlbumAPI();
+        return getClient(AlbumAPI.class, AlbumAPI::new);
     }
     
     /**
      * Get PhotoAPI instance
-     * @return PhotoAPI instance
+     * @return shared PhotoAPI instance
      */
     public PhotoAPI getPhotoAPI() {
-        LoggerUtil.info("Creating PhotoAPI instance");
-        return new PhotoAPI();
+        return getClient(PhotoAPI.class, PhotoAPI::new);
     }
     
     /**
      * Get TodoAPI instance
-     * @return TodoAPI instance
+     * @return shared TodoAPI instance
      */
     public TodoAPI getTodoAPI() {
-        LoggerUtil.info("Creating TodoAPI instance");
-        return new TodoAPI();
+        return getClient(TodoAPI.class, TodoAPI::new);
     }
 }
\ No newline at end of file
@@ -1,23 +1,11 @@
 package com.restautomation.listeners;
 
-import org.testng.IRetryAnalyzer;
+import com.restautomation.utils.RetryAnalyzer;
 import org.testng.ITestNGListener;
-import org.testng.ITestResult;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
-public class RetryListener implements IRetryAnalyzer, ITestNGListener {
-    private static final Logger logger = LogManager.getLogger(RetryListener.class);
-    private int retryCount = 0;
-    private static final int MAX_RETRY_COUNT = 3;
-
-    @Override
-    public boolean retry(ITestResult result) {
-        if (retryCount < MAX_RETRY_COUNT) {
-            retryCount++;
-            logger.info("Retrying test: " + result.getName() + " for the " + retryCount + " time");
-            return true;
-        }
-        return false;
-    }
-} 
\ No newline at end of file
+/**
+ * RetryListener - RetryAnalyzer that can also be registered as a suite listener; retries only
+ * transient failures, with the backoff and suite budget of the configured RetryPolicy
+ */
+public class RetryListener extends RetryAnalyzer implements ITestNGListener {
+}
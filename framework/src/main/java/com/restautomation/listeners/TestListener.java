@@ -5,40 +5,118 @@ import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.markuputils.CodeLanguage;
 import com.aventstack.extentreports.markuputils.ExtentColor;
 import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.restautomation.config.ConfigManager;
+import com.restautomation.logging.HttpExchangeBuffer;
+import com.restautomation.metrics.LatencyRegistry;
+import com.restautomation.metrics.Regression;
+import com.restautomation.metrics.RegressionDetector;
+import com.restautomation.metrics.TestMetrics;
+import com.restautomation.metrics.TestPerformance;
 import com.restautomation.reports.ExtentReportManager;
+import com.restautomation.reports.PerformanceExporter;
+import com.restautomation.reports.TestEventReportRenderer;
+import com.restautomation.reports.TestEventSink;
 import com.restautomation.utils.LoggerUtil;
+import com.restautomation.utils.SchemaRegistry;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * TestListener - TestNG listener for test execution events
  */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, ISuiteListener {
     private static final Logger logger = LogManager.getLogger(TestListener.class);
+    // Huge runs can turn the in-memory Extent report off and keep only the streaming event log
+    private final boolean extentEnabled = ConfigManager.getInstance().isExtentReportEnabled();
+    private final boolean regressionEnabled = ConfigManager.getInstance().isPerfRegressionEnabled();
     
     @Override
     public void onStart(ITestContext context) {
         logger.info("Starting test suite: " + context.getName());
         // Initialize the extent report
-        ExtentReportManager.initReports();
+        if (extentEnabled) {
+            ExtentReportManager.initReports();
+        }
     }
     
     @Override
     public void onFinish(ITestContext context) {
         logger.info("Finished test suite: " + context.getName());
         // Flush the extent report
-        ExtentReportManager.flushReports();
+        if (extentEnabled) {
+            ExtentReportManager.flushReports();
+        }
+    }
+    
+    @Override
+    public void onStart(ISuite suite) {
+        // Compile JSON schemas up front so the first validateSchema call is not slower than the rest
+        if (ConfigManager.getInstance().isSchemaPreloadEnabled()) {
+            SchemaRegistry.getInstance().preload("schemas");
+        }
+    }
+    
+    @Override
+    public void onFinish(ISuite suite) {
+        // Export per-endpoint latency percentiles recorded during the suite
+        LatencyRegistry.getInstance().exportSummary();
+        // Later suites of the run keep appending to the same export files
+        PerformanceExporter.getInstance().flush();
+        // Close the event log and render it; the log itself is complete even if rendering fails
+        Path events = TestEventSink.getInstance().close();
+        if (events != null) {
+            try {
+                TestEventReportRenderer.render(events);
+            } catch (RuntimeException e) {
+                logger.error("Failed to render test event report: " + e.getMessage());
+            }
+        }
+        if (regressionEnabled) {
+            reportRegressions(RegressionDetector.getInstance().finishRun());
+        }
+    }
+    
+    /**
+     * Add the regressions of the run to the report and fail the suite on failing ones
+     * @param regressions regressions against the performance baseline
+     */
+    private void reportRegressions(List<Regression> regressions) {
+        if (regressions.isEmpty()) {
+            return;
+        }
+        if (extentEnabled) {
+            ExtentTest test = ExtentReportManager.initReports().createTest("Performance regressions")
+                    .assignCategory("Performance");
+            for (Regression regression : regressions) {
+                test.log(regression.isFailing() ? Status.FAIL : Status.WARNING, regression.toString());
+            }
+            ExtentReportManager.flushReports();
+        }
+        List<Regression> failing = regressions.stream().filter(Regression::isFailing).collect(Collectors.toList());
+        if (!failing.isEmpty()) {
+            throw new IllegalStateException("Performance regressions above perf.regression.failThreshold: " + failing);
+        }
     }
     
     @Override
     public void onTestStart(ITestResult result) {
         logger.info("Starting test: " + result.getName());
-        // Create a test for the current test method
-        ExtentTest test = ExtentReportManager.createTest(result.getName(), 
-                result.getTestClass().getRealClass().getSimpleName());
+        HttpExchangeBuffer.start();
+        TestMetrics.start(result, ConfigManager.getInstance().getPerfExportMaxRequestsPerTest());
+        if (!extentEnabled) {
+            return;
+        }
+        // Create a test for the current test method, keyed by its result rather than the thread
+        ExtentTest test = ExtentReportManager.createTest(result);
         
         // Log test description if available
         if (result.getMethod().getDescription() != null && !result.getMethod().getDescription().isEmpty()) {
@@ -49,18 +127,41 @@ public class TestListener implements ITestListener {
     @Override
     public void onTestSuccess(ITestResult result) {
         logger.info("Test passed: " + result.getName());
+        Regression regression = recordResult(result, "PASS");
+        HttpExchangeBuffer.clear();
+        if (!extentEnabled) {
+            return;
+        }
         // Log the successful test
-        ExtentTest test = ExtentReportManager.getTest();
+        ExtentTest test = getOrCreateTest(result);
         test.log(Status.PASS, MarkupHelper.createLabel("Test Passed", ExtentColor.GREEN));
+        if (regression != null) {
+            test.log(Status.WARNING, MarkupHelper.createLabel("Performance regression: " + regression, ExtentColor.ORANGE));
+        }
         
         // Add execution time
         test.info("Test execution time: " + (result.getEndMillis() - result.getStartMillis()) + "ms");
+        ExtentReportManager.removeTest(result);
     }
     
     @Override
     public void onTestFailure(ITestResult result) {
         logger.error("Test failed: " + result.getName());
-        ExtentTest test = ExtentReportManager.getTest();
+        recordResult(result, "FAIL");
+        if (result.getThrowable() != null) {
+            logger.error("Failure reason: " + result.getThrowable().getMessage());
+        }
+
+        // Render the HTTP calls of the failed test that were buffered instead of logged
+        String httpCalls = HttpExchangeBuffer.renderAndClear();
+        if (!httpCalls.isEmpty()) {
+            logger.error("HTTP calls of failed test " + result.getName() + ":" + System.lineSeparator() + httpCalls);
+        }
+        if (!extentEnabled) {
+            return;
+        }
+
+        ExtentTest test = getOrCreateTest(result);
         test.log(Status.FAIL, MarkupHelper.createLabel("Test Failed", ExtentColor.RED));
 
         if (result.getThrowable() != null) {
@@ -68,23 +169,43 @@ public class TestListener implements ITestListener {
             String stackTrace = exceptionStackTraceToString(result.getThrowable());
             // Use string instead of enum for language
             test.log(Status.FAIL, MarkupHelper.createCodeBlock(stackTrace, "java"));
-            logger.error("Failure reason: " + result.getThrowable().getMessage());
+        }
+        if (!httpCalls.isEmpty()) {
+            test.log(Status.FAIL, MarkupHelper.createCodeBlock(httpCalls));
         }
 
         test.info("Test execution time: " + (result.getEndMillis() - result.getStartMillis()) + "ms");
+        ExtentReportManager.removeTest(result);
     }
     
     @Override
     public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            // A failed attempt that will be retried; only the final attempt is reported
+            logger.warn("Test attempt failed and will be retried: " + result.getName()
+                    + (result.getThrowable() != null ? " - " + result.getThrowable().getMessage() : ""));
+            recordResult(result, "RETRIED");
+            if (extentEnabled) {
+                ExtentReportManager.discardTest(result);
+            }
+            HttpExchangeBuffer.clear();
+            return;
+        }
         logger.warn("Test skipped: " + result.getName());
+        recordResult(result, "SKIP");
+        HttpExchangeBuffer.clear();
+        if (!extentEnabled) {
+            return;
+        }
         // Log the skipped test
-        ExtentTest test = ExtentReportManager.getTest();
+        ExtentTest test = getOrCreateTest(result);
         test.log(Status.SKIP, MarkupHelper.createLabel("Test Skipped", ExtentColor.YELLOW));
         
         // Log the exception if available
         if (result.getThrowable() != null) {
             test.log(Status.SKIP, result.getThrowable());
         }
+        ExtentReportManager.removeTest(result);
     }
     
     @Override
@@ -92,6 +213,28 @@ public class TestListener implements ITestListener {
         logger.warn("Test failed but within success percentage: " + result.getName());
     }
     
+    /**
+     * Append a finished test attempt to the event log and the performance export and check it against the baseline
+     * @param result TestNG result
+     * @param status PASS, FAIL, SKIP or RETRIED
+     * @return regression of the test duration against the performance baseline, or null
+     */
+    private Regression recordResult(ITestResult result, String status) {
+        TestEventSink.getInstance().record(result, status);
+        TestPerformance performance = PerformanceExporter.getInstance().record(result, status, TestMetrics.end(result));
+        return regressionEnabled ? RegressionDetector.getInstance().record(performance) : null;
+    }
+    
+    /**
+     * Get the report test of a result; tests skipped before they start have none yet
+     * @param result TestNG result
+     * @return ExtentTest instance
+     */
+    private ExtentTest getOrCreateTest(ITestResult result) {
+        ExtentTest test = ExtentReportManager.getTest(result);
+        return test != null ? test : ExtentReportManager.createTest(result);
+    }
+    
     /**
      * Convert exception stack trace to string
      * @param throwable exception
@@ -0,0 +1,78 @@
+package com.restautomation.load;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * LoadResult - Per-operation statistics of a finished load test
+ */
+public class LoadResult {
+    private final String name;
+    private final Duration measuredDuration;
+    private final Map<String, OperationStats> operations;
+
+    LoadResult(String name, Duration measuredDuration, Map<String, OperationStats> operations) {
+        this.name = name;
+        this.measuredDuration = measuredDuration;
+        this.operations = Collections.unmodifiableMap(operations);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get length of the window that was recorded (warm-up excluded)
+     * @return measured duration
+     */
+    public Duration getMeasuredDuration() {
+        return measuredDuration;
+    }
+
+    /**
+     * Get statistics per operation, in the order operations were added
+     * @return map of operation name to stats
+     */
+    public Map<String, OperationStats> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Get statistics for one operation
+     * @param operationName operation name
+     * @return OperationStats for the operation
+     */
+    public OperationStats getOperation(String operationName) {
+        OperationStats stats = operations.get(operationName);
+        if (stats == null) {
+            throw new IllegalArgumentException("No operation named: " + operationName);
+        }
+        return stats;
+    }
+
+    /**
+     * Get total completed calls per second across all operations
+     * @return throughput in calls per second
+     */
+    public double getTotalThroughput() {
+        return operations.values().stream().mapToDouble(OperationStats::getThroughput).sum();
+    }
+
+    /**
+     * Get total number of failed calls across all operations
+     * @return error count
+     */
+    public long getTotalErrors() {
+        return operations.values().stream().mapToLong(OperationStats::getErrors).sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Load test '").append(name).append("' (measured ")
+                .append(measuredDuration.toMillis()).append(" ms)");
+        operations.values().forEach(stats -> sb.append("\n  ").append(stats));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,406 @@
+package com.restautomation.load;
+
+import com.restautomation.base.BaseAPI;
+import com.restautomation.metrics.LatencyHistogram;
+import com.restautomation.utils.LoggerUtil;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * LoadTest - Load generator that drives the existing API client methods.
+ * Supports an open model (constant arrival rate, independent of response times) and a
+ * closed model (N virtual users looping with optional think time). Load ramps up linearly
+ * over the ramp-up period and calls started during the warm-up window are not recorded.
+ * In the open model a call's latency is measured from its scheduled arrival time, so time spent
+ * waiting to be started when the generator falls behind is included (no coordinated omission).
+ * Calls are made without HTTP re-sends (see BaseAPI.withoutResends), so transient failures count as
+ * errors and latencies do not include a backoff.
+ *
+ * <pre>
+ * UserAPI userAPI = APIFactory.getInstance().getUserAPI();
+ * LoadResult result = LoadTest.builder("users")
+ *         .operation("GET /users/{id}", () -&gt; userAPI.getUserById(1))
+ *         .openModel(50)
+ *         .warmUp(Duration.ofSeconds(10))
+ *         .rampUp(Duration.ofSeconds(10))
+ *         .duration(Duration.ofMinutes(1))
+ *         .build()
+ *         .run();
+ * </pre>
+ */
+public class LoadTest {
+
+    /**
+     * Workload model
+     */
+    public enum Model {
+        /** New calls arrive at a constant rate regardless of how long calls take */
+        OPEN,
+        /** A fixed number of virtual users each issue one call at a time */
+        CLOSED
+    }
+
+    private final String name;
+    private final List<Operation> operations;
+    private final int[] cumulativeWeights;
+    private final Model model;
+    private final double arrivalRate;
+    private final int virtualUsers;
+    private final Duration thinkTime;
+    private final Duration warmUp;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final long iterations;
+
+    private LoadTest(Builder builder) {
+        this.name = builder.name;
+        this.operations = new ArrayList<>(builder.operations);
+        this.model = builder.model;
+        this.arrivalRate = builder.arrivalRate;
+        this.virtualUsers = builder.virtualUsers;
+        this.thinkTime = builder.thinkTime;
+        this.warmUp = builder.warmUp;
+        this.rampUp = builder.rampUp;
+        this.duration = builder.duration;
+        this.iterations = builder.iterations;
+        this.cumulativeWeights = new int[operations.size()];
+        int total = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            total += operations.get(i).weight;
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Create a builder for a load test
+     * @param name load test name used in logs and results
+     * @return Builder instance
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Run the load test and block until all started calls have completed
+     * @return LoadResult with per-operation statistics
+     */
+    public LoadResult run() {
+        LoggerUtil.info("Starting load test '{}': model={}, rate={}/s, users={}, warmUp={}, rampUp={}, duration={}, iterations={}",
+                name, model, arrivalRate, virtualUsers, warmUp, rampUp, duration, iterations > 0 ? iterations : "unlimited");
+
+        long start = System.nanoTime();
+        long end = start + rampUp.toNanos() + duration.toNanos();
+        long measureFrom = start + Math.min(warmUp.toNanos(), end - start);
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        operations.forEach(operation -> recorders.put(operation.name, new Recorder()));
+
+        // Platform threads: RestAssured blocks inside synchronized frames, which pins virtual threads
+        // to their carriers and can starve the threads that would hand pooled connections back
+        ThreadFactory threadFactory = Thread.ofPlatform().daemon().name("load-" + name + "-", 1).factory();
+        try (ExecutorService executor = Executors.newCachedThreadPool(threadFactory)) {
+            if (model == Model.OPEN) {
+                runOpenModel(executor, recorders, start, end, measureFrom);
+            } else {
+                runClosedModel(executor, recorders, start, end, measureFrom);
+            }
+        }
+        // An iteration limit can finish the run before the planned end
+        long measureTo = Math.max(measureFrom, Math.min(end, System.nanoTime()));
+
+        double measuredSeconds = (measureTo - measureFrom) / 1_000_000_000.0;
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        recorders.forEach((operationName, recorder) ->
+                stats.put(operationName, recorder.toStats(operationName, measuredSeconds)));
+        LoadResult result = new LoadResult(name, Duration.ofNanos(measureTo - measureFrom), stats);
+        LoggerUtil.info("{}", result);
+        return result;
+    }
+
+    private void runOpenModel(ExecutorService executor, Map<String, Recorder> recorders,
+                              long start, long end, long measureFrom) {
+        for (long arrival = 0; ; arrival++) {
+            long fireAt = start + arrivalOffsetNanos(arrival);
+            if (fireAt >= end || (iterations > 0 && arrival >= iterations)) {
+                return;
+            }
+            parkUntil(fireAt);
+            Operation operation = pickOperation();
+            executor.execute(() -> execute(operation, recorders.get(operation.name), fireAt, end, measureFrom));
+        }
+    }
+
+    private void runClosedModel(ExecutorService executor, Map<String, Recorder> recorders,
+                                long start, long end, long measureFrom) {
+        AtomicLong started = new AtomicLong();
+        for (int user = 0; user < virtualUsers; user++) {
+            long userStart = start + rampUp.toNanos() * user / virtualUsers;
+            executor.execute(() -> {
+                parkUntil(userStart);
+                while (System.nanoTime() < end && (iterations <= 0 || started.getAndIncrement() < iterations)) {
+                    Operation operation = pickOperation();
+                    execute(operation, recorders.get(operation.name), System.nanoTime(), end, measureFrom);
+                    if (!thinkTime.isZero()) {
+                        parkUntil(Math.min(end, System.nanoTime() + thinkTime.toNanos()));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Offset of the n-th arrival from the start: the rate grows linearly during ramp-up, then stays constant
+     */
+    private long arrivalOffsetNanos(long arrival) {
+        double rampSeconds = rampUp.toNanos() / 1_000_000_000.0;
+        double rampArrivals = arrivalRate * rampSeconds / 2;
+        double seconds = arrival < rampArrivals
+                ? Math.sqrt(2 * arrival * rampSeconds / arrivalRate)
+                : rampSeconds + (arrival - rampArrivals) / arrivalRate;
+        return (long) (seconds * 1_000_000_000L);
+    }
+
+    private Operation pickOperation() {
+        if (operations.size() == 1) {
+            return operations.get(0);
+        }
+        int ticket = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, ticket + 1);
+        return operations.get(index >= 0 ? index : -index - 1);
+    }
+
+    /**
+     * Make one call and record it
+     * @param scheduledAt time the call should have started; latency is measured from here
+     */
+    private void execute(Operation operation, Recorder recorder, long scheduledAt, long end, long measureFrom) {
+        boolean success;
+        try {
+            // Every attempt is a measured call, so failed requests are not sent again behind the generator's back
+            success = operation.check.test(BaseAPI.withoutResends(operation.call));
+        } catch (Exception | AssertionError e) {
+            LoggerUtil.debug("Load test call {} failed: {}", operation.name, e.getMessage());
+            success = false;
+        }
+        long latency = System.nanoTime() - scheduledAt;
+        if (scheduledAt >= measureFrom && scheduledAt < end) {
+            recorder.record(latency, success);
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Operation - Named, weighted call under load
+     */
+    private static final class Operation {
+        private final String name;
+        private final int weight;
+        private final Supplier<Response> call;
+        private final Predicate<Response> check;
+
+        private Operation(String name, int weight, Supplier<Response> call, Predicate<Response> check) {
+            this.name = name;
+            this.weight = weight;
+            this.call = call;
+            this.check = check;
+        }
+    }
+
+    /**
+     * Recorder - Collects latencies and errors for one operation
+     */
+    private static final class Recorder {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long latencyNanos, boolean success) {
+            latencies.recordNanos(latencyNanos);
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        OperationStats toStats(String name, double measuredSeconds) {
+            return new OperationStats(name, latencies.snapshot(), errors.sum(), measuredSeconds);
+        }
+    }
+
+    /**
+     * Builder - Fluent configuration for a LoadTest
+     */
+    public static final class Builder {
+        private final String name;
+        private final List<Operation> operations = new ArrayList<>();
+        private Model model;
+        private double arrivalRate;
+        private int virtualUsers;
+        private Duration thinkTime = Duration.ZERO;
+        private Duration warmUp = Duration.ZERO;
+        private Duration rampUp = Duration.ZERO;
+        private Duration duration = Duration.ofSeconds(30);
+        private long iterations;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Add an operation; a call succeeds when it returns a status code below 400
+         * @param name operation name, e.g. "GET /users/{id}"
+         * @param call API client call to run
+         * @return this builder
+         */
+        public Builder operation(String name, Supplier<Response> call) {
+            return operation(name, 1, call);
+        }
+
+        /**
+         * Add a weighted operation; a call succeeds when it returns a status code below 400
+         * @param name operation name
+         * @param weight relative share of calls
+         * @param call API client call to run
+         * @return this builder
+         */
+        public Builder operation(String name, int weight, Supplier<Response> call) {
+            return operation(name, weight, call, response -> response.getStatusCode() < 400);
+        }
+
+        /**
+         * Add a weighted operation with a custom success check
+         * @param name operation name
+         * @param weight relative share of calls
+         * @param call API client call to run
+         * @param check returns true when the response counts as a success
+         * @return this builder
+         */
+        public Builder operation(String name, int weight, Supplier<Response> call, Predicate<Response> check) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Operation weight must be positive: " + name);
+            }
+            if (operations.stream().anyMatch(operation -> operation.name.equals(name))) {
+                throw new IllegalArgumentException("Duplicate operation name: " + name);
+            }
+            operations.add(new Operation(name, weight, call, check));
+            return this;
+        }
+
+        /**
+         * Use the open model: start calls at a constant rate
+         * @param callsPerSecond target arrival rate after ramp-up
+         * @return this builder
+         */
+        public Builder openModel(double callsPerSecond) {
+            if (callsPerSecond <= 0) {
+                throw new IllegalArgumentException("Arrival rate must be positive");
+            }
+            this.model = Model.OPEN;
+            this.arrivalRate = callsPerSecond;
+            return this;
+        }
+
+        /**
+         * Use the closed model: a fixed number of virtual users
+         * @param users number of virtual users after ramp-up
+         * @return this builder
+         */
+        public Builder closedModel(int users) {
+            if (users <= 0) {
+                throw new IllegalArgumentException("Virtual users must be positive");
+            }
+            this.model = Model.CLOSED;
+            this.virtualUsers = users;
+            return this;
+        }
+
+        /**
+         * Set pause between iterations of each virtual user (closed model only)
+         * @param thinkTime think time
+         * @return this builder
+         */
+        public Builder thinkTime(Duration thinkTime) {
+            this.thinkTime = thinkTime;
+            return this;
+        }
+
+        /**
+         * Set window at the start of the run whose calls are not recorded
+         * @param warmUp warm-up duration
+         * @return this builder
+         */
+        public Builder warmUp(Duration warmUp) {
+            this.warmUp = warmUp;
+            return this;
+        }
+
+        /**
+         * Set period over which load grows linearly to the target
+         * @param rampUp ramp-up duration
+         * @return this builder
+         */
+        public Builder rampUp(Duration rampUp) {
+            this.rampUp = rampUp;
+            return this;
+        }
+
+        /**
+         * Set how long to hold the target load after ramp-up
+         * @param duration steady-state duration
+         * @return this builder
+         */
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * Stop after this many calls have been started, even if the duration has not elapsed
+         * @param iterations maximum number of calls, including warm-up calls
+         * @return this builder
+         */
+        public Builder iterations(long iterations) {
+            if (iterations <= 0) {
+                throw new IllegalArgumentException("Iterations must be positive");
+            }
+            this.iterations = iterations;
+            return this;
+        }
+
+        /**
+         * Build the load test
+         * @return LoadTest instance
+         */
+        public LoadTest build() {
+            if (operations.isEmpty()) {
+                throw new IllegalStateException("Load test needs at least one operation");
+            }
+            if (model == null) {
+                throw new IllegalStateException("Load test needs an open or closed workload model");
+            }
+            if (warmUp.isNegative() || rampUp.isNegative() || thinkTime.isNegative() || duration.isNegative()
+                    || duration.isZero()) {
+                throw new IllegalStateException("Load test durations must be positive");
+            }
+            return new LoadTest(this);
+        }
+    }
+}
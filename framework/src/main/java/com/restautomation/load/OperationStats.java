@@ -0,0 +1,104 @@
+package com.restautomation.load;
+
+import com.restautomation.metrics.LatencySnapshot;
+
+/**
+ * OperationStats - Throughput and latency summary for one load test operation
+ */
+public class OperationStats {
+    private final String name;
+    private final LatencySnapshot latencies;
+    private final long errors;
+    private final double throughput;
+
+    /**
+     * Build stats from a latency histogram snapshot
+     * @param name operation name (e.g. "GET /users/{id}")
+     * @param latencies recorded latencies
+     * @param errors number of failed calls
+     * @param measuredSeconds length of the measured window in seconds
+     */
+    OperationStats(String name, LatencySnapshot latencies, long errors, double measuredSeconds) {
+        this.name = name;
+        this.latencies = latencies;
+        this.errors = errors;
+        this.throughput = measuredSeconds > 0 ? latencies.getCount() / measuredSeconds : 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get number of completed calls (successful and failed)
+     * @return call count
+     */
+    public long getCount() {
+        return latencies.getCount();
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get fraction of calls that failed
+     * @return error rate between 0 and 1
+     */
+    public double getErrorRate() {
+        return getCount() == 0 ? 0 : (double) errors / getCount();
+    }
+
+    /**
+     * Get completed calls per second over the measured window
+     * @return throughput in calls per second
+     */
+    public double getThroughput() {
+        return throughput;
+    }
+
+    /**
+     * Get the latency histogram snapshot for arbitrary percentile queries
+     * @return LatencySnapshot of the operation
+     */
+    public LatencySnapshot getLatencies() {
+        return latencies;
+    }
+
+    public double getMeanMillis() {
+        return latencies.getMeanMillis();
+    }
+
+    public double getMinMillis() {
+        return latencies.getMinMillis();
+    }
+
+    public double getP50Millis() {
+        return latencies.getP50Millis();
+    }
+
+    public double getP90Millis() {
+        return latencies.getP90Millis();
+    }
+
+    public double getP95Millis() {
+        return latencies.getP95Millis();
+    }
+
+    public double getP99Millis() {
+        return latencies.getP99Millis();
+    }
+
+    public double getP999Millis() {
+        return latencies.getP999Millis();
+    }
+
+    public double getMaxMillis() {
+        return latencies.getMaxMillis();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: errors=%d, throughput=%.1f/s, %s", name, errors, throughput, latencies);
+    }
+}
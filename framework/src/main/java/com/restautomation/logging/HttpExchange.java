@@ -0,0 +1,105 @@
+package com.restautomation.logging;
+
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpExchange - One captured request/response pair. Only references are kept when the call
+ * is made; headers and bodies are formatted when render() is called. It lives only while the
+ * call is logged; HttpExchangeBuffer keeps the rendered text, not the response.
+ */
+public class HttpExchange {
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private final String method;
+    private final String uri;
+    private final Headers requestHeaders;
+    private final Object requestBody;
+    private final Response response;
+
+    HttpExchange(FilterableRequestSpecification requestSpec, Response response) {
+        this(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getHeaders(), requestSpec.getBody(), response);
+    }
+
+    /**
+     * Capture an exchange sent outside RestAssured's filter chain
+     * @param method HTTP method
+     * @param uri request URI
+     * @param requestHeaders request headers
+     * @param requestBody request body as sent (may be null)
+     * @param response response
+     */
+    public HttpExchange(String method, String uri, Headers requestHeaders, Object requestBody, Response response) {
+        this.method = method;
+        this.uri = uri;
+        this.requestHeaders = requestHeaders;
+        this.requestBody = requestBody;
+        this.response = response;
+    }
+
+    /**
+     * Format method, URI, status and headers
+     * @return exchange without bodies
+     */
+    public String renderHeaders() {
+        StringBuilder sb = new StringBuilder();
+        appendHeaders(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Format the whole exchange
+     * @param maxBodyChars bodies longer than this are truncated
+     * @return exchange including bodies
+     */
+    public String render(int maxBodyChars) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(">>> ").append(method).append(' ').append(uri).append(NEW_LINE);
+        appendHeaderLines(sb, requestHeaders);
+        if (requestBody != null) {
+            appendBody(sb, String.valueOf(requestBody), maxBodyChars);
+        }
+        sb.append("<<< ").append(response.getStatusLine())
+                .append(" (").append(response.getTimeIn(TimeUnit.MILLISECONDS)).append(" ms)").append(NEW_LINE);
+        appendHeaderLines(sb, response.getHeaders());
+        String body;
+        try {
+            body = response.asString();
+        } catch (RuntimeException e) {
+            // Streamed bodies are consumed by the caller
+            body = "<body not available: " + e.getMessage() + ">";
+        }
+        if (body != null && !body.isEmpty()) {
+            appendBody(sb, body, maxBodyChars);
+        }
+        return sb.toString();
+    }
+
+    private void appendHeaders(StringBuilder sb) {
+        sb.append(method).append(' ').append(uri).append(" -> ").append(response.getStatusLine())
+                .append(" (").append(response.getTimeIn(TimeUnit.MILLISECONDS)).append(" ms)").append(NEW_LINE);
+        sb.append("Request headers:").append(NEW_LINE);
+        appendHeaderLines(sb, requestHeaders);
+        sb.append("Response headers:").append(NEW_LINE);
+        appendHeaderLines(sb, response.getHeaders());
+    }
+
+    private static void appendHeaderLines(StringBuilder sb, Headers headers) {
+        headers.forEach(header -> sb.append("    ").append(header.getName()).append(": ")
+                .append(header.getValue()).append(NEW_LINE));
+    }
+
+    private static void appendBody(StringBuilder sb, String body, int maxBodyChars) {
+        sb.append(NEW_LINE);
+        if (body.length() > maxBodyChars) {
+            sb.append(body, 0, maxBodyChars).append(NEW_LINE)
+                    .append("... (").append(body.length() - maxBodyChars).append(" more characters)");
+        } else {
+            sb.append(body);
+        }
+        sb.append(NEW_LINE);
+    }
+}
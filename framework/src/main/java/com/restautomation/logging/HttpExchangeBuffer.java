@@ -0,0 +1,102 @@
+package com.restautomation.logging;
+
+import com.restautomation.config.ConfigManager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * HttpExchangeBuffer - Bounded per-thread ring buffer of the latest HTTP exchanges of the running
+ * test, kept as text rendered with http.log.maxBodyChars so no response outlives its call.
+ * TestListener starts it when a test starts, clears it when the test passes and renders it when
+ * the test fails; threads without a started test, such as load test workers, buffer nothing.
+ * Requests completing on other threads (async calls) add to the buffer of the thread that sent
+ * them, obtained with current() when the request is made.
+ */
+public final class HttpExchangeBuffer {
+    private static final int CAPACITY = ConfigManager.getInstance().getHttpLogBufferSize();
+    private static final int MAX_BODY_CHARS = ConfigManager.getInstance().getHttpLogMaxBodyChars();
+    private static final ThreadLocal<HttpExchangeBuffer> BUFFERS = ThreadLocal.withInitial(HttpExchangeBuffer::new);
+
+    private final Deque<String> exchanges = new ArrayDeque<>(CAPACITY);
+    private boolean active;
+
+    private HttpExchangeBuffer() {
+        // One instance per thread, see current()
+    }
+
+    /**
+     * Get the buffer of the calling thread
+     * @return HttpExchangeBuffer instance
+     */
+    public static HttpExchangeBuffer current() {
+        return BUFFERS.get();
+    }
+
+    /**
+     * Keep an exchange while a test is running on the thread, dropping the oldest when the buffer is full
+     * @param exchange captured exchange
+     */
+    synchronized void add(HttpExchange exchange) {
+        if (!active) {
+            return;
+        }
+        if (exchanges.size() >= CAPACITY) {
+            exchanges.removeFirst();
+        }
+        exchanges.addLast(exchange.render(MAX_BODY_CHARS));
+    }
+
+    /**
+     * Start buffering the exchanges of the test running on this thread, dropping earlier ones
+     */
+    public static void start() {
+        HttpExchangeBuffer buffer = current();
+        synchronized (buffer) {
+            buffer.exchanges.clear();
+            buffer.active = true;
+        }
+    }
+
+    /**
+     * Get number of exchanges buffered on this thread
+     * @return buffered exchange count
+     */
+    public static int size() {
+        HttpExchangeBuffer buffer = current();
+        synchronized (buffer) {
+            return buffer.exchanges.size();
+        }
+    }
+
+    /**
+     * Drop the exchanges buffered on this thread and stop buffering until the next start()
+     */
+    public static void clear() {
+        HttpExchangeBuffer buffer = current();
+        synchronized (buffer) {
+            buffer.exchanges.clear();
+            buffer.active = false;
+        }
+    }
+
+    /**
+     * Render the exchanges buffered on this thread, oldest first, and clear the buffer as clear() does
+     * @return rendered exchanges, or an empty string when nothing was captured
+     */
+    public static String renderAndClear() {
+        HttpExchangeBuffer buffer = current();
+        synchronized (buffer) {
+            StringBuilder sb = new StringBuilder();
+            int number = 1;
+            for (String exchange : buffer.exchanges) {
+                sb.append("--- HTTP call ").append(number++).append(" of ").append(buffer.exchanges.size())
+                        .append(" ---").append(System.lineSeparator())
+                        .append(exchange);
+            }
+            buffer.exchanges.clear();
+            buffer.active = false;
+            return sb.toString();
+        }
+    }
+}
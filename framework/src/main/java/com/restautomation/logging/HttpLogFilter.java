@@ -0,0 +1,78 @@
+package com.restautomation.logging;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.utils.LoggerUtil;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * HttpLogFilter - RestAssured filter logging calls according to an HttpLogMode. Apart from
+ * SAMPLED calls and HEADERS mode nothing is formatted while the test runs; exchanges are
+ * buffered per test and rendered by TestListener only when the test fails. Requests sent without
+ * RestAssured, such as the async ones, are passed to log() directly.
+ */
+public class HttpLogFilter implements Filter {
+    private final HttpLogMode mode;
+    private final double sampleRate;
+    private final int maxBodyChars;
+
+    /**
+     * Create a filter for the configured http.log.mode
+     */
+    public HttpLogFilter() {
+        this(ConfigManager.getInstance().getHttpLogMode(), ConfigManager.getInstance().getHttpLogSampleRate(),
+                ConfigManager.getInstance().getHttpLogMaxBodyChars());
+    }
+
+    /**
+     * Create a filter for a mode
+     * @param mode logging mode; for RestAssured calls FULL is handled by RestAssured's own logging filters
+     * @param sampleRate fraction of calls logged in full in SAMPLED mode
+     * @param maxBodyChars bodies longer than this are truncated when rendered
+     */
+    public HttpLogFilter(HttpLogMode mode, double sampleRate, int maxBodyChars) {
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+        this.maxBodyChars = maxBodyChars;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        log(new HttpExchange(requestSpec, response), HttpExchangeBuffer.current());
+        return response;
+    }
+
+    /**
+     * Log or buffer an exchange according to the mode
+     * @param exchange captured exchange
+     * @param buffer buffer of the test thread that sent the request
+     */
+    public void log(HttpExchange exchange, HttpExchangeBuffer buffer) {
+        switch (mode) {
+            case HEADERS:
+                LoggerUtil.info("HTTP call:{}{}", System.lineSeparator(), exchange.renderHeaders());
+                break;
+            case SAMPLED:
+                if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                    LoggerUtil.info("Sampled HTTP call:{}{}", System.lineSeparator(), exchange.render(maxBodyChars));
+                }
+                buffer.add(exchange);
+                break;
+            case ON_FAILURE:
+                buffer.add(exchange);
+                break;
+            case FULL:
+                LoggerUtil.info("HTTP call:{}{}", System.lineSeparator(), exchange.render(Integer.MAX_VALUE));
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.restautomation.logging;
+
+/**
+ * HttpLogMode - How much of each HTTP request/response is logged (http.log.mode)
+ */
+public enum HttpLogMode {
+    /** Nothing is logged */
+    OFF,
+    /** Method, URI, status and headers of every call; bodies are never rendered */
+    HEADERS,
+    /** Calls are kept in a bounded per-test buffer and rendered only if the test fails */
+    ON_FAILURE,
+    /** Like ON_FAILURE, and a fraction of calls (http.log.sampleRate) is also logged in full */
+    SAMPLED,
+    /** Every request and response is logged in full, as RestAssured LogDetail.ALL */
+    FULL;
+
+    /**
+     * Parse a mode name, ignoring case and dashes
+     * @param value mode name, e.g. "on-failure"
+     * @return HttpLogMode for the name
+     */
+    public static HttpLogMode fromString(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown HTTP log mode: " + value
+                    + " (expected OFF, HEADERS, ON_FAILURE, SAMPLED or FULL)", e);
+        }
+    }
+}
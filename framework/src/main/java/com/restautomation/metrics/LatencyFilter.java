@@ -0,0 +1,94 @@
+package com.restautomation.metrics;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * LatencyFilter - RestAssured filter recording each call into the LatencyRegistry under its
+ * endpoint template (the path before path parameters are substituted), and into the
+ * TestMetrics of the running test
+ */
+public class LatencyFilter implements Filter {
+    private final boolean measureResponseBody;
+
+    /**
+     * Create a filter that measures response bodies without a Content-Length by reading them
+     */
+    public LatencyFilter() {
+        this(true);
+    }
+
+    /**
+     * Create a filter
+     * @param measureResponseBody false for streamed responses, whose body must not be read here
+     */
+    public LatencyFilter(boolean measureResponseBody) {
+        this.measureResponseBody = measureResponseBody;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long startMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long latencyNanos = System.nanoTime() - start;
+        record(requestSpec.getMethod(), requestSpec.getUserDefinedPath(), response.getStatusCode(), startMillis,
+                latencyNanos, bytesSent(requestSpec), bytesReceived(response), TestMetrics.current(),
+                Thread.currentThread().getName());
+        return response;
+    }
+
+    /**
+     * Record a call into the LatencyRegistry and the TestMetrics of the test that made it; also
+     * used for calls sent outside RestAssured's filter chain, such as the async ones
+     * @param method HTTP method
+     * @param endpoint endpoint template
+     * @param statusCode response status code
+     * @param startMillis wall-clock start of the call
+     * @param latencyNanos latency of the call
+     * @param bytesSent request body size, -1 if unknown
+     * @param bytesReceived response body size, -1 if unknown
+     * @param metrics metrics of the test that made the call (may be null)
+     * @param thread name of the thread that made the call
+     */
+    public static void record(String method, String endpoint, int statusCode, long startMillis, long latencyNanos,
+                              long bytesSent, long bytesReceived, TestMetrics metrics, String thread) {
+        LatencyRegistry.getInstance().record(method, endpoint, latencyNanos);
+        if (metrics != null) {
+            metrics.record(new RequestTiming(LatencyRegistry.key(method, endpoint), statusCode, startMillis, latencyNanos,
+                    bytesSent, bytesReceived, thread));
+        }
+    }
+
+    private static long bytesSent(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8).length;
+        }
+        return -1;
+    }
+
+    private long bytesReceived(Response response) {
+        String contentLength = response.getHeader("Content-Length");
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                // Fall through to the body
+            }
+        }
+        return measureResponseBody ? response.asByteArray().length : -1;
+    }
+}
@@ -0,0 +1,95 @@
+package com.restautomation.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram - Lock-free, fixed-memory latency histogram in the style of HdrHistogram.
+ * Values are recorded in microseconds into log-linear buckets: exact below 128 µs, then 64
+ * linear sub-buckets per power of two, which keeps the relative error under 1.6% for any
+ * value up to about 19 hours. Memory stays at BUCKET_COUNT = 1,984 counters
+ * (128 exact values plus 29 powers of two of 64) however many samples are recorded.
+ */
+public class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 7;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    static final long MAX_VALUE_MICROS = (1L << 36) - 1;
+    static final int BUCKET_COUNT = indexFor(MAX_VALUE_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record one latency sample
+     * @param latencyNanos latency in nanoseconds
+     */
+    public void recordNanos(long latencyNanos) {
+        long micros = Math.min(Math.max(latencyNanos / 1_000, 0), MAX_VALUE_MICROS);
+        counts.incrementAndGet(indexFor(micros));
+        totalMicros.addAndGet(micros);
+        // Read before CAS so the common case (no new extreme) does not contend
+        if (micros < minMicros.get()) {
+            minMicros.accumulateAndGet(micros, Math::min);
+        }
+        if (micros > maxMicros.get()) {
+            maxMicros.accumulateAndGet(micros, Math::max);
+        }
+    }
+
+    /**
+     * Take a point-in-time copy of the histogram for percentile queries
+     * @return LatencySnapshot of the recorded samples
+     */
+    public LatencySnapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long min = count == 0 ? 0 : minMicros.get();
+        return new LatencySnapshot(copy, count, totalMicros.get(), min, maxMicros.get());
+    }
+
+    /**
+     * Clear all recorded samples
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalMicros.set(0);
+        minMicros.set(Long.MAX_VALUE);
+        maxMicros.set(0);
+    }
+
+    /**
+     * Get bucket index for a value
+     * @param micros value in microseconds
+     * @return bucket index
+     */
+    static int indexFor(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (int) ((micros >>> shift) - SUB_BUCKET_HALF);
+    }
+
+    /**
+     * Get highest value that falls into a bucket
+     * @param index bucket index
+     * @return upper bound of the bucket in microseconds
+     */
+    static long highestValueFor(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,125 @@
+package com.restautomation.metrics;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * LatencyRegistry - Process-wide latency histograms keyed by HTTP method and endpoint template
+ * (e.g. "GET /users/{id}"). BaseAPI records every call; the summary is exported at suite end.
+ */
+public class LatencyRegistry {
+    private static final LatencyRegistry INSTANCE = new LatencyRegistry();
+    private static final String SUMMARY_FILE = "latency-summary.txt";
+
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private LatencyRegistry() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get the shared registry
+     * @return LatencyRegistry instance
+     */
+    public static LatencyRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record the latency of one call
+     * @param method HTTP method
+     * @param endpoint endpoint template or URL; scheme, host and query string are dropped
+     * @param latencyNanos latency in nanoseconds
+     */
+    public void record(String method, String endpoint, long latencyNanos) {
+        histograms.computeIfAbsent(key(method, endpoint), k -> new LatencyHistogram()).recordNanos(latencyNanos);
+    }
+
+    /**
+     * Get snapshot for one endpoint
+     * @param method HTTP method
+     * @param endpoint endpoint template or URL
+     * @return LatencySnapshot, empty when the endpoint was never called
+     */
+    public LatencySnapshot getSnapshot(String method, String endpoint) {
+        LatencyHistogram histogram = histograms.get(key(method, endpoint));
+        return histogram == null ? new LatencyHistogram().snapshot() : histogram.snapshot();
+    }
+
+    /**
+     * Get snapshots of all endpoints, sorted by key
+     * @return map of "METHOD /template" to snapshot
+     */
+    public Map<String, LatencySnapshot> getSnapshots() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        histograms.forEach((key, histogram) -> snapshots.put(key, histogram.snapshot()));
+        return snapshots;
+    }
+
+    /**
+     * Clear all recorded latencies
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Log the latency summary and write it to latency-summary.txt in report.dir
+     * @return path of the written summary, or null when nothing was recorded
+     */
+    public Path exportSummary() {
+        Map<String, LatencySnapshot> snapshots = getSnapshots();
+        if (snapshots.isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(String.format("%-50s %8s %10s %10s %10s %10s %10s%n",
+                "Endpoint", "Count", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        snapshots.forEach((key, snapshot) -> sb.append(String.format("%-50s %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                key, snapshot.getCount(), snapshot.getP50Millis(), snapshot.getP90Millis(),
+                snapshot.getP99Millis(), snapshot.getP999Millis(), snapshot.getMaxMillis())));
+        LoggerUtil.info("Endpoint latency summary:\n{}", sb);
+
+        Path path = Paths.get(ConfigManager.getInstance().getReportDir(), SUMMARY_FILE);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(path, sb.toString().getBytes(StandardCharsets.UTF_8));
+            LoggerUtil.info("Latency summary written to: {}", path);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write latency summary: {}", e.getMessage());
+        }
+        return path;
+    }
+
+    /**
+     * Build histogram key from method and endpoint
+     * @param method HTTP method
+     * @param endpoint endpoint template or URL
+     * @return key such as "GET /users/{id}"
+     */
+    public static String key(String method, String endpoint) {
+        String path = endpoint == null ? "" : endpoint;
+        int schemeEnd = path.indexOf("://");
+        if (schemeEnd >= 0) {
+            int pathStart = path.indexOf('/', schemeEnd + 3);
+            path = pathStart < 0 ? "" : path.substring(pathStart);
+        }
+        int queryStart = path.indexOf('?');
+        if (queryStart >= 0) {
+            path = path.substring(0, queryStart);
+        }
+        if (!path.startsWith("/")) {
+            path = "/" + path;
+        }
+        return method.toUpperCase() + " " + path;
+    }
+}
@@ -0,0 +1,105 @@
+package com.restautomation.metrics;
+
+/**
+ * LatencySnapshot - Immutable copy of a LatencyHistogram used for percentile queries
+ */
+public class LatencySnapshot {
+    private final long[] counts;
+    private final long count;
+    private final long totalMicros;
+    private final long minMicros;
+    private final long maxMicros;
+
+    LatencySnapshot(long[] counts, long count, long totalMicros, long minMicros, long maxMicros) {
+        this.counts = counts;
+        this.count = count;
+        this.totalMicros = totalMicros;
+        this.minMicros = minMicros;
+        this.maxMicros = maxMicros;
+    }
+
+    /**
+     * Get number of recorded samples
+     * @return sample count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get latency at a percentile (nearest rank, bucket upper bound capped at the recorded max)
+     * @param percentile percentile between 0 and 100, e.g. 99.9
+     * @return latency in milliseconds, 0 when nothing was recorded
+     */
+    public double getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        return getValueAtRank((long) Math.ceil(percentile / 100.0 * count));
+    }
+
+    /**
+     * Get the latency of the n-th smallest sample (bucket upper bound capped at the recorded max)
+     * @param rank 1-based rank, clamped to [1, count]
+     * @return latency in milliseconds, 0 when nothing was recorded
+     */
+    public double getValueAtRank(long rank) {
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, Math.min(rank, count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return toMillis(Math.max(minMicros, Math.min(LatencyHistogram.highestValueFor(i), maxMicros)));
+            }
+        }
+        return toMillis(maxMicros);
+    }
+
+    public double getMeanMillis() {
+        return count == 0 ? 0 : toMillis(totalMicros) / count;
+    }
+
+    public double getMinMillis() {
+        return toMillis(minMicros);
+    }
+
+    public double getMaxMillis() {
+        return toMillis(maxMicros);
+    }
+
+    public double getP50Millis() {
+        return getValueAtPercentile(50);
+    }
+
+    public double getP90Millis() {
+        return getValueAtPercentile(90);
+    }
+
+    public double getP95Millis() {
+        return getValueAtPercentile(95);
+    }
+
+    public double getP99Millis() {
+        return getValueAtPercentile(99);
+    }
+
+    public double getP999Millis() {
+        return getValueAtPercentile(99.9);
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.1fms, p50=%.1fms, p90=%.1fms, p99=%.1fms, p99.9=%.1fms, max=%.1fms",
+                count, getMeanMillis(), getP50Millis(), getP90Millis(), getP99Millis(), getP999Millis(), getMaxMillis());
+    }
+}
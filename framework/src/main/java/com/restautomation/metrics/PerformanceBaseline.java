@@ -0,0 +1,163 @@
+package com.restautomation.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.restautomation.utils.JsonUtil;
+import com.restautomation.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * PerformanceBaseline - Per-test durations and per-endpoint median latencies of the last runs,
+ * kept on local disk (perf-baseline.json in perf.baseline.dir) so a run can be compared with
+ * the builds before it. CI keeps the baseline by caching that directory.
+ */
+public class PerformanceBaseline {
+    public static final String FILE_NAME = "perf-baseline.json";
+    private static final int VERSION = 1;
+    private static final ObjectMapper objectMapper = JsonUtil.getMapper();
+
+    private final Path file;
+    private final int maxRuns;
+    private final Map<String, List<Double>> tests = new TreeMap<>();
+    private final Map<String, List<Double>> endpoints = new TreeMap<>();
+    private int runs;
+
+    private PerformanceBaseline(Path file, int maxRuns) {
+        this.file = file;
+        this.maxRuns = maxRuns;
+    }
+
+    /**
+     * Load the baseline of a directory; a missing or unreadable file gives an empty baseline
+     * @param directory baseline directory
+     * @param maxRuns number of runs kept per test and endpoint
+     * @return PerformanceBaseline instance
+     */
+    public static PerformanceBaseline load(Path directory, int maxRuns) {
+        PerformanceBaseline baseline = new PerformanceBaseline(directory.resolve(FILE_NAME), maxRuns);
+        if (!Files.exists(baseline.file)) {
+            LoggerUtil.info("No performance baseline at {}, starting a new one", baseline.file);
+            return baseline;
+        }
+        try {
+            JsonNode root = objectMapper.readTree(baseline.file.toFile());
+            if (root.path("version").asInt() != VERSION) {
+                LoggerUtil.warn("Ignoring performance baseline with unsupported version: {}", baseline.file);
+                return baseline;
+            }
+            baseline.runs = root.path("runs").asInt();
+            readHistories(root.path("tests"), baseline.tests);
+            readHistories(root.path("endpoints"), baseline.endpoints);
+            LoggerUtil.info("Loaded performance baseline of {} runs: {} tests, {} endpoints",
+                    baseline.runs, baseline.tests.size(), baseline.endpoints.size());
+        } catch (IOException e) {
+            LoggerUtil.warn("Ignoring unreadable performance baseline {}: {}", baseline.file, e.getMessage());
+        }
+        return baseline;
+    }
+
+    private static void readHistories(JsonNode node, Map<String, List<Double>> histories) {
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            List<Double> history = new ArrayList<>(field.getValue().size());
+            field.getValue().forEach(value -> history.add(value.asDouble()));
+            histories.put(field.getKey(), history);
+        }
+    }
+
+    /**
+     * Get ids of all tests in the baseline
+     * @return test ids, sorted
+     */
+    public Set<String> getTestIds() {
+        return Collections.unmodifiableSet(tests.keySet());
+    }
+
+    /**
+     * Get previous durations of a test
+     * @param testId test id
+     * @return durations in milliseconds, oldest first; empty for a new test
+     */
+    public List<Double> getTestHistory(String testId) {
+        return Collections.unmodifiableList(tests.getOrDefault(testId, Collections.emptyList()));
+    }
+
+    /**
+     * Get previous median latencies of an endpoint
+     * @param endpoint endpoint key such as "GET /users/{id}"
+     * @return median latencies in milliseconds, oldest first; empty for a new endpoint
+     */
+    public List<Double> getEndpointHistory(String endpoint) {
+        return Collections.unmodifiableList(endpoints.getOrDefault(endpoint, Collections.emptyList()));
+    }
+
+    /**
+     * Get number of runs added so far
+     * @return run count
+     */
+    public int getRuns() {
+        return runs;
+    }
+
+    /**
+     * Add the values of a finished run, dropping values older than maxRuns
+     * @param testDurations test id to duration in milliseconds
+     * @param endpointMedians endpoint key to median latency in milliseconds
+     */
+    public void addRun(Map<String, Double> testDurations, Map<String, Double> endpointMedians) {
+        append(tests, testDurations);
+        append(endpoints, endpointMedians);
+        runs++;
+    }
+
+    private void append(Map<String, List<Double>> histories, Map<String, Double> values) {
+        values.forEach((key, value) -> {
+            List<Double> history = histories.computeIfAbsent(key, k -> new ArrayList<>());
+            history.add(value);
+            if (history.size() > maxRuns) {
+                history.subList(0, history.size() - maxRuns).clear();
+            }
+        });
+    }
+
+    /**
+     * Write the baseline, replacing the previous file atomically
+     */
+    public void save() {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("version", VERSION);
+        root.put("runs", runs);
+        writeHistories(root.putObject("tests"), tests);
+        writeHistories(root.putObject("endpoints"), endpoints);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), root);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LoggerUtil.info("Performance baseline written to: {}", file);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write performance baseline {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static void writeHistories(ObjectNode node, Map<String, List<Double>> histories) {
+        histories.forEach((key, history) -> {
+            ArrayNode values = node.putArray(key);
+            history.forEach(value -> values.add(Math.round(value * 1000) / 1000.0));
+        });
+    }
+}
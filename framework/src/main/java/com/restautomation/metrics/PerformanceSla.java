@@ -0,0 +1,213 @@
+package com.restautomation.metrics;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PerformanceSla - Latency percentile, error rate and throughput targets for an endpoint.
+ * Used by ResponseValidator.validatePerformance / validateSla, e.g. "p99 &lt; 300 ms at 50 rps":
+ *
+ * <pre>
+ * PerformanceSla sla = PerformanceSla.builder()
+ *         .percentile(99, 300)
+ *         .maxErrorRate(0.01)
+ *         .rate(50)
+ *         .samples(1000)
+ *         .build();
+ * </pre>
+ */
+public class PerformanceSla {
+    private final Map<Double, Double> percentiles;
+    private final double maxErrorRate;
+    private final double minThroughput;
+    private final double rate;
+    private final int samples;
+    private final Duration warmUp;
+
+    private PerformanceSla(Builder builder) {
+        this.percentiles = Collections.unmodifiableMap(new LinkedHashMap<>(builder.percentiles));
+        this.maxErrorRate = builder.maxErrorRate;
+        this.minThroughput = builder.minThroughput;
+        this.rate = builder.rate;
+        this.samples = builder.samples;
+        this.warmUp = builder.warmUp;
+    }
+
+    /**
+     * Create a builder for an SLA
+     * @return Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get latency limits
+     * @return map of percentile (e.g. 99.0) to maximum latency in milliseconds
+     */
+    public Map<Double, Double> getPercentiles() {
+        return percentiles;
+    }
+
+    /**
+     * Get maximum allowed error rate
+     * @return error rate between 0 and 1; 1 disables the check
+     */
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    /**
+     * Get minimum required throughput
+     * @return calls per second; 0 disables the check
+     */
+    public double getMinThroughput() {
+        return minThroughput;
+    }
+
+    /**
+     * Get arrival rate used when the SLA drives the endpoint
+     * @return calls per second; 0 means calls are sent one after another
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Get number of measured calls when the SLA drives the endpoint
+     * @return sample count
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * Get warm-up period whose calls are not measured
+     * @return warm-up duration
+     */
+    public Duration getWarmUp() {
+        return warmUp;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("SLA[");
+        percentiles.forEach((percentile, maxMillis) ->
+                sb.append(String.format("p%s<%.0fms, ", formatPercentile(percentile), maxMillis)));
+        sb.append(String.format("errorRate<=%.2f%%", maxErrorRate * 100));
+        if (minThroughput > 0) {
+            sb.append(String.format(", throughput>=%.1f/s", minThroughput));
+        }
+        if (rate > 0) {
+            sb.append(String.format(" at %.1f rps", rate));
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Format a percentile without a trailing ".0", e.g. 99 or 99.9
+     * @param percentile percentile
+     * @return formatted percentile
+     */
+    public static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    /**
+     * Builder - Fluent configuration for a PerformanceSla
+     */
+    public static final class Builder {
+        private final Map<Double, Double> percentiles = new LinkedHashMap<>();
+        private double maxErrorRate = 1.0;
+        private double minThroughput;
+        private double rate;
+        private int samples = 100;
+        private Duration warmUp = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        /**
+         * Require a latency percentile to stay below a limit
+         * @param percentile percentile between 0 and 100 (exclusive), e.g. 99 or 99.9
+         * @param maxMillis maximum latency in milliseconds
+         * @return this builder
+         */
+        public Builder percentile(double percentile, double maxMillis) {
+            if (percentile <= 0 || percentile >= 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+            }
+            percentiles.put(percentile, maxMillis);
+            return this;
+        }
+
+        /**
+         * Set maximum allowed fraction of failed calls
+         * @param maxErrorRate error rate between 0 and 1
+         * @return this builder
+         */
+        public Builder maxErrorRate(double maxErrorRate) {
+            if (maxErrorRate < 0 || maxErrorRate > 1) {
+                throw new IllegalArgumentException("Error rate must be between 0 and 1: " + maxErrorRate);
+            }
+            this.maxErrorRate = maxErrorRate;
+            return this;
+        }
+
+        /**
+         * Set minimum completed calls per second
+         * @param minThroughput calls per second
+         * @return this builder
+         */
+        public Builder minThroughput(double minThroughput) {
+            this.minThroughput = minThroughput;
+            return this;
+        }
+
+        /**
+         * Drive the endpoint at a constant arrival rate instead of one call at a time
+         * @param callsPerSecond arrival rate
+         * @return this builder
+         */
+        public Builder rate(double callsPerSecond) {
+            if (callsPerSecond <= 0) {
+                throw new IllegalArgumentException("Rate must be positive");
+            }
+            this.rate = callsPerSecond;
+            return this;
+        }
+
+        /**
+         * Set number of measured calls
+         * @param samples sample count
+         * @return this builder
+         */
+        public Builder samples(int samples) {
+            if (samples <= 0) {
+                throw new IllegalArgumentException("Samples must be positive");
+            }
+            this.samples = samples;
+            return this;
+        }
+
+        /**
+         * Set warm-up period whose calls are not measured
+         * @param warmUp warm-up duration
+         * @return this builder
+         */
+        public Builder warmUp(Duration warmUp) {
+            this.warmUp = warmUp;
+            return this;
+        }
+
+        /**
+         * Build the SLA
+         * @return PerformanceSla instance
+         */
+        public PerformanceSla build() {
+            return new PerformanceSla(this);
+        }
+    }
+}
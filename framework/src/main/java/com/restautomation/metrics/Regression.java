@@ -0,0 +1,127 @@
+package com.restautomation.metrics;
+
+import java.util.Locale;
+
+/**
+ * Regression - A test or endpoint that got slower than its baseline from previous runs
+ */
+public class Regression {
+    /**
+     * Kind - What was timed
+     */
+    public enum Kind {
+        TEST,
+        ENDPOINT
+    }
+
+    private final Kind kind;
+    private final String key;
+    private final double currentMillis;
+    private final double medianMillis;
+    private final double madMillis;
+    private final double p90Millis;
+    private final int runs;
+    private final boolean failing;
+
+    /**
+     * Create a regression
+     * @param kind test duration or endpoint median latency
+     * @param key test id or endpoint key
+     * @param currentMillis value of this run
+     * @param medianMillis median of previous runs
+     * @param madMillis median absolute deviation of previous runs
+     * @param p90Millis 90th percentile of previous runs
+     * @param runs number of previous runs
+     * @param failing true if the slowdown exceeds the fail threshold
+     */
+    public Regression(Kind kind, String key, double currentMillis, double medianMillis, double madMillis,
+                      double p90Millis, int runs, boolean failing) {
+        this.kind = kind;
+        this.key = key;
+        this.currentMillis = currentMillis;
+        this.medianMillis = medianMillis;
+        this.madMillis = madMillis;
+        this.p90Millis = p90Millis;
+        this.runs = runs;
+        this.failing = failing;
+    }
+
+    /**
+     * Get what was timed
+     * @return TEST or ENDPOINT
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Get the regressed test or endpoint
+     * @return test id or endpoint key such as "GET /users/{id}"
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Get value of this run
+     * @return milliseconds
+     */
+    public double getCurrentMillis() {
+        return currentMillis;
+    }
+
+    /**
+     * Get baseline median
+     * @return milliseconds
+     */
+    public double getMedianMillis() {
+        return medianMillis;
+    }
+
+    /**
+     * Get baseline median absolute deviation
+     * @return milliseconds
+     */
+    public double getMadMillis() {
+        return madMillis;
+    }
+
+    /**
+     * Get baseline 90th percentile
+     * @return milliseconds
+     */
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    /**
+     * Get number of previous runs in the baseline
+     * @return run count
+     */
+    public int getRuns() {
+        return runs;
+    }
+
+    /**
+     * Get relative slowdown against the baseline median
+     * @return e.g. 0.3 for 30% slower
+     */
+    public double getChange() {
+        return medianMillis > 0 ? currentMillis / medianMillis - 1 : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Check if the regression should fail the build
+     * @return true if the slowdown exceeds perf.regression.failThreshold
+     */
+    public boolean isFailing() {
+        return failing;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s %s: %.1f ms vs median %.1f ms (%+.0f%%, MAD %.1f ms, p90 %.1f ms, %d runs)%s",
+                kind, key, currentMillis, medianMillis, getChange() * 100, madMillis, p90Millis, runs,
+                failing ? " FAILING" : "");
+    }
+}
@@ -0,0 +1,156 @@
+package com.restautomation.metrics;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * RegressionDetector - Compares the timings TestListener sees with the PerformanceBaseline of
+ * previous runs. Passed test durations are checked as each test finishes; median endpoint
+ * latencies are checked when the run finishes, after which the run is added to the baseline
+ * and the regressions are written to perf-regressions.txt in report.dir.
+ */
+public class RegressionDetector {
+    private static final String REPORT_FILE = "perf-regressions.txt";
+    private static final RegressionDetector INSTANCE = new RegressionDetector();
+
+    private final ConcurrentMap<String, Double> testDurations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> endpointLatencies = new ConcurrentHashMap<>();
+    private Path directory;
+    private RegressionPolicy policy;
+    private PerformanceBaseline baseline;
+
+    private RegressionDetector() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get the shared detector
+     * @return RegressionDetector instance
+     */
+    public static RegressionDetector getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Use another baseline directory and policy instead of the configured ones; discards the current run
+     * @param directory baseline directory, or null for perf.baseline.dir
+     * @param policy regression policy, or null for the configured policy
+     */
+    public synchronized void configure(Path directory, RegressionPolicy policy) {
+        this.directory = directory;
+        this.policy = policy;
+        this.baseline = null;
+        testDurations.clear();
+        endpointLatencies.clear();
+    }
+
+    /**
+     * Add a finished test attempt to the current run
+     * @param test test performance
+     * @return regression of the test duration, or null when it passed within its baseline or did not pass
+     */
+    public Regression record(TestPerformance test) {
+        for (RequestTiming request : test.getRequests()) {
+            endpointLatencies.computeIfAbsent(request.getEndpoint(), key -> new LatencyHistogram())
+                    .recordNanos(request.getLatencyNanos());
+        }
+        if (!"PASS".equals(test.getStatus())) {
+            return null;
+        }
+        double duration = test.getDurationMillis();
+        testDurations.put(test.getTestId(), duration);
+        Regression regression = policy().evaluate(Regression.Kind.TEST, test.getTestId(), duration,
+                baseline().getTestHistory(test.getTestId()));
+        if (regression != null) {
+            LoggerUtil.warn("Performance regression: {}", regression);
+        }
+        return regression;
+    }
+
+    /**
+     * Compare the current run with the baseline, add it to the baseline and start a new run
+     * @return regressions, failing ones first, then by slowdown
+     */
+    public synchronized List<Regression> finishRun() {
+        RegressionPolicy currentPolicy = policy();
+        PerformanceBaseline currentBaseline = baseline();
+        Map<String, Double> durations = new TreeMap<>(testDurations);
+        Map<String, Double> medians = new TreeMap<>();
+        endpointLatencies.forEach((endpoint, histogram) -> medians.put(endpoint, histogram.snapshot().getP50Millis()));
+        testDurations.clear();
+        endpointLatencies.clear();
+        if (durations.isEmpty() && medians.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Regression> regressions = new ArrayList<>();
+        durations.forEach((testId, duration) -> addIfRegressed(regressions, currentPolicy.evaluate(
+                Regression.Kind.TEST, testId, duration, currentBaseline.getTestHistory(testId))));
+        medians.forEach((endpoint, median) -> addIfRegressed(regressions, currentPolicy.evaluate(
+                Regression.Kind.ENDPOINT, endpoint, median, currentBaseline.getEndpointHistory(endpoint))));
+        regressions.sort(Comparator.comparing(Regression::isFailing).reversed()
+                .thenComparing(Comparator.comparingDouble(Regression::getChange).reversed()));
+        writeReport(regressions, currentBaseline.getRuns());
+
+        if (currentPolicy.isUpdateBaseline()) {
+            currentBaseline.addRun(durations, medians);
+            currentBaseline.save();
+        }
+        return regressions;
+    }
+
+    private static void addIfRegressed(List<Regression> regressions, Regression regression) {
+        if (regression != null) {
+            regressions.add(regression);
+        }
+    }
+
+    private void writeReport(List<Regression> regressions, int baselineRuns) {
+        StringBuilder sb = new StringBuilder();
+        if (regressions.isEmpty()) {
+            sb.append("No performance regressions against a baseline of ").append(baselineRuns).append(" runs")
+                    .append(System.lineSeparator());
+            LoggerUtil.info(sb.toString().trim());
+        } else {
+            sb.append(regressions.size()).append(" performance regressions against a baseline of ")
+                    .append(baselineRuns).append(" runs:").append(System.lineSeparator());
+            regressions.forEach(regression -> sb.append(regression).append(System.lineSeparator()));
+            LoggerUtil.warn(sb.toString().trim());
+        }
+        Path path = Paths.get(ConfigManager.getInstance().getReportDir(), REPORT_FILE);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(path, sb.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write performance regressions: {}", e.getMessage());
+        }
+    }
+
+    private synchronized RegressionPolicy policy() {
+        if (policy == null) {
+            policy = RegressionPolicy.fromConfig(ConfigManager.getInstance());
+        }
+        return policy;
+    }
+
+    private synchronized PerformanceBaseline baseline() {
+        if (baseline == null) {
+            Path dir = directory != null ? directory : Paths.get(ConfigManager.getInstance().getPerfBaselineDir());
+            baseline = PerformanceBaseline.load(dir, policy().getMaxRuns());
+        }
+        return baseline;
+    }
+}
@@ -0,0 +1,253 @@
+package com.restautomation.metrics;
+
+import com.restautomation.config.ConfigManager;
+
+import java.util.List;
+
+/**
+ * RegressionPolicy - When a timing counts as a regression against its baseline. A value
+ * regresses only if it is more than madMultiplier scaled MADs and minDeltaMillis above the
+ * median of previous runs, and at least threshold (relative) slower than that median:
+ *
+ * <pre>
+ * RegressionPolicy policy = RegressionPolicy.builder()
+ *         .threshold(0.3)
+ *         .failThreshold(1.0)
+ *         .minRuns(5)
+ *         .build();
+ * </pre>
+ */
+public class RegressionPolicy {
+    private final double threshold;
+    private final double failThreshold;
+    private final double madMultiplier;
+    private final double minDeltaMillis;
+    private final int minRuns;
+    private final int maxRuns;
+    private final boolean updateBaseline;
+
+    private RegressionPolicy(Builder builder) {
+        this.threshold = builder.threshold;
+        this.failThreshold = builder.failThreshold;
+        this.madMultiplier = builder.madMultiplier;
+        this.minDeltaMillis = builder.minDeltaMillis;
+        this.minRuns = builder.minRuns;
+        this.maxRuns = builder.maxRuns;
+        this.updateBaseline = builder.updateBaseline;
+    }
+
+    /**
+     * Create a builder with the defaults
+     * @return Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create the policy configured by the perf.regression.* and perf.baseline.* properties
+     * @param config configuration
+     * @return RegressionPolicy instance
+     */
+    public static RegressionPolicy fromConfig(ConfigManager config) {
+        return builder()
+                .threshold(config.getPerfRegressionThreshold())
+                .failThreshold(config.getPerfRegressionFailThreshold())
+                .madMultiplier(config.getPerfRegressionMadMultiplier())
+                .minDeltaMillis(config.getPerfRegressionMinDeltaMillis())
+                .minRuns(config.getPerfRegressionMinRuns())
+                .maxRuns(config.getPerfBaselineRuns())
+                .updateBaseline(config.isPerfBaselineUpdateEnabled())
+                .build();
+    }
+
+    /**
+     * Compare a value with its history
+     * @param kind test duration or endpoint median latency
+     * @param key test id or endpoint key
+     * @param currentMillis value of this run
+     * @param history values of previous runs
+     * @return regression, or null when the value is within the baseline or the history is too short
+     */
+    public Regression evaluate(Regression.Kind kind, String key, double currentMillis, List<Double> history) {
+        if (history == null || history.size() < minRuns) {
+            return null;
+        }
+        double median = RobustStats.median(history);
+        double mad = RobustStats.mad(history);
+        double p90 = RobustStats.percentile(history, 90);
+        double delta = currentMillis - median;
+        if (delta < minDeltaMillis
+                || delta <= madMultiplier * RobustStats.MAD_TO_SIGMA * mad
+                || delta < threshold * median) {
+            return null;
+        }
+        boolean failing = failThreshold > 0 && delta >= failThreshold * median;
+        return new Regression(kind, key, currentMillis, median, mad, p90, history.size(), failing);
+    }
+
+    /**
+     * Get relative slowdown reported as a regression
+     * @return e.g. 0.3 for 30% slower than the median
+     */
+    public double getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Get relative slowdown failing the build
+     * @return e.g. 1.0 for twice the median; 0 never fails
+     */
+    public double getFailThreshold() {
+        return failThreshold;
+    }
+
+    /**
+     * Get number of scaled MADs a value must exceed the median by
+     * @return MAD multiplier
+     */
+    public double getMadMultiplier() {
+        return madMultiplier;
+    }
+
+    /**
+     * Get smallest absolute slowdown reported
+     * @return milliseconds
+     */
+    public double getMinDeltaMillis() {
+        return minDeltaMillis;
+    }
+
+    /**
+     * Get number of previous runs needed before a value is compared
+     * @return run count
+     */
+    public int getMinRuns() {
+        return minRuns;
+    }
+
+    /**
+     * Get number of previous runs kept in the baseline
+     * @return run count
+     */
+    public int getMaxRuns() {
+        return maxRuns;
+    }
+
+    /**
+     * Check if finished runs are added to the baseline
+     * @return false for runs that should only be compared, e.g. pull request builds
+     */
+    public boolean isUpdateBaseline() {
+        return updateBaseline;
+    }
+
+    /**
+     * Builder - Builder for RegressionPolicy
+     */
+    public static final class Builder {
+        private double threshold = 0.3;
+        private double failThreshold = 0;
+        private double madMultiplier = 3;
+        private double minDeltaMillis = 25;
+        private int minRuns = 3;
+        private int maxRuns = 10;
+        private boolean updateBaseline = true;
+
+        private Builder() {
+        }
+
+        /**
+         * Set relative slowdown reported as a regression
+         * @param threshold e.g. 0.3 for 30% slower than the median
+         * @return this builder
+         */
+        public Builder threshold(double threshold) {
+            if (threshold < 0) {
+                throw new IllegalArgumentException("Regression threshold must not be negative: " + threshold);
+            }
+            this.threshold = threshold;
+            return this;
+        }
+
+        /**
+         * Set relative slowdown failing the build
+         * @param failThreshold e.g. 1.0 for twice the median; 0 never fails
+         * @return this builder
+         */
+        public Builder failThreshold(double failThreshold) {
+            if (failThreshold < 0) {
+                throw new IllegalArgumentException("Regression fail threshold must not be negative: " + failThreshold);
+            }
+            this.failThreshold = failThreshold;
+            return this;
+        }
+
+        /**
+         * Set number of scaled MADs a value must exceed the median by
+         * @param madMultiplier MAD multiplier
+         * @return this builder
+         */
+        public Builder madMultiplier(double madMultiplier) {
+            this.madMultiplier = madMultiplier;
+            return this;
+        }
+
+        /**
+         * Set smallest absolute slowdown reported, so jitter of fast tests is ignored
+         * @param minDeltaMillis milliseconds
+         * @return this builder
+         */
+        public Builder minDeltaMillis(double minDeltaMillis) {
+            this.minDeltaMillis = minDeltaMillis;
+            return this;
+        }
+
+        /**
+         * Set number of previous runs needed before a value is compared
+         * @param minRuns run count, at least 1
+         * @return this builder
+         */
+        public Builder minRuns(int minRuns) {
+            if (minRuns < 1) {
+                throw new IllegalArgumentException("Minimum baseline runs must be positive: " + minRuns);
+            }
+            this.minRuns = minRuns;
+            return this;
+        }
+
+        /**
+         * Set number of previous runs kept in the baseline
+         * @param maxRuns run count, at least 1
+         * @return this builder
+         */
+        public Builder maxRuns(int maxRuns) {
+            if (maxRuns < 1) {
+                throw new IllegalArgumentException("Maximum baseline runs must be positive: " + maxRuns);
+            }
+            this.maxRuns = maxRuns;
+            return this;
+        }
+
+        /**
+         * Set if finished runs are added to the baseline
+         * @param updateBaseline false to only compare
+         * @return this builder
+         */
+        public Builder updateBaseline(boolean updateBaseline) {
+            this.updateBaseline = updateBaseline;
+            return this;
+        }
+
+        /**
+         * Build the policy
+         * @return RegressionPolicy instance
+         */
+        public RegressionPolicy build() {
+            if (minRuns > maxRuns) {
+                throw new IllegalStateException("Minimum baseline runs " + minRuns + " exceed the kept runs " + maxRuns);
+            }
+            return new RegressionPolicy(this);
+        }
+    }
+}
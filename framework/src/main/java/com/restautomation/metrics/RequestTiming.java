@@ -0,0 +1,99 @@
+package com.restautomation.metrics;
+
+/**
+ * RequestTiming - Latency and payload size of one HTTP call made by a test
+ */
+public class RequestTiming {
+    private final String endpoint;
+    private final int statusCode;
+    private final long startMillis;
+    private final long latencyNanos;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final String thread;
+
+    /**
+     * Create a request timing
+     * @param endpoint endpoint key such as "GET /users/{id}"
+     * @param statusCode HTTP status code
+     * @param startMillis wall-clock start time
+     * @param latencyNanos latency in nanoseconds
+     * @param bytesSent request body size, or -1 when unknown
+     * @param bytesReceived response body size, or -1 when unknown
+     * @param thread name of the thread that made the call
+     */
+    public RequestTiming(String endpoint, int statusCode, long startMillis, long latencyNanos,
+                         long bytesSent, long bytesReceived, String thread) {
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+        this.startMillis = startMillis;
+        this.latencyNanos = latencyNanos;
+        this.bytesSent = bytesSent;
+        this.bytesReceived = bytesReceived;
+        this.thread = thread;
+    }
+
+    /**
+     * Get endpoint key
+     * @return "METHOD /template" of the call
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Get HTTP status code
+     * @return status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Get wall-clock start time
+     * @return epoch milliseconds
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * Get latency
+     * @return latency in nanoseconds
+     */
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * Get latency
+     * @return latency in microseconds
+     */
+    public long getLatencyMicros() {
+        return latencyNanos / 1_000;
+    }
+
+    /**
+     * Get request body size
+     * @return bytes sent, -1 when unknown
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Get response body size
+     * @return bytes received, -1 when unknown
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Get name of the calling thread
+     * @return thread name
+     */
+    public String getThread() {
+        return thread;
+    }
+}
@@ -0,0 +1,62 @@
+package com.restautomation.metrics;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * RobustStats - Outlier-resistant statistics for small samples of run timings
+ */
+public final class RobustStats {
+    /**
+     * Scale factor making the MAD comparable to a standard deviation for normally distributed data
+     */
+    public static final double MAD_TO_SIGMA = 1.4826;
+
+    private RobustStats() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get the median
+     * @param values sample, not modified
+     * @return median, NaN for an empty sample
+     */
+    public static double median(Collection<Double> values) {
+        return percentile(values, 50);
+    }
+
+    /**
+     * Get the median absolute deviation from the median
+     * @param values sample, not modified
+     * @return MAD, NaN for an empty sample
+     */
+    public static double mad(Collection<Double> values) {
+        double median = median(values);
+        double[] deviations = values.stream().mapToDouble(value -> Math.abs(value - median)).toArray();
+        return percentile(deviations, 50);
+    }
+
+    /**
+     * Get a percentile with linear interpolation between the closest ranks
+     * @param values sample, not modified
+     * @param percentile percentile between 0 and 100
+     * @return value at the percentile, NaN for an empty sample
+     */
+    public static double percentile(Collection<Double> values, double percentile) {
+        return percentile(values.stream().mapToDouble(Double::doubleValue).toArray(), percentile);
+    }
+
+    private static double percentile(double[] sample, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (sample.length == 0) {
+            return Double.NaN;
+        }
+        Arrays.sort(sample);
+        double rank = percentile / 100.0 * (sample.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = (int) Math.ceil(rank);
+        return sample[lower] + (sample[upper] - sample[lower]) * (rank - lower);
+    }
+}
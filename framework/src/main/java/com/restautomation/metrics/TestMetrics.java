@@ -0,0 +1,128 @@
+package com.restautomation.metrics;
+
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * TestMetrics - HTTP calls made by one running test. TestListener starts and ends the metrics
+ * of each test; LatencyFilter and AsyncHttpTransport add calls to the metrics of the test that
+ * is current on the calling thread. Totals are exact; individual calls are kept up to a limit.
+ */
+public class TestMetrics {
+    private static final ConcurrentMap<ITestResult, TestMetrics> ACTIVE = new ConcurrentHashMap<>();
+
+    private final int maxRequests;
+    private final List<RequestTiming> requests = new ArrayList<>();
+    private int requestCount;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+    private long bytesSent;
+    private long bytesReceived;
+
+    /**
+     * Create empty metrics
+     * @param maxRequests individual calls kept; later calls only count towards the totals
+     */
+    public TestMetrics(int maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+
+    /**
+     * Start collecting the calls of a test
+     * @param result TestNG result of the starting test
+     * @param maxRequests individual calls kept for the test
+     * @return metrics of the test
+     */
+    public static TestMetrics start(ITestResult result, int maxRequests) {
+        TestMetrics metrics = new TestMetrics(maxRequests);
+        ACTIVE.put(result, metrics);
+        return metrics;
+    }
+
+    /**
+     * Get the metrics of the test running on the current thread
+     * @return metrics, or null outside a test started by TestListener
+     */
+    public static TestMetrics current() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result == null ? null : ACTIVE.get(result);
+    }
+
+    /**
+     * Stop collecting the calls of a test
+     * @param result TestNG result of the finished test
+     * @return metrics of the test, empty when it was never started
+     */
+    public static TestMetrics end(ITestResult result) {
+        TestMetrics metrics = ACTIVE.remove(result);
+        return metrics == null ? new TestMetrics(0) : metrics;
+    }
+
+    /**
+     * Add one call
+     * @param timing call timing
+     */
+    public synchronized void record(RequestTiming timing) {
+        requestCount++;
+        totalLatencyNanos += timing.getLatencyNanos();
+        maxLatencyNanos = Math.max(maxLatencyNanos, timing.getLatencyNanos());
+        bytesSent += Math.max(0, timing.getBytesSent());
+        bytesReceived += Math.max(0, timing.getBytesReceived());
+        if (requests.size() < maxRequests) {
+            requests.add(timing);
+        }
+    }
+
+    /**
+     * Get number of calls, including calls beyond the kept limit
+     * @return call count
+     */
+    public synchronized int getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Get summed latency of all calls
+     * @return latency in nanoseconds
+     */
+    public synchronized long getTotalLatencyNanos() {
+        return totalLatencyNanos;
+    }
+
+    /**
+     * Get latency of the slowest call
+     * @return latency in nanoseconds
+     */
+    public synchronized long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    /**
+     * Get summed request body sizes of calls with a known size
+     * @return bytes sent
+     */
+    public synchronized long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Get summed response body sizes of calls with a known size
+     * @return bytes received
+     */
+    public synchronized long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Get the kept calls
+     * @return copy of the kept calls, in the order they completed
+     */
+    public synchronized List<RequestTiming> getRequests() {
+        return new ArrayList<>(requests);
+    }
+}
@@ -0,0 +1,301 @@
+package com.restautomation.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * TestPerformance - Timing of one finished test attempt and the HTTP calls it made, as written
+ * to and read back from the performance export
+ */
+public class TestPerformance {
+    private final String suite;
+    private final String className;
+    private final String name;
+    private final String parameters;
+    private final String status;
+    private final long startMillis;
+    private final long durationMillis;
+    private final int retries;
+    private final String thread;
+    private final int requestCount;
+    private final long totalLatencyNanos;
+    private final long maxLatencyNanos;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final List<RequestTiming> requests;
+
+    private TestPerformance(Builder builder) {
+        this.suite = builder.suite;
+        this.className = builder.className;
+        this.name = builder.name;
+        this.parameters = builder.parameters;
+        this.status = builder.status;
+        this.startMillis = builder.startMillis;
+        this.durationMillis = builder.durationMillis;
+        this.retries = builder.retries;
+        this.thread = builder.thread;
+        this.requestCount = builder.requestCount;
+        this.totalLatencyNanos = builder.totalLatencyNanos;
+        this.maxLatencyNanos = builder.maxLatencyNanos;
+        this.bytesSent = builder.bytesSent;
+        this.bytesReceived = builder.bytesReceived;
+        this.requests = Collections.unmodifiableList(new ArrayList<>(builder.requests));
+    }
+
+    /**
+     * Create a builder
+     * @return Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get test identity used to match the test across runs
+     * @return "class.name" followed by the parameters, if any
+     */
+    public String getTestId() {
+        return testId(className, name, parameters);
+    }
+
+    /**
+     * Build the identity of a test
+     * @param className fully qualified class name
+     * @param name method name
+     * @param parameters data provider parameters, or null
+     * @return "class.name" followed by the parameters, if any
+     */
+    public static String testId(String className, String name, String parameters) {
+        String id = className + "." + name;
+        return parameters == null || parameters.isEmpty() ? id : id + parameters;
+    }
+
+    /**
+     * Get suite name
+     * @return suite name, may be null
+     */
+    public String getSuite() {
+        return suite;
+    }
+
+    /**
+     * Get test class name
+     * @return fully qualified class name
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Get test method name
+     * @return method name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get data provider parameters
+     * @return parameters such as "[1, Leanne]", or null
+     */
+    public String getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Get outcome
+     * @return PASS, FAIL, SKIP or RETRIED
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Get wall-clock start time
+     * @return epoch milliseconds
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * Get test duration
+     * @return duration in milliseconds
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Get number of earlier attempts of the same test in this run
+     * @return retry count, 0 for a first attempt
+     */
+    public int getRetries() {
+        return retries;
+    }
+
+    /**
+     * Get name of the thread that ran the test
+     * @return thread name
+     */
+    public String getThread() {
+        return thread;
+    }
+
+    /**
+     * Get number of HTTP calls, including calls beyond the kept limit
+     * @return call count
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Get summed latency of all calls
+     * @return latency in nanoseconds
+     */
+    public long getTotalLatencyNanos() {
+        return totalLatencyNanos;
+    }
+
+    /**
+     * Get latency of the slowest call
+     * @return latency in nanoseconds
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    /**
+     * Get summed request body sizes
+     * @return bytes sent
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Get summed response body sizes
+     * @return bytes received
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Get the kept calls
+     * @return calls in the order they completed
+     */
+    public List<RequestTiming> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Builder - Builder for TestPerformance
+     */
+    public static final class Builder {
+        private String suite;
+        private String className;
+        private String name;
+        private String parameters;
+        private String status;
+        private long startMillis;
+        private long durationMillis;
+        private int retries;
+        private String thread;
+        private int requestCount;
+        private long totalLatencyNanos;
+        private long maxLatencyNanos;
+        private long bytesSent;
+        private long bytesReceived;
+        private final List<RequestTiming> requests = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Set test identity
+         * @param suite suite name
+         * @param className test class name
+         * @param name test method name
+         * @param parameters data provider parameters, or null
+         * @return this builder
+         */
+        public Builder test(String suite, String className, String name, String parameters) {
+            this.suite = suite;
+            this.className = className;
+            this.name = name;
+            this.parameters = parameters;
+            return this;
+        }
+
+        /**
+         * Set outcome and timing
+         * @param status PASS, FAIL, SKIP or RETRIED
+         * @param startMillis wall-clock start time
+         * @param durationMillis duration in milliseconds
+         * @param retries number of earlier attempts
+         * @param thread name of the thread that ran the test
+         * @return this builder
+         */
+        public Builder outcome(String status, long startMillis, long durationMillis, int retries, String thread) {
+            this.status = status;
+            this.startMillis = startMillis;
+            this.durationMillis = durationMillis;
+            this.retries = retries;
+            this.thread = thread;
+            return this;
+        }
+
+        /**
+         * Set call totals and kept calls from the metrics collected while the test ran
+         * @param metrics test metrics
+         * @return this builder
+         */
+        public Builder metrics(TestMetrics metrics) {
+            return totals(metrics.getRequestCount(), metrics.getTotalLatencyNanos(), metrics.getMaxLatencyNanos(),
+                    metrics.getBytesSent(), metrics.getBytesReceived()).requests(metrics.getRequests());
+        }
+
+        /**
+         * Set call totals
+         * @param requestCount number of calls
+         * @param totalLatencyNanos summed latency
+         * @param maxLatencyNanos latency of the slowest call
+         * @param bytesSent summed request body sizes
+         * @param bytesReceived summed response body sizes
+         * @return this builder
+         */
+        public Builder totals(int requestCount, long totalLatencyNanos, long maxLatencyNanos,
+                              long bytesSent, long bytesReceived) {
+            this.requestCount = requestCount;
+            this.totalLatencyNanos = totalLatencyNanos;
+            this.maxLatencyNanos = maxLatencyNanos;
+            this.bytesSent = bytesSent;
+            this.bytesReceived = bytesReceived;
+            return this;
+        }
+
+        /**
+         * Add kept calls
+         * @param timings call timings
+         * @return this builder
+         */
+        public Builder requests(List<RequestTiming> timings) {
+            this.requests.addAll(timings);
+            return this;
+        }
+
+        /**
+         * Build the test performance
+         * @return TestPerformance instance
+         */
+        public TestPerformance build() {
+            if (className == null || name == null || status == null) {
+                throw new IllegalStateException("Test identity and outcome are required");
+            }
+            return new TestPerformance(this);
+        }
+    }
+}
@@ -4,21 +4,27 @@ import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.restautomation.config.ConfigManager;
 import com.restautomation.utils.LoggerUtil;
+import org.testng.ITestResult;
+import org.testng.Reporter;
 
 import java.io.File;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * ExtentReportManager - Manages ExtentReports for test reporting
+ * ExtentReportManager - Manages ExtentReports for test reporting.
+ * Tests are keyed by their TestNG ITestResult (identity), not by thread, so results stay
+ * attributed correctly when pooled or virtual worker threads are reused and across retries.
+ * Only report initialisation and flushing take a lock; creating, looking up and removing
+ * tests go through a ConcurrentHashMap and ExtentReports' own synchronized test list.
  */
 public class ExtentReportManager {
-    private static ExtentReports extentReports;
-    private static final Map<Long, ExtentTest> testMap = new HashMap<>();
-    private static final String REPORT_DIR = System.getProperty("user.dir") + "/test-output/reports/";
+    private static volatile ExtentReports extentReports;
+    private static final Map<ITestResult, ExtentTest> testMap = new ConcurrentHashMap<>();
     private static final String REPORT_NAME = "API-Test-Report-";
     
     private ExtentReportManager() {
@@ -29,74 +35,154 @@ public class ExtentReportManager {
      * Initialize the ExtentReports instance
      * @return ExtentReports instance
      */
-    public static synchronized ExtentReports initReports() {
-        if (extentReports == null) {
-            createReportDir();
-            
-            String timeStamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-            String reportPath = REPORT_DIR + REPORT_NAME + timeStamp + ".html";
-            
-            LoggerUtil.info("Initializing Extent Reports at: {}", reportPath);
-            
-            ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
-            sparkReporter.config().setDocumentTitle("API Automation Test Report");
-            sparkReporter.config().setReportName("REST Assured API Automation Testing");
-            sparkReporter.config().setTheme(Theme.STANDARD);
-            sparkReporter.config().setTimeStampFormat("EEEE, MMMM dd, yyyy, hh:mm a '('zzz')'");
-            sparkReporter.config().setEncoding("UTF-8");
-            
-            extentReports = new ExtentReports();
-            extentReports.attachReporter(sparkReporter);
-            extentReports.setSystemInfo("OS", System.getProperty("os.name"));
-            extentReports.setSystemInfo("Java Version", System.getProperty("java.version"));
-            extentReports.setSystemInfo("Environment", System.getProperty("env", "QA"));
+    public static ExtentReports initReports() {
+        ExtentReports reports = extentReports;
+        if (reports != null) {
+            return reports;
         }
-        return extentReports;
+        synchronized (ExtentReportManager.class) {
+            if (extentReports == null) {
+                extentReports = createReports();
+            }
+            return extentReports;
+        }
+    }
+    
+    /**
+     * Create the ExtentReports instance with a Spark reporter
+     * @return ExtentReports instance
+     */
+    private static ExtentReports createReports() {
+        String reportDir = ConfigManager.getInstance().getReportDir();
+        createReportDir(reportDir);
+        
+        String timeStamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+        String reportPath = new File(reportDir, REPORT_NAME + timeStamp + ".html").getPath();
+        
+        LoggerUtil.info("Initializing Extent Reports at: {}", reportPath);
+        
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
+        sparkReporter.config().setDocumentTitle("API Automation Test Report");
+        sparkReporter.config().setReportName("REST Assured API Automation Testing");
+        sparkReporter.config().setTheme(Theme.STANDARD);
+        sparkReporter.config().setTimeStampFormat("EEEE, MMMM dd, yyyy, hh:mm a '('zzz')'");
+        sparkReporter.config().setEncoding("UTF-8");
+        
+        ExtentReports reports = new ExtentReports();
+        reports.attachReporter(sparkReporter);
+        reports.setSystemInfo("OS", System.getProperty("os.name"));
+        reports.setSystemInfo("Java Version", System.getProperty("java.version"));
+        reports.setSystemInfo("Environment", System.getProperty("env", "QA"));
+        reports.setSystemInfo("Virtual Threads", System.getProperty("virtualThreads", "false"));
+        return reports;
     }
     
     /**
      * Create test report directory if it does not exist
+     * @param reportDir report directory
      */
-    private static void createReportDir() {
-        File directory = new File(REPORT_DIR);
+    private static void createReportDir(String reportDir) {
+        File directory = new File(reportDir);
         if (!directory.exists()) {
             if (directory.mkdirs()) {
-                LoggerUtil.info("Created report directory: {}", REPORT_DIR);
+                LoggerUtil.info("Created report directory: {}", reportDir);
             } else {
-                LoggerUtil.error("Failed to create report directory: {}", REPORT_DIR);
+                LoggerUtil.error("Failed to create report directory: {}", reportDir);
             }
         }
     }
     
     /**
-     * Create a test in the report
-     * @param testName name of the test
+     * Create a report test for a TestNG result, named after the method and categorised by class
+     * @param result TestNG result of the test about to run
      * @return ExtentTest instance
      */
-    public static synchronized ExtentTest createTest(String testName) {
-        ExtentTest test = initReports().createTest(testName);
-        testMap.put(Thread.currentThread().getId(), test);
+    public static ExtentTest createTest(ITestResult result) {
+        ExtentTest test = initReports().createTest(result.getName())
+                .assignCategory(result.getTestClass().getRealClass().getSimpleName());
+        testMap.put(result, test);
         return test;
     }
     
     /**
-     * Create a test with category in the report
+     * Create a test in the report for the currently running TestNG test
+     * @param testName name of the test
+     * @return ExtentTest instance
+     */
+    public static ExtentTest createTest(String testName) {
+        return register(initReports().createTest(testName));
+    }
+    
+    /**
+     * Create a test with category in the report for the currently running TestNG test
      * @param testName name of the test
      * @param categoryName category name
      * @return ExtentTest instance
      */
-    public static synchronized ExtentTest createTest(String testName, String categoryName) {
-        ExtentTest test = initReports().createTest(testName).assignCategory(categoryName);
-        testMap.put(Thread.currentThread().getId(), test);
+    public static ExtentTest createTest(String testName, String categoryName) {
+        return register(initReports().createTest(testName).assignCategory(categoryName));
+    }
+    
+    private static ExtentTest register(ExtentTest test) {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result != null) {
+            testMap.put(result, test);
+        }
         return test;
     }
     
     /**
-     * Get the current test for the thread
-     * @return ExtentTest instance
+     * Get the report test of a TestNG result
+     * @param result TestNG result
+     * @return ExtentTest instance, or null if none was created
+     */
+    public static ExtentTest getTest(ITestResult result) {
+        return result == null ? null : testMap.get(result);
+    }
+    
+    /**
+     * Get the report test of the TestNG test running on the calling thread
+     * @return ExtentTest instance, or null outside a test
+     */
+    public static ExtentTest getTest() {
+        return getTest(Reporter.getCurrentTestResult());
+    }
+    
+    /**
+     * Stop tracking the report test of a result once its outcome is logged
+     * @param result TestNG result
+     */
+    public static void removeTest(ITestResult result) {
+        if (result != null) {
+            testMap.remove(result);
+        }
+    }
+    
+    /**
+     * Stop tracking the report test of the TestNG test running on the calling thread
+     */
+    public static void removeTest() {
+        removeTest(Reporter.getCurrentTestResult());
+    }
+    
+    /**
+     * Remove the report test of an attempt that is going to be retried,
+     * so only the final attempt of a retried test appears in the report
+     * @param result TestNG result of the retried attempt
+     */
+    public static void discardTest(ITestResult result) {
+        ExtentTest test = result == null ? null : testMap.remove(result);
+        if (test != null) {
+            initReports().removeTest(test);
+        }
+    }
+    
+    /**
+     * Get number of tests currently tracked (started but not yet finished)
+     * @return tracked test count
      */
-    public static synchronized ExtentTest getTest() {
-        return testMap.get(Thread.currentThread().getId());
+    public static int getActiveTestCount() {
+        return testMap.size();
     }
     
     /**
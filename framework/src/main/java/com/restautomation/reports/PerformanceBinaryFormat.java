@@ -0,0 +1,202 @@
+package com.restautomation.reports;
+
+import com.restautomation.metrics.RequestTiming;
+import com.restautomation.metrics.TestPerformance;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * PerformanceBinaryFormat - Compact binary form of the performance export. After a "RAPF"
+ * header and version, each test is one record of variable-length integers; strings such as
+ * class names, endpoints and thread names are written once and then referenced by index.
+ */
+public final class PerformanceBinaryFormat {
+    static final int MAGIC = 0x52415046;
+    static final int VERSION = 1;
+    private static final int NULL_STRING = 0;
+    private static final int NEW_STRING = 1;
+    private static final int MAX_STRING_CHARS = 16_000;
+
+    private PerformanceBinaryFormat() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Read every test record of a file
+     * @param path binary performance export
+     * @param consumer called for each test in file order; a truncated last record is ignored
+     * @return number of tests read
+     */
+    public static int read(Path path, Consumer<TestPerformance> consumer) {
+        List<String> strings = new ArrayList<>();
+        int count = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a performance export: " + path);
+            }
+            int version = readVarInt(in);
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported performance export version " + version + ": " + path);
+            }
+            while (true) {
+                TestPerformance test;
+                try {
+                    test = readTest(in, strings);
+                } catch (EOFException e) {
+                    return count;
+                }
+                consumer.accept(test);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read performance export " + path, e);
+        }
+    }
+
+    private static TestPerformance readTest(DataInputStream in, List<String> strings) throws IOException {
+        TestPerformance.Builder builder = TestPerformance.builder()
+                .test(readString(in, strings), readString(in, strings), readString(in, strings), readString(in, strings))
+                .outcome(readString(in, strings), readVarLong(in), readVarLong(in), readVarInt(in), readString(in, strings))
+                .totals(readVarInt(in), readVarLong(in), readVarLong(in), readVarLong(in), readVarLong(in));
+        int kept = readVarInt(in);
+        List<RequestTiming> requests = new ArrayList<>(kept);
+        for (int i = 0; i < kept; i++) {
+            requests.add(new RequestTiming(readString(in, strings), readVarInt(in), readVarLong(in), readVarLong(in),
+                    readVarLong(in), readVarLong(in), readString(in, strings)));
+        }
+        return builder.requests(requests).build();
+    }
+
+    private static String readString(DataInputStream in, List<String> strings) throws IOException {
+        int reference = readVarInt(in);
+        if (reference == NULL_STRING) {
+            return null;
+        }
+        if (reference == NEW_STRING) {
+            String value = in.readUTF();
+            strings.add(value);
+            return value;
+        }
+        return strings.get(reference - 2);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long unsigned = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            unsigned |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                // Zig-zag decoding so -1 ("unknown") stays one byte
+                return (unsigned >>> 1) ^ -(unsigned & 1);
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    /**
+     * Writer - Appends test records to a binary performance export
+     */
+    public static final class Writer implements Closeable {
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        /**
+         * Create a writer and write the header
+         * @param stream destination, closed with the writer
+         * @throws IOException if the header cannot be written
+         */
+        public Writer(OutputStream stream) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(stream, 64 * 1024));
+            out.writeInt(MAGIC);
+            writeVarLong(VERSION);
+        }
+
+        /**
+         * Append one test record
+         * @param test test performance
+         * @throws IOException if the record cannot be written
+         */
+        public void write(TestPerformance test) throws IOException {
+            writeString(test.getSuite());
+            writeString(test.getClassName());
+            writeString(test.getName());
+            writeString(test.getParameters());
+            writeString(test.getStatus());
+            writeVarLong(test.getStartMillis());
+            writeVarLong(test.getDurationMillis());
+            writeVarLong(test.getRetries());
+            writeString(test.getThread());
+            writeVarLong(test.getRequestCount());
+            writeVarLong(test.getTotalLatencyNanos());
+            writeVarLong(test.getMaxLatencyNanos());
+            writeVarLong(test.getBytesSent());
+            writeVarLong(test.getBytesReceived());
+            writeVarLong(test.getRequests().size());
+            for (RequestTiming request : test.getRequests()) {
+                writeString(request.getEndpoint());
+                writeVarLong(request.getStatusCode());
+                writeVarLong(request.getStartMillis());
+                writeVarLong(request.getLatencyNanos());
+                writeVarLong(request.getBytesSent());
+                writeVarLong(request.getBytesReceived());
+                writeString(request.getThread());
+            }
+        }
+
+        /**
+         * Write buffered records to the file
+         * @throws IOException if the records cannot be written
+         */
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarLong(NULL_STRING);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarLong(index + 2L);
+                return;
+            }
+            writeVarLong(NEW_STRING);
+            // writeUTF is limited to 64 KB; only long data provider parameters come close
+            out.writeUTF(value.length() > MAX_STRING_CHARS ? value.substring(0, MAX_STRING_CHARS) : value);
+            strings.put(value, strings.size());
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            long unsigned = (value << 1) ^ (value >> 63);
+            while ((unsigned & ~0x7FL) != 0) {
+                out.writeByte((int) ((unsigned & 0x7F) | 0x80));
+                unsigned >>>= 7;
+            }
+            out.writeByte((int) unsigned);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.restautomation.reports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restautomation.config.ConfigManager;
+import com.restautomation.metrics.RequestTiming;
+import com.restautomation.metrics.TestMetrics;
+import com.restautomation.metrics.TestPerformance;
+import com.restautomation.utils.JsonUtil;
+import com.restautomation.utils.LoggerUtil;
+import org.testng.ITestResult;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * PerformanceExporter - Machine-readable timings of every finished test and its HTTP calls, so
+ * CI can diff and chart performance between builds. Depending on perf.export.formats, writes
+ * to report.dir (test-output/reports/ by default):
+ * <ul>
+ *     <li>perf-tests.csv and perf-requests.csv - one row per test attempt and per HTTP call</li>
+ *     <li>perf-results.jsonl - one JSON object per test attempt with its calls nested</li>
+ *     <li>perf-results.bin - the same records in PerformanceBinaryFormat</li>
+ * </ul>
+ * The files of a directory are opened on the first exported test and stay open until the JVM
+ * exits, so every suite of a run lands in the same files; TestListener flushes them at suite end.
+ */
+public class PerformanceExporter {
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_JSONL = "jsonl";
+    public static final String FORMAT_BINARY = "binary";
+    public static final String TESTS_CSV = "perf-tests.csv";
+    public static final String REQUESTS_CSV = "perf-requests.csv";
+    public static final String RESULTS_JSONL = "perf-results.jsonl";
+    public static final String RESULTS_BINARY = "perf-results.bin";
+
+    private static final String TESTS_CSV_HEADER = "suite,class,name,parameters,status,start,durationMillis,retries,"
+            + "thread,requests,requestMillisTotal,requestMillisMax,bytesSent,bytesReceived";
+    private static final String REQUESTS_CSV_HEADER = "class,name,parameters,retries,endpoint,status,start,"
+            + "latencyMicros,bytesSent,bytesReceived,thread";
+    private static final PerformanceExporter INSTANCE = new PerformanceExporter();
+
+    private final ObjectMapper objectMapper = JsonUtil.getMapper();
+    private final Map<String, Integer> retries = new HashMap<>();
+    private final Map<Path, Export> exports = new HashMap<>();
+
+    private PerformanceExporter() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "performance-exporter-shutdown"));
+    }
+
+    /**
+     * Get the shared exporter
+     * @return PerformanceExporter instance
+     */
+    public static PerformanceExporter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Export a finished test attempt
+     * @param result TestNG result
+     * @param status PASS, FAIL, SKIP or RETRIED
+     * @param metrics HTTP calls made by the test
+     * @return exported test performance
+     */
+    public TestPerformance record(ITestResult result, String status, TestMetrics metrics) {
+        String className = result.getTestClass().getRealClass().getName();
+        String parameters = result.getParameters() != null && result.getParameters().length > 0
+                ? Arrays.deepToString(result.getParameters()) : null;
+        TestPerformance.Builder builder = TestPerformance.builder()
+                .test(result.getTestContext() != null ? result.getTestContext().getSuite().getName() : null,
+                        className, result.getName(), parameters)
+                .metrics(metrics);
+        String testId = TestPerformance.testId(className, result.getName(), parameters);
+        synchronized (this) {
+            // Only attempts TestNG retries count, so repeated invocations of a test each start at 0
+            int retry = retries.getOrDefault(testId, 0);
+            if (result.wasRetried()) {
+                retries.put(testId, retry + 1);
+            } else {
+                retries.remove(testId);
+            }
+            TestPerformance test = builder.outcome(status, result.getStartMillis(),
+                    Math.max(0, result.getEndMillis() - result.getStartMillis()), retry,
+                    Thread.currentThread().getName()).build();
+            write(test);
+            return test;
+        }
+    }
+
+    /**
+     * Export a test attempt
+     * @param test test performance
+     */
+    public synchronized void write(TestPerformance test) {
+        // A changed report.dir starts files of its own; files already open elsewhere stay open
+        Export export = exports.computeIfAbsent(directory(), this::open);
+        try {
+            export.write(test);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to export performance of {}: {}", test.getTestId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Write buffered results to disk, keeping the export files open for later suites
+     * @return current output directory, or null when nothing was exported there
+     */
+    public synchronized Path flush() {
+        for (Export export : exports.values()) {
+            export.flush();
+        }
+        Path directory = directory();
+        return exports.containsKey(directory) ? directory : null;
+    }
+
+    /**
+     * Flush and close every export file; a later test starts new files
+     * @return current output directory, or null when nothing was exported there
+     */
+    public synchronized Path close() {
+        if (exports.isEmpty()) {
+            return null;
+        }
+        Path directory = directory();
+        boolean exported = exports.containsKey(directory);
+        for (Export export : exports.values()) {
+            export.close();
+            LoggerUtil.info("Performance results written to: {}", export.directory);
+        }
+        exports.clear();
+        retries.clear();
+        return exported ? directory : null;
+    }
+
+    private static Path directory() {
+        return Paths.get(ConfigManager.getInstance().getReportDir());
+    }
+
+    /**
+     * Parse a comma-separated list of export formats
+     * @param formats e.g. "csv, jsonl, binary"
+     * @return lower-case format names
+     */
+    static Set<String> parseFormats(String formats) {
+        Set<String> parsed = new TreeSet<>();
+        for (String format : formats.split(",")) {
+            String name = format.trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!name.equals(FORMAT_CSV) && !name.equals(FORMAT_JSONL) && !name.equals(FORMAT_BINARY)) {
+                throw new IllegalArgumentException("Unknown performance export format: " + format.trim());
+            }
+            parsed.add(name);
+        }
+        return parsed;
+    }
+
+    /**
+     * Create the export files of a directory; an invalid configuration disables the export
+     * @param directory output directory
+     * @return export writing the configured formats, or none of them when they cannot be opened
+     */
+    private Export open(Path directory) {
+        Export export = new Export(directory, objectMapper);
+        Set<String> formats;
+        try {
+            formats = parseFormats(ConfigManager.getInstance().getPerfExportFormats());
+        } catch (IllegalArgumentException e) {
+            LoggerUtil.error("Performance export disabled: {}", e.getMessage());
+            return export;
+        }
+        try {
+            Files.createDirectories(directory);
+            if (formats.contains(FORMAT_CSV)) {
+                export.testsCsv = Files.newBufferedWriter(directory.resolve(TESTS_CSV), StandardCharsets.UTF_8);
+                export.testsCsv.write(TESTS_CSV_HEADER);
+                export.testsCsv.newLine();
+                export.requestsCsv = Files.newBufferedWriter(directory.resolve(REQUESTS_CSV), StandardCharsets.UTF_8);
+                export.requestsCsv.write(REQUESTS_CSV_HEADER);
+                export.requestsCsv.newLine();
+            }
+            if (formats.contains(FORMAT_JSONL)) {
+                export.resultsJsonl = Files.newBufferedWriter(directory.resolve(RESULTS_JSONL), StandardCharsets.UTF_8);
+            }
+            if (formats.contains(FORMAT_BINARY)) {
+                export.resultsBinary = new PerformanceBinaryFormat.Writer(
+                        Files.newOutputStream(directory.resolve(RESULTS_BINARY)));
+            }
+        } catch (IOException e) {
+            LoggerUtil.error("Performance export to {} disabled: {}", directory, e.getMessage());
+            export.close();
+            return export;
+        }
+        LoggerUtil.info("Exporting performance results ({}) to: {}", formats, directory);
+        return export;
+    }
+
+    /**
+     * Export - The open export files of one output directory
+     */
+    private static final class Export {
+        private final Path directory;
+        private final ObjectMapper objectMapper;
+        private BufferedWriter testsCsv;
+        private BufferedWriter requestsCsv;
+        private BufferedWriter resultsJsonl;
+        private PerformanceBinaryFormat.Writer resultsBinary;
+
+        Export(Path directory, ObjectMapper objectMapper) {
+            this.directory = directory;
+            this.objectMapper = objectMapper;
+        }
+
+        void write(TestPerformance test) throws IOException {
+            if (testsCsv != null) {
+                writeTestRow(test);
+                for (RequestTiming request : test.getRequests()) {
+                    writeRequestRow(test, request);
+                }
+            }
+            if (resultsJsonl != null) {
+                resultsJsonl.write(objectMapper.writeValueAsString(toJson(test)));
+                resultsJsonl.newLine();
+            }
+            if (resultsBinary != null) {
+                resultsBinary.write(test);
+            }
+        }
+
+        void flush() {
+            try {
+                if (testsCsv != null) {
+                    testsCsv.flush();
+                    requestsCsv.flush();
+                }
+                if (resultsJsonl != null) {
+                    resultsJsonl.flush();
+                }
+                if (resultsBinary != null) {
+                    resultsBinary.flush();
+                }
+            } catch (IOException e) {
+                LoggerUtil.warn("Failed to flush performance export: {}", e.getMessage());
+            }
+        }
+
+        void close() {
+            closeQuietly(testsCsv);
+            closeQuietly(requestsCsv);
+            closeQuietly(resultsJsonl);
+            closeQuietly(resultsBinary);
+            testsCsv = null;
+            requestsCsv = null;
+            resultsJsonl = null;
+            resultsBinary = null;
+        }
+
+        private void writeTestRow(TestPerformance test) throws IOException {
+            testsCsv.write(String.join(",", csv(test.getSuite()), csv(test.getClassName()), csv(test.getName()),
+                    csv(test.getParameters()), test.getStatus(), String.valueOf(test.getStartMillis()),
+                    String.valueOf(test.getDurationMillis()), String.valueOf(test.getRetries()), csv(test.getThread()),
+                    String.valueOf(test.getRequestCount()), millis(test.getTotalLatencyNanos()),
+                    millis(test.getMaxLatencyNanos()), String.valueOf(test.getBytesSent()),
+                    String.valueOf(test.getBytesReceived())));
+            testsCsv.newLine();
+        }
+
+        private void writeRequestRow(TestPerformance test, RequestTiming request) throws IOException {
+            requestsCsv.write(String.join(",", csv(test.getClassName()), csv(test.getName()), csv(test.getParameters()),
+                    String.valueOf(test.getRetries()), csv(request.getEndpoint()), String.valueOf(request.getStatusCode()),
+                    String.valueOf(request.getStartMillis()), String.valueOf(request.getLatencyMicros()),
+                    String.valueOf(request.getBytesSent()), String.valueOf(request.getBytesReceived()),
+                    csv(request.getThread())));
+            requestsCsv.newLine();
+        }
+    }
+
+    private static Map<String, Object> toJson(TestPerformance test) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("suite", test.getSuite());
+        json.put("class", test.getClassName());
+        json.put("name", test.getName());
+        json.put("parameters", test.getParameters());
+        json.put("status", test.getStatus());
+        json.put("start", test.getStartMillis());
+        json.put("durationMillis", test.getDurationMillis());
+        json.put("retries", test.getRetries());
+        json.put("thread", test.getThread());
+        json.put("requestCount", test.getRequestCount());
+        json.put("requestNanosTotal", test.getTotalLatencyNanos());
+        json.put("requestNanosMax", test.getMaxLatencyNanos());
+        json.put("bytesSent", test.getBytesSent());
+        json.put("bytesReceived", test.getBytesReceived());
+        List<Map<String, Object>> requests = new ArrayList<>(test.getRequests().size());
+        for (RequestTiming request : test.getRequests()) {
+            Map<String, Object> call = new LinkedHashMap<>();
+            call.put("endpoint", request.getEndpoint());
+            call.put("status", request.getStatusCode());
+            call.put("start", request.getStartMillis());
+            call.put("latencyMicros", request.getLatencyMicros());
+            call.put("bytesSent", request.getBytesSent());
+            call.put("bytesReceived", request.getBytesReceived());
+            call.put("thread", request.getThread());
+            requests.add(call);
+        }
+        json.put("requests", requests);
+        return json;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            LoggerUtil.warn("Failed to close performance export: {}", e.getMessage());
+        }
+    }
+}
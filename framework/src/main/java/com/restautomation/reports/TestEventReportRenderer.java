@@ -0,0 +1,167 @@
+package com.restautomation.reports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restautomation.utils.JsonUtil;
+import com.restautomation.utils.LoggerUtil;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * TestEventReportRenderer - Renders a TestEventSink JSON Lines log as a single HTML page.
+ * The log is read twice, once for the summary and once for the rows, so memory stays constant
+ * however many tests it holds. A log that is still being written (or was cut off by a crash)
+ * renders up to its last complete line. Run on demand with:
+ *
+ * <pre>
+ * java -cp ... com.restautomation.reports.TestEventReportRenderer test-output/reports/test-events-...jsonl
+ * </pre>
+ */
+public class TestEventReportRenderer {
+    private static final ObjectMapper objectMapper = JsonUtil.getMapper();
+    private static final String[] STATUSES = {"PASS", "FAIL", "SKIP", "RETRIED"};
+
+    private TestEventReportRenderer() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Render an event log next to itself, replacing .jsonl with .html
+     * @param events JSON Lines event log
+     * @return path of the written HTML report
+     */
+    public static Path render(Path events) {
+        String fileName = events.getFileName().toString().replaceFirst("\\.jsonl$", "") + ".html";
+        return render(events, events.resolveSibling(fileName));
+    }
+
+    /**
+     * Render an event log to an HTML file
+     * @param events JSON Lines event log
+     * @param html HTML report to write
+     * @return path of the written HTML report
+     */
+    public static Path render(Path events, Path html) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String status : STATUSES) {
+            counts.put(status, 0L);
+        }
+        long[] totals = new long[2];
+        try {
+            forEachEvent(events, event -> {
+                counts.merge(event.path("status").asText("UNKNOWN"), 1L, Long::sum);
+                totals[0]++;
+                totals[1] += event.path("durationMillis").asLong();
+            });
+
+            try (BufferedWriter out = Files.newBufferedWriter(html, StandardCharsets.UTF_8)) {
+                out.write("<!DOCTYPE html>\n<html><head><meta charset=\"UTF-8\"><title>API Automation Test Report</title>\n"
+                        + "<style>body{font-family:sans-serif;margin:24px}table{border-collapse:collapse;width:100%}"
+                        + "td,th{border:1px solid #ddd;padding:4px 8px;text-align:left;vertical-align:top}"
+                        + ".PASS{color:#2e7d32}.FAIL{color:#c62828}.SKIP{color:#f9a825}.RETRIED{color:#6d4c41}"
+                        + "pre{white-space:pre-wrap;margin:0}</style></head><body>\n");
+                out.write("<h1>API Automation Test Report</h1>\n<p>" + escape(events.getFileName().toString())
+                        + " &middot; " + totals[0] + " results &middot; " + totals[1] + " ms total test time</p>\n<p>");
+                for (Map.Entry<String, Long> count : counts.entrySet()) {
+                    out.write("<span class=\"" + escape(count.getKey()) + "\">" + escape(count.getKey()) + ": "
+                            + count.getValue() + "</span> &nbsp; ");
+                }
+                out.write("</p>\n<table><tr><th>Status</th><th>Class</th><th>Test</th><th>Started</th>"
+                        + "<th>Duration (ms)</th><th>Thread</th><th>Details</th></tr>\n");
+                forEachEvent(events, event -> {
+                    try {
+                        writeRow(out, event);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                out.write("</table>\n</body></html>\n");
+            }
+        } catch (IOException | IllegalStateException e) {
+            LoggerUtil.error("Failed to render test report from {}: {}", events, e.getMessage());
+            throw new RuntimeException("Failed to render test report from " + events, e);
+        }
+        LoggerUtil.info("Rendered {} test results to: {}", totals[0], html);
+        return html;
+    }
+
+    private static void writeRow(BufferedWriter out, JsonNode event) throws IOException {
+        String status = event.path("status").asText();
+        String name = event.path("name").asText();
+        if (event.hasNonNull("parameters")) {
+            name += " " + event.path("parameters").asText();
+        }
+        out.write("<tr><td class=\"" + escape(status) + "\">" + escape(status) + "</td><td>"
+                + escape(event.path("class").asText()) + "</td><td>" + escape(name) + "</td><td>"
+                + Instant.ofEpochMilli(event.path("start").asLong()) + "</td><td>"
+                + event.path("durationMillis").asLong() + "</td><td>" + escape(event.path("thread").asText())
+                + "</td><td>");
+        if (event.hasNonNull("description")) {
+            out.write(escape(event.path("description").asText()));
+        }
+        if (event.hasNonNull("stackTrace")) {
+            out.write("<details><summary>" + escape(event.path("error").asText()) + "</summary><pre>"
+                    + escape(event.path("stackTrace").asText()) + "</pre></details>");
+        }
+        out.write("</td></tr>\n");
+    }
+
+    /**
+     * Read events one line at a time, skipping a trailing partial line
+     */
+    private static void forEachEvent(Path events, Consumer<JsonNode> consumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(events, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    consumer.accept(objectMapper.readTree(line));
+                } catch (JsonProcessingException e) {
+                    LoggerUtil.warn("Skipping incomplete test event in {}", events);
+                }
+            }
+        }
+    }
+
+    private static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<': sb.append("&lt;"); break;
+                case '>': sb.append("&gt;"); break;
+                case '&': sb.append("&amp;"); break;
+                case '"': sb.append("&quot;"); break;
+                default: sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Render an event log from the command line
+     * @param args event log path and optional HTML output path
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: TestEventReportRenderer <events.jsonl> [report.html]");
+            System.exit(1);
+        }
+        Path events = Paths.get(args[0]);
+        Path html = args.length > 1 ? render(events, Paths.get(args[1])) : render(events);
+        System.out.println("Report written to " + html);
+    }
+}
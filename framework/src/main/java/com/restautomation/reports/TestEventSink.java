@@ -0,0 +1,280 @@
+package com.restautomation.reports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restautomation.config.ConfigManager;
+import com.restautomation.utils.JsonUtil;
+import com.restautomation.utils.LoggerUtil;
+import org.testng.ITestResult;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TestEventSink - Append-only JSON Lines log of test results, one line per finished test.
+ * Listener threads only enqueue an event; a background thread serialises and appends events
+ * and flushes whenever the queue drains, so the file always holds every finished test and
+ * survives a crashed run. TestEventReportRenderer turns the file into HTML at any time.
+ */
+public class TestEventSink {
+    private static final String EVENTS_PREFIX = "test-events-";
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int MAX_STACK_TRACE_CHARS = 8_000;
+    private static final AtomicInteger FILE_SEQUENCE = new AtomicInteger();
+    private static final TestEventSink INSTANCE = new TestEventSink();
+
+    private final ObjectMapper objectMapper = JsonUtil.getMapper();
+    private Writer writer;
+
+    private TestEventSink() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "test-event-sink-shutdown"));
+    }
+
+    /**
+     * Get the shared sink
+     * @return TestEventSink instance
+     */
+    public static TestEventSink getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Append the outcome of a finished test
+     * @param result TestNG result
+     * @param status PASS, FAIL, SKIP or RETRIED
+     */
+    public void record(ITestResult result, String status) {
+        record(toEvent(result, status));
+    }
+
+    /**
+     * Append an event; blocks only if the background writer is QUEUE_CAPACITY events behind
+     * @param event event fields, serialised as one JSON object
+     */
+    public void record(Map<String, Object> event) {
+        while (true) {
+            Writer current = writer();
+            // A concurrent close() may have stopped this writer; the event then starts the next log
+            synchronized (current) {
+                if (current.stopped) {
+                    continue;
+                }
+                if (current.failed) {
+                    return;
+                }
+                try {
+                    current.queue.put(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LoggerUtil.warn("Interrupted while recording test event: {}", event.get("name"));
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Wait until every event recorded so far is written and flushed
+     * @return path of the current event log, or null when nothing was recorded
+     */
+    public Path flush() {
+        Writer current;
+        synchronized (this) {
+            current = writer;
+        }
+        if (current == null || current.failed) {
+            return current == null ? null : current.path;
+        }
+        CompletableFuture<Void> flushed = new CompletableFuture<>();
+        try {
+            synchronized (current) {
+                if (current.stopped) {
+                    // close() writes everything recorded before it
+                    return current.path;
+                }
+                current.queue.put(Writer.flushMarker(flushed));
+            }
+            flushed.get(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            LoggerUtil.warn("Failed to flush test events: {}", e.getMessage());
+        }
+        return current.path;
+    }
+
+    /**
+     * Write all pending events and close the event log; the next event starts a new log
+     * @return path of the closed event log, or null when nothing was recorded
+     */
+    public Path close() {
+        Writer current;
+        synchronized (this) {
+            current = writer;
+            writer = null;
+        }
+        if (current == null) {
+            return null;
+        }
+        current.stop();
+        LoggerUtil.info("Test events written to: {}", current.path);
+        return current.path;
+    }
+
+    private synchronized Writer writer() {
+        if (writer == null) {
+            String timeStamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+            Path path = Paths.get(ConfigManager.getInstance().getReportDir(), EVENTS_PREFIX + timeStamp + "-" + FILE_SEQUENCE.incrementAndGet() + ".jsonl");
+            writer = new Writer(path, objectMapper);
+            LoggerUtil.info("Recording test events to: {}", path);
+        }
+        return writer;
+    }
+
+    /**
+     * Build the event fields of a finished test
+     * @param result TestNG result
+     * @param status PASS, FAIL, SKIP or RETRIED
+     * @return event fields
+     */
+    static Map<String, Object> toEvent(ITestResult result, String status) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("suite", result.getTestContext() != null ? result.getTestContext().getSuite().getName() : null);
+        event.put("class", result.getTestClass().getRealClass().getName());
+        event.put("name", result.getName());
+        if (result.getParameters() != null && result.getParameters().length > 0) {
+            event.put("parameters", Arrays.deepToString(result.getParameters()));
+        }
+        event.put("description", result.getMethod().getDescription());
+        event.put("status", status);
+        event.put("start", result.getStartMillis());
+        event.put("durationMillis", Math.max(0, result.getEndMillis() - result.getStartMillis()));
+        event.put("thread", Thread.currentThread().getName());
+        Throwable throwable = result.getThrowable();
+        if (throwable != null) {
+            event.put("error", String.valueOf(throwable.getMessage()));
+            StringBuilder stackTrace = new StringBuilder(throwable.toString());
+            for (StackTraceElement element : throwable.getStackTrace()) {
+                if (stackTrace.length() > MAX_STACK_TRACE_CHARS) {
+                    stackTrace.append("\n\t...");
+                    break;
+                }
+                stackTrace.append("\n\tat ").append(element);
+            }
+            event.put("stackTrace", stackTrace.toString());
+        }
+        return event;
+    }
+
+    /**
+     * Writer - Background thread appending events to one JSON Lines file
+     */
+    private static final class Writer implements Runnable {
+        private static final Map<String, Object> STOP = new LinkedHashMap<>();
+
+        private final Path path;
+        private final ObjectMapper objectMapper;
+        private final BlockingQueue<Map<String, Object>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final Thread thread;
+        private volatile boolean failed;
+        // Guarded by this writer; set once STOP is queued so no event can follow it
+        private boolean stopped;
+
+        Writer(Path path, ObjectMapper objectMapper) {
+            this.path = path;
+            this.objectMapper = objectMapper;
+            this.thread = new Thread(this, "test-event-writer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        static Map<String, Object> flushMarker(CompletableFuture<Void> flushed) {
+            Map<String, Object> marker = new LinkedHashMap<>();
+            marker.put(FlushMarker.KEY, new FlushMarker(flushed));
+            return marker;
+        }
+
+        void stop() {
+            try {
+                synchronized (this) {
+                    if (stopped) {
+                        return;
+                    }
+                    stopped = true;
+                    if (failed) {
+                        return;
+                    }
+                    queue.put(STOP);
+                }
+                thread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            List<Map<String, Object>> batch = new ArrayList<>();
+            try {
+                Files.createDirectories(path.getParent());
+                try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                    while (true) {
+                        batch.add(queue.take());
+                        queue.drainTo(batch);
+                        boolean stop = false;
+                        List<CompletableFuture<Void>> flushed = new ArrayList<>();
+                        for (Map<String, Object> event : batch) {
+                            if (event == STOP) {
+                                stop = true;
+                            } else if (event.get(FlushMarker.KEY) instanceof FlushMarker) {
+                                flushed.add(((FlushMarker) event.get(FlushMarker.KEY)).flushed);
+                            } else {
+                                out.write(objectMapper.writeValueAsString(event));
+                                out.newLine();
+                            }
+                        }
+                        batch.clear();
+                        // Flush once per batch so the file is current whenever the writer is idle
+                        out.flush();
+                        flushed.forEach(future -> future.complete(null));
+                        if (stop) {
+                            return;
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                // Stop accepting events so listener threads never block on a dead writer
+                failed = true;
+                queue.clear();
+                LoggerUtil.error("Failed to write test events to {}: {}", path, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * FlushMarker - Queue entry completed once every event before it is on disk
+     */
+    private static final class FlushMarker {
+        static final String KEY = "__flush";
+        final CompletableFuture<Void> flushed;
+
+        FlushMarker(CompletableFuture<Void> flushed) {
+            this.flushed = flushed;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.restautomation.secretmanager;
 
+import com.restautomation.utils.JsonUtil;
 import com.restautomation.utils.LoggerUtil;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
@@ -26,7 +27,7 @@ public class SecretManager {
         this.secretsManagerClient = SecretsManagerClient.builder()
                 .region(Region.US_EAST_1) // Default region, can be configured
                 .build();
-        this.objectMapper = new ObjectMapper();
+        this.objectMapper = JsonUtil.getMapper();
     }
 
     /**
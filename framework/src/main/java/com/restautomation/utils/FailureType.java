@@ -0,0 +1,67 @@
+package com.restautomation.utils;
+
+import com.restautomation.constants.StatusCodes;
+import com.restautomation.exceptions.APIException;
+import com.restautomation.exceptions.StatusCodeAssertionError;
+import org.apache.http.NoHttpResponseException;
+
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * FailureType - Kind of a test failure, deciding whether running the test again can help
+ */
+public enum FailureType {
+    /**
+     * Timeouts, dropped connections and overloaded services (408, 429, 502, 503, 504), also when a
+     * status code assertion saw them; worth a retry
+     */
+    TRANSIENT,
+    /** A failed assertion; the same code against the same service fails again */
+    ASSERTION,
+    /** Any other error, such as a 4xx response or a bug in the test */
+    PERMANENT;
+
+    /**
+     * Classify a failure by the first exception of its cause chain that tells the kind
+     * @param failure test failure, may be null
+     * @return failure type
+     */
+    public static FailureType classify(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof APIException) {
+                int statusCode = ((APIException) cause).getStatusCode();
+                if (statusCode > 0) {
+                    return isTransientStatus(statusCode) ? TRANSIENT : PERMANENT;
+                }
+            } else if (cause instanceof StatusCodeAssertionError) {
+                // An unexpected 503 from the service, not a wrong answer of a working service
+                return isTransientStatus(((StatusCodeAssertionError) cause).getStatusCode()) ? TRANSIENT : ASSERTION;
+            } else if (cause instanceof AssertionError) {
+                return ASSERTION;
+            } else if (cause instanceof InterruptedIOException || cause instanceof SocketException
+                    || cause instanceof HttpTimeoutException || cause instanceof TimeoutException
+                    || cause instanceof NoHttpResponseException) {
+                // SocketTimeoutException and ConnectTimeoutException are InterruptedIOExceptions,
+                // ConnectException and connection resets are SocketExceptions
+                return TRANSIENT;
+            }
+        }
+        return PERMANENT;
+    }
+
+    /**
+     * Check if a status code means the request may succeed when sent again later
+     * @param statusCode HTTP status code
+     * @return true for 408, 429, 502, 503 and 504
+     */
+    public static boolean isTransientStatus(int statusCode) {
+        return statusCode == StatusCodes.REQUEST_TIMEOUT
+                || statusCode == StatusCodes.TOO_MANY_REQUESTS
+                || statusCode == StatusCodes.BAD_GATEWAY
+                || statusCode == StatusCodes.SERVICE_UNAVAILABLE
+                || statusCode == StatusCodes.GATEWAY_TIMEOUT;
+    }
+}
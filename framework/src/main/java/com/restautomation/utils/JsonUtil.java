@@ -0,0 +1,87 @@
+package com.restautomation.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JsonUtil - Process-wide Jackson mapper shared by request bodies, RestAssured's response
+ * mapping, test data and reports. The Blackbird module replaces reflective getter/setter
+ * calls with generated lambdas, and readers/writers are cached per model type, so
+ * (de)serializing large model lists does not repeat the type lookups of every call.
+ */
+public final class JsonUtil {
+    private static final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new BlackbirdModule())
+            .build();
+    private static final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    private JsonUtil() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get the shared mapper; do not reconfigure it, it is used by all threads
+     * @return ObjectMapper instance
+     */
+    public static ObjectMapper getMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Get the cached reader of a type
+     * @param type model class, e.g. User.class
+     * @return ObjectReader for the type
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    /**
+     * Get the cached writer of a type
+     * @param type model class, e.g. User.class
+     * @return ObjectWriter for the type
+     */
+    public static ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    /**
+     * Serialize an object to JSON
+     * @param object object to serialize
+     * @return JSON string
+     * @throws IOException if the object cannot be serialized
+     */
+    public static String toJson(Object object) throws IOException {
+        return writer(object == null ? Object.class : object.getClass()).writeValueAsString(object);
+    }
+
+    /**
+     * Serialize an object to UTF-8 JSON bytes
+     * @param object object to serialize
+     * @return JSON bytes
+     * @throws IOException if the object cannot be serialized
+     */
+    public static byte[] toJsonBytes(Object object) throws IOException {
+        return writer(object == null ? Object.class : object.getClass()).writeValueAsBytes(object);
+    }
+
+    /**
+     * Deserialize JSON to an object
+     * @param json JSON string
+     * @param type object class
+     * @param <T> object type
+     * @return object instance
+     * @throws IOException if the JSON cannot be read as the type
+     */
+    public static <T> T fromJson(String json, Class<T> type) throws IOException {
+        return reader(type).readValue(json);
+    }
+}
@@ -4,7 +4,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * LoggerUtil - Utility class for logging
+ * LoggerUtil - Utility class for logging.
+ * Calls with up to three parameters bind to fixed-arity overloads, so no varargs array is
+ * allocated and a disabled level costs only the level check.
  */
 public class LoggerUtil {
     private static final Logger LOGGER = LogManager.getLogger(LoggerUtil.class);
@@ -21,6 +23,36 @@ public class LoggerUtil {
         LOGGER.info(message);
     }
 
+    /**
+     * Log information with one parameter without allocating a varargs array
+     * @param message log message with a placeholder
+     * @param arg0 argument for the placeholder
+     */
+    public static void info(String message, Object arg0) {
+        LOGGER.info(message, arg0);
+    }
+
+    /**
+     * Log information with two parameters without allocating a varargs array
+     * @param message log message with placeholders
+     * @param arg0 first argument
+     * @param arg1 second argument
+     */
+    public static void info(String message, Object arg0, Object arg1) {
+        LOGGER.info(message, arg0, arg1);
+    }
+
+    /**
+     * Log information with three parameters without allocating a varargs array
+     * @param message log message with placeholders
+     * @param arg0 first argument
+     * @param arg1 second argument
+     * @param arg2 third argument
+     */
+    public static void info(String message, Object arg0, Object arg1, Object arg2) {
+        LOGGER.info(message, arg0, arg1, arg2);
+    }
+
     /**
      * Log information with parameters
      * @param message log message with placeholders
@@ -38,6 +70,36 @@ public class LoggerUtil {
         LOGGER.warn(message);
     }
 
+    /**
+     * Log warning with one parameter without allocating a varargs array
+     * @param message log message with a placeholder
+     * @param arg0 argument for the placeholder
+     */
+    public static void warn(String message, Object arg0) {
+        LOGGER.warn(message, arg0);
+    }
+
+    /**
+     * Log warning with two parameters without allocating a varargs array
+     * @param message log message with placeholders
+     * @param arg0 first argument
+     * @param arg1 second argument
+     */
+    public static void warn(String message, Object arg0, Object arg1) {
+        LOGGER.warn(message, arg0, arg1);
+    }
+
+    /**
+     * Log warning with three parameters without allocating a varargs array
+     * @param message log message with placeholders
+     * @param arg0 first argument
+     * @param arg1 second argument
+     * @param arg2 third argument
+     */
+    public static void warn(String message, Object arg0, Object arg1, Object arg2) {
+        LOGGER.warn(message, arg0, arg1, arg2);
+    }
+
     /**
      * Log warning with parameters
      * @param message log message with placeholders
@@ -55,6 +117,36 @@ public class LoggerUtil {
         LOGGER.error(message);
     }
 
+    /**
+     * Log error with one parameter without allocating a varargs array
+     * @param message log message with a placeholder
+     * @param arg0 argument for the placeholder
+     */
+    public static void error(String message, Object arg0) {
+        LOGGER.error(message, arg0);
+    }
+
+    /**
+     * Log error with two parameters without allocating a varargs array
+     * @param message log message with placeholders
+     * @param arg0 first argument
+     * @param arg1 second argument
+     */
+    public static void error(String message, Object arg0, Object arg1) {
+        LOGGER.error(message, arg0, arg1);
+    }
+
+    /**
+     * Log error with three parameters without allocating a varargs array
+     * @param message log message with placeholders
+     * @param arg0 first argument
+     * @param arg1 second argument
+     * @param arg2 third argument
+     */
+    public static void error(String message, Object arg0, Object arg1, Object arg2) {
+        LOGGER.error(message, arg0, arg1, arg2);
+    }
+
     /**
      * Log error with parameters
      * @param message log message with placeholders
@@ -81,6 +173,36 @@ public class LoggerUtil {
         LOGGER.debug(message);
     }
 
+    /**
+     * Log debug with one parameter without allocating a varargs array
+     * @param message log message with a placeholder
+     * @param arg0 argument for the placeholder
+     */
+    public static void debug(String message, Object arg0) {
+        LOGGER.debug(message, arg0);
+    }
+
+    /**
+     * Log debug with two parameters without allocating a varargs array
+     * @param message log message with placeholders
+     * @param arg0 first argument
+     * @param arg1 second argument
+     */
+    public static void debug(String message, Object arg0, Object arg1) {
+        LOGGER.debug(message, arg0, arg1);
+    }
+
+    /**
+     * Log debug with three parameters without allocating a varargs array
+     * @param message log message with placeholders
+     * @param arg0 first argument
+     * @param arg1 second argument
+     * @param arg2 third argument
+     */
+    public static void debug(String message, Object arg0, Object arg1, Object arg2) {
+        LOGGER.debug(message, arg0, arg1, arg2);
+    }
+
     /**
      * Log debug with parameters
      * @param message log message with placeholders
@@ -89,4 +211,20 @@ public class LoggerUtil {
     public static void debug(String message, Object... args) {
         LOGGER.debug(message, args);
     }
-}
\ No newline at end of file
+
+    /**
+     * Check if info messages are logged; use to skip building expensive arguments
+     * @return true if info is enabled
+     */
+    public static boolean isInfoEnabled() {
+        return LOGGER.isInfoEnabled();
+    }
+
+    /**
+     * Check if debug messages are logged; use to skip building expensive arguments
+     * @return true if debug is enabled
+     */
+    public static boolean isDebugEnabled() {
+        return LOGGER.isDebugEnabled();
+    }
+}
@@ -1,31 +1,53 @@
 package com.restautomation.utils;
 
+import com.restautomation.exceptions.StatusCodeAssertionError;
+import com.restautomation.load.LoadTest;
+import com.restautomation.load.OperationStats;
+import com.restautomation.metrics.LatencyRegistry;
+import com.restautomation.metrics.LatencySnapshot;
+import com.restautomation.metrics.PerformanceSla;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.report.LogLevel;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
 import io.restassured.response.Response;
 import org.testng.Assert;
 
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
+import java.util.function.Supplier;
 
 
 /**
  * ResponseValidator - Utility for validating API responses
  */
 public class ResponseValidator {
+    // z-score of a two-sided 95% confidence interval
+    private static final double Z_95 = 1.96;
     
     private ResponseValidator() {
         // Private constructor to prevent instantiation
     }
     
     /**
-     * Validate response status code
+     * Validate response status code; a mismatch fails with a StatusCodeAssertionError carrying the
+     * actual status and Retry-After, so RetryAnalyzer can retry a transient status (e.g. 503)
      * @param response API response
      * @param expectedStatusCode expected status code
      */
     public static void validateStatusCode(Response response, int expectedStatusCode) {
         LoggerUtil.info("Validating status code: Expected {} | Actual {}", 
                 expectedStatusCode, response.getStatusCode());
-        Assert.assertEquals(response.getStatusCode(), expectedStatusCode, 
-                "Status code validation failed");
+        if (response.getStatusCode() != expectedStatusCode) {
+            throw new StatusCodeAssertionError("Status code validation failed expected [" + expectedStatusCode
+                    + "] but found [" + response.getStatusCode() + "]", response.getStatusCode(),
+                    RetryPolicy.parseRetryAfterMillis(response.getHeader("Retry-After")));
+        }
     }
     
     /**
@@ -35,7 +57,7 @@ public class ResponseValidator {
      */
     public static void validateFieldExists(Response response, String fieldPath) {
         LoggerUtil.info("Validating field exists: {}", fieldPath);
-        Assert.assertNotNull(response.jsonPath().get(fieldPath), 
+        Assert.assertNotNull(ResponseView.of(response).get(fieldPath), 
                 "Field " + fieldPath + " not found in response");
     }
     
@@ -47,11 +69,32 @@ public class ResponseValidator {
      */
     public static void validateFieldValue(Response response, String fieldPath, Object expectedValue) {
         LoggerUtil.info("Validating field value: {} = {}", fieldPath, expectedValue);
-        Object actualValue = response.jsonPath().get(fieldPath);
+        Object actualValue = ResponseView.of(response).get(fieldPath);
         Assert.assertEquals(actualValue, expectedValue, 
                 "Field " + fieldPath + " value mismatch");
     }
     
+    /**
+     * Validate several field values against one parse of the body, reporting every mismatch
+     * @param response API response
+     * @param expectedValues map of JSON path to expected value
+     */
+    public static void validateFields(Response response, Map<String, Object> expectedValues) {
+        LoggerUtil.info("Validating {} field values", expectedValues.size());
+        Map<String, Object> actualValues = ResponseView.of(response).getAll(expectedValues.keySet());
+        List<String> mismatches = new ArrayList<>();
+        expectedValues.forEach((fieldPath, expectedValue) -> {
+            Object actualValue = actualValues.get(fieldPath);
+            if (!Objects.equals(actualValue, expectedValue)) {
+                mismatches.add("Field " + fieldPath + " value mismatch: expected [" + expectedValue
+                        + "] but found [" + actualValue + "]");
+            }
+        });
+        if (!mismatches.isEmpty()) {
+            Assert.fail(String.join("\n", mismatches));
+        }
+    }
+    
     /**
      * Validate response time
      * @param response API response
@@ -96,21 +139,185 @@ public class ResponseValidator {
      * @param schemaPath path to JSON schema file
      */
     public static void validateSchema(Response response, String schemaPath) {
-    LoggerUtil.info("Validating response schema using: {}", schemaPath);
-    
-    if (schemaPath == null || schemaPath.trim().isEmpty()) {
-        LoggerUtil.error("Schema path is null or empty.");
-        Assert.fail("Schema path cannot be null or empty.");
-    }
+        LoggerUtil.info("Validating response schema using: {}", schemaPath);
+
+        if (schemaPath == null || schemaPath.trim().isEmpty()) {
+            LoggerUtil.error("Schema path is null or empty.");
+            Assert.fail("Schema path cannot be null or empty.");
+        }
 
-    try {
-        response.then()
-                .assertThat()
-                .body(matchesJsonSchemaInClasspath(schemaPath));
+        // The schema is compiled once per JVM and the body is parsed once per response
+        JsonNode body = ResponseView.of(response).getTree();
+        if (body == null) {
+            LoggerUtil.error("Schema validation failed: response body is not JSON");
+            Assert.fail("Schema validation failed: response body is not JSON");
+        }
+
+        ProcessingReport report = SchemaRegistry.getInstance().validate(body, schemaPath);
+        if (!report.isSuccess()) {
+            StringBuilder errors = new StringBuilder();
+            for (ProcessingMessage message : report) {
+                if (message.getLogLevel().compareTo(LogLevel.ERROR) >= 0) {
+                    errors.append(System.lineSeparator()).append(message.getMessage());
+                    JsonNode pointer = message.asJson().path("instance").path("pointer");
+                    if (!pointer.isMissingNode()) {
+                        errors.append(" at '").append(pointer.asText()).append('\'');
+                    }
+                }
+            }
+            LoggerUtil.error("Schema validation failed: {}", errors);
+            Assert.fail("Schema validation failed against " + schemaPath + ":" + errors);
+        }
         LoggerUtil.info("Schema validation passed");
-    } catch (Exception e) {
-        LoggerUtil.error("Schema validation failed: {}", e.getMessage());
-        Assert.fail("Schema validation failed: " + e.getMessage());
+    }
+    
+    /**
+     * Validate a JSON array response element by element without materialising the whole array
+     * @param response API response
+     * @param validator checks applied to each element
+     * @return aggregates of the array
+     */
+    public static StreamingArrayResult validateArray(Response response, StreamingArrayValidator validator) {
+        return validateArray(response.asInputStream(), validator);
+    }
+    
+    /**
+     * Validate a JSON array body element by element in constant memory; the stream is closed afterwards
+     * @param body JSON body, e.g. from BaseAPI.getStream
+     * @param validator checks applied to each element
+     * @return aggregates of the array
+     */
+    public static StreamingArrayResult validateArray(InputStream body, StreamingArrayValidator validator) {
+        StreamingArrayResult result = validator.validate(body);
+        if (!result.isValid()) {
+            String violations = String.join(System.lineSeparator(), result.getViolations());
+            LoggerUtil.error("Array validation failed with {} violations", result.getViolationCount());
+            Assert.fail("Array validation failed with " + result.getViolationCount() + " violations in "
+                    + result.getCount() + " elements:" + System.lineSeparator() + violations);
+        }
+        LoggerUtil.info("Array validation passed for {} elements", result.getCount());
+        return result;
+    }
+    
+    /**
+     * Call an endpoint as described by the SLA and validate its latency percentiles, error rate and
+     * throughput. With a rate the calls arrive at that rate, otherwise they are sent one after another.
+     * Failed requests are not sent again, so every attempt is a measured sample.
+     * @param name operation name used in messages, e.g. "GET /posts/{id}"
+     * @param call API client call, e.g. () -&gt; postAPI.getPostById(1)
+     * @param sla performance targets
+     * @return OperationStats of the measured calls
+     */
+    public static OperationStats validatePerformance(String name, Supplier<Response> call, PerformanceSla sla) {
+        LoggerUtil.info("Validating performance of {} against {} with {} samples", name, sla, sla.getSamples());
+        LoadTest.Builder loadTest = LoadTest.builder(name).operation(name, call);
+        if (sla.getRate() > 0) {
+            long measuredMillis = (long) Math.ceil(sla.getSamples() * 1000.0 / sla.getRate());
+            loadTest.openModel(sla.getRate())
+                    .warmUp(sla.getWarmUp())
+                    .duration(sla.getWarmUp().plusMillis(measuredMillis));
+        } else {
+            if (!sla.getWarmUp().isZero()) {
+                LoadTest.builder(name + " warm-up").operation(name, call)
+                        .closedModel(1).duration(sla.getWarmUp()).build().run();
+            }
+            loadTest.closedModel(1).iterations(sla.getSamples()).duration(Duration.ofHours(1));
+        }
+        OperationStats stats = loadTest.build().run().getOperation(name);
+        validateSla(name, stats, sla);
+        return stats;
+    }
+    
+    /**
+     * Validate load test results against an SLA
+     * @param name operation name used in messages
+     * @param stats measured operation statistics
+     * @param sla performance targets
+     */
+    public static void validateSla(String name, OperationStats stats, PerformanceSla sla) {
+        List<String> violations = new ArrayList<>();
+        checkPercentiles(stats.getLatencies(), sla, violations);
+        checkErrorRate(stats.getErrors(), stats.getCount(), sla.getMaxErrorRate(), violations);
+        if (sla.getMinThroughput() > 0 && stats.getThroughput() < sla.getMinThroughput()) {
+            violations.add(String.format("throughput %.1f/s is below %.1f/s", stats.getThroughput(), sla.getMinThroughput()));
+        }
+        assertNoViolations(name, sla, stats.getLatencies(), violations);
+    }
+    
+    /**
+     * Validate latencies already recorded by BaseAPI for an endpoint against the SLA percentiles
+     * @param method HTTP method
+     * @param endpoint endpoint template, e.g. "/posts/{id}"
+     * @param sla performance targets (only percentiles are checked)
+     */
+    public static void validateRecordedLatency(String method, String endpoint, PerformanceSla sla) {
+        LatencySnapshot latencies = LatencyRegistry.getInstance().getSnapshot(method, endpoint);
+        List<String> violations = new ArrayList<>();
+        checkPercentiles(latencies, sla, violations);
+        assertNoViolations(method + " " + endpoint, sla, latencies, violations);
+    }
+    
+    /**
+     * Check each SLA percentile, reporting the distribution-free 95% confidence interval of the estimate
+     */
+    private static void checkPercentiles(LatencySnapshot latencies, PerformanceSla sla, List<String> violations) {
+        long count = latencies.getCount();
+        for (Map.Entry<Double, Double> limit : sla.getPercentiles().entrySet()) {
+            String label = "p" + PerformanceSla.formatPercentile(limit.getKey());
+            double quantile = limit.getKey() / 100.0;
+            long minSamples = (long) Math.ceil(1 / (1 - quantile) - 1e-9);
+            if (count < minSamples) {
+                violations.add(String.format("%s needs at least %d samples to be estimated but only %d were recorded",
+                        label, minSamples, count));
+                continue;
+            }
+            double value = latencies.getValueAtPercentile(limit.getKey());
+            // Ranks of the order statistics bounding the quantile (normal approximation to the binomial)
+            double spread = Z_95 * Math.sqrt(count * quantile * (1 - quantile));
+            double lower = latencies.getValueAtRank((long) Math.floor(count * quantile - spread));
+            double upper = latencies.getValueAtRank((long) Math.ceil(count * quantile + spread) + 1);
+            String estimate = String.format("%s = %.1f ms (n=%d, 95%% CI [%.1f ms, %.1f ms])",
+                    label, value, count, lower, upper);
+            LoggerUtil.info("{}, limit {} ms", estimate, limit.getValue());
+            if (value > limit.getValue()) {
+                String violation = estimate + String.format(" exceeds %.1f ms", limit.getValue());
+                if (lower <= limit.getValue()) {
+                    violation += "; the limit is inside the confidence interval, more samples are needed to be conclusive";
+                }
+                violations.add(violation);
+            }
+        }
+    }
+    
+    /**
+     * Check error rate, reporting its Wilson 95% confidence interval
+     */
+    private static void checkErrorRate(long errors, long count, double maxErrorRate, List<String> violations) {
+        if (count == 0) {
+            violations.add("no calls were recorded");
+            return;
+        }
+        double rate = (double) errors / count;
+        if (rate <= maxErrorRate) {
+            return;
+        }
+        double z2 = Z_95 * Z_95;
+        double denominator = 1 + z2 / count;
+        double centre = (rate + z2 / (2.0 * count)) / denominator;
+        double halfWidth = Z_95 * Math.sqrt(rate * (1 - rate) / count + z2 / (4.0 * count * count)) / denominator;
+        violations.add(String.format("error rate %.2f%% (%d/%d calls, 95%% CI [%.2f%%, %.2f%%]) exceeds %.2f%%",
+                rate * 100, errors, count, Math.max(0, centre - halfWidth) * 100,
+                Math.min(1, centre + halfWidth) * 100, maxErrorRate * 100));
+    }
+    
+    private static void assertNoViolations(String name, PerformanceSla sla, LatencySnapshot latencies,
+                                           List<String> violations) {
+        if (violations.isEmpty()) {
+            LoggerUtil.info("{} meets {} ({})", name, sla, latencies);
+            return;
+        }
+        String message = name + " violates " + sla + ":\n - " + String.join("\n - ", violations);
+        LoggerUtil.error(message);
+        Assert.fail(message);
     }
 }
-}
\ No newline at end of file
@@ -0,0 +1,206 @@
+package com.restautomation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * ResponseView - Parse-once view of a JSON response body shared by all validators.
+ * The body is parsed into a tree the first time a Response is validated and reused until the
+ * Response is garbage collected. Simple paths ("name", "address.geo.lat", "[0].title",
+ * "items[-1].id", "title" on an array) are resolved directly on the tree and return the same
+ * values as response.jsonPath().get(path); other GPath expressions use one cached JsonPath.
+ */
+public class ResponseView {
+    private static final ObjectMapper objectMapper = JsonUtil.getMapper();
+    // Response does not override equals/hashCode, so this is an identity cache with weak keys
+    private static final Map<Response, ResponseView> VIEWS = Collections.synchronizedMap(new WeakHashMap<>());
+    // Dotted property names with optional [index] steps, e.g. "data[0].address.city" or "[-1].id"
+    private static final Pattern SIMPLE_PATH = Pattern.compile(
+            "\\$|([A-Za-z_][\\w]*)?(\\[-?\\d+])*(\\.[A-Za-z_][\\w]*(\\[-?\\d+])*)*");
+
+    // The view must not reference its Response, otherwise the weak cache key could never be collected
+    private final String body;
+    private final JsonNode root;
+    private JsonPath jsonPath;
+
+    private ResponseView(String body) {
+        this.body = body;
+        this.root = parse(body);
+    }
+
+    /**
+     * Get the shared view of a response, parsing the body on first use
+     * @param response API response
+     * @return ResponseView for the response
+     */
+    public static ResponseView of(Response response) {
+        ResponseView view = VIEWS.get(response);
+        if (view == null) {
+            // Parse outside the lock; a concurrent duplicate parse is harmless
+            view = new ResponseView(response.asString());
+            ResponseView existing = VIEWS.putIfAbsent(response, view);
+            if (existing != null) {
+                view = existing;
+            }
+        }
+        return view;
+    }
+
+    private static JsonNode parse(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            LoggerUtil.debug("Response body is not JSON, using JsonPath: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get the parsed body
+     * @return root JSON node, or null when the body is not JSON
+     */
+    public JsonNode getTree() {
+        return root;
+    }
+
+    /**
+     * Get value at a path with the same result types as JsonPath (Integer, Float, String, List, Map, ...)
+     * @param path JSON path; empty or "$" for the whole body
+     * @return value at the path, or null when it does not exist
+     */
+    public Object get(String path) {
+        String trimmed = path == null ? "" : path.trim();
+        if (root == null || !SIMPLE_PATH.matcher(trimmed).matches()) {
+            return jsonPath().get(trimmed);
+        }
+        return toValue(resolve(root, trimmed));
+    }
+
+    /**
+     * Get values at several paths against the same parsed body
+     * @param paths JSON paths
+     * @return map of path to value, in the order given
+     */
+    public Map<String, Object> getAll(Iterable<String> paths) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String path : paths) {
+            values.put(path, get(path));
+        }
+        return values;
+    }
+
+    private synchronized JsonPath jsonPath() {
+        if (jsonPath == null) {
+            jsonPath = JsonPath.from(body);
+        }
+        return jsonPath;
+    }
+
+    /**
+     * Walk a simple path; a property step on an array collects that property from every element
+     */
+    private static JsonNode resolve(JsonNode node, String path) {
+        if (path.isEmpty() || path.equals("$")) {
+            return node;
+        }
+        JsonNode current = node;
+        for (String step : path.split("\\.")) {
+            int bracket = step.indexOf('[');
+            String name = bracket < 0 ? step : step.substring(0, bracket);
+            if (!name.isEmpty()) {
+                current = property(current, name);
+            }
+            while (bracket >= 0 && current != null) {
+                int close = step.indexOf(']', bracket);
+                current = element(current, Integer.parseInt(step.substring(bracket + 1, close)));
+                bracket = step.indexOf('[', close);
+            }
+            if (current == null) {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    private static JsonNode property(JsonNode node, String name) {
+        if (node.isObject()) {
+            return node.get(name);
+        }
+        if (node.isArray()) {
+            ArrayNode values = objectMapper.createArrayNode();
+            for (JsonNode element : node) {
+                // Like GPath, null elements are skipped while missing properties collect as null
+                if (element.isNull()) {
+                    continue;
+                }
+                JsonNode value = property(element, name);
+                values.add(value == null ? NullNode.getInstance() : value);
+            }
+            return values;
+        }
+        return null;
+    }
+
+    private static JsonNode element(JsonNode node, int index) {
+        if (!node.isArray()) {
+            return null;
+        }
+        int position = index < 0 ? node.size() + index : index;
+        return position >= 0 && position < node.size() ? node.get(position) : null;
+    }
+
+    /**
+     * Convert a tree node to the value types JsonPath returns
+     */
+    private static Object toValue(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return null;
+        }
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (node.isInt()) {
+            return node.intValue();
+        }
+        if (node.isLong()) {
+            return node.longValue();
+        }
+        if (node.isBigInteger()) {
+            return node.bigIntegerValue();
+        }
+        if (node.isNumber()) {
+            double value = node.doubleValue();
+            float floatValue = (float) value;
+            return Float.isInfinite(floatValue) ? (Object) value : (Object) floatValue;
+        }
+        if (node.isArray()) {
+            List<Object> values = new ArrayList<>(node.size());
+            node.forEach(element -> values.add(toValue(element)));
+            return values;
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            values.put(field.getKey(), toValue(field.getValue()));
+        }
+        return values;
+    }
+}
@@ -1,23 +1,111 @@
 package com.restautomation.utils;
 
+import com.restautomation.config.ConfigManager;
+import com.restautomation.exceptions.APIException;
+import com.restautomation.exceptions.StatusCodeAssertionError;
 import org.testng.IRetryAnalyzer;
+import org.testng.ISuite;
 import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * RetryAnalyzer - Retry failed tests
+ * RetryAnalyzer - Retry failed tests. Only transient failures (see FailureType) are retried,
+ * after the backoff of the RetryPolicy; failed assertions and other errors fail at once. The
+ * retries of a suite share the policy budget. A test whose request was already sent again until
+ * retry.count ran out is not retried, so test retries do not multiply the HTTP re-sends.
  */
 public class RetryAnalyzer implements IRetryAnalyzer {
+    private static final String HTTP_RETRIES_EXHAUSTED = "retry.httpRetriesExhausted";
+    private static final Map<ISuite, AtomicInteger> retriesBySuite = Collections.synchronizedMap(new WeakHashMap<>());
+    private static volatile RetryPolicy defaultPolicy;
     private int retryCount = 0;
-    private static final int MAX_RETRY_COUNT = 2;
-    
+
+    /**
+     * Use another policy instead of the configured one for the analyzers created from now on
+     * @param policy retry policy, or null for the configured policy
+     */
+    public static void configure(RetryPolicy policy) {
+        defaultPolicy = policy;
+    }
+
+    /**
+     * Note that a request of the test running on this thread used up its HTTP re-sends
+     */
+    public static void onHttpRetriesExhausted() {
+        onHttpRetriesExhausted(Reporter.getCurrentTestResult());
+    }
+
+    /**
+     * Note that a request of a test used up its HTTP re-sends, e.g. from the thread completing an async request
+     * @param result test that sent the request, may be null
+     */
+    public static void onHttpRetriesExhausted(ITestResult result) {
+        if (result != null) {
+            result.setAttribute(HTTP_RETRIES_EXHAUSTED, Boolean.TRUE);
+        }
+    }
+
+    private static RetryPolicy policy() {
+        RetryPolicy policy = defaultPolicy;
+        if (policy == null) {
+            policy = RetryPolicy.fromConfig(ConfigManager.getInstance());
+            defaultPolicy = policy;
+        }
+        return policy;
+    }
+
     @Override
     public boolean retry(ITestResult result) {
-        if (retryCount < MAX_RETRY_COUNT) {
-            LoggerUtil.info("Retrying test: {} for the {} time", result.getName(), retryCount + 1);
-            retryCount++;
-            return true;
+        RetryPolicy policy = policy();
+        Throwable failure = result.getThrowable();
+        FailureType type = FailureType.classify(failure);
+        if (type != FailureType.TRANSIENT) {
+            LoggerUtil.info("Not retrying test: {} after {} failure", result.getName(), type);
+            return false;
+        }
+        if (result.getAttribute(HTTP_RETRIES_EXHAUSTED) != null) {
+            LoggerUtil.info("Not retrying test: {}, its request was already sent again up to retry.count times",
+                    result.getName());
+            return false;
+        }
+        if (retryCount >= policy.getMaxRetries()) {
+            LoggerUtil.info("Test: {} has reached max retry count: {}", result.getName(), policy.getMaxRetries());
+            return false;
+        }
+        AtomicInteger suiteRetries = retriesBySuite.computeIfAbsent(result.getTestContext().getSuite(),
+                suite -> new AtomicInteger());
+        if (suiteRetries.incrementAndGet() > policy.getBudget()) {
+            LoggerUtil.warn("Not retrying test: {}, the suite has used its retry budget of {}",
+                    result.getName(), policy.getBudget());
+            return false;
+        }
+
+        long delay = policy.backoffMillis(retryCount, retryAfterMillis(failure));
+        retryCount++;
+        LoggerUtil.info("Retrying test: {} for the {} time in {} ms after: {}",
+                result.getName(), retryCount, delay, failure);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    private static long retryAfterMillis(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof APIException) {
+                return ((APIException) cause).getRetryAfterMillis();
+            } else if (cause instanceof StatusCodeAssertionError) {
+                return ((StatusCodeAssertionError) cause).getRetryAfterMillis();
+            }
         }
-        LoggerUtil.info("Test: {} has reached max retry count: {}", result.getName(), MAX_RETRY_COUNT);
-        return false;
+        return -1;
     }
-}
\ No newline at end of file
+}
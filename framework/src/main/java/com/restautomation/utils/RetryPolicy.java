@@ -0,0 +1,193 @@
+package com.restautomation.utils;
+
+import com.restautomation.config.ConfigManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * RetryPolicy - How often and how long after a transient failure a test is retried. Retry n
+ * waits baseDelayMillis * 2^n with equal jitter (half fixed, half random), so retries of
+ * parallel tests do not hit a recovering service at the same moment; a longer Retry-After
+ * of the server wins. Both are capped at maxDelayMillis. The budget caps the retries of a
+ * whole suite, so an outage fails fast instead of retrying every test.
+ */
+public class RetryPolicy {
+    private final int maxRetries;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final int budget;
+
+    private RetryPolicy(Builder builder) {
+        this.maxRetries = builder.maxRetries;
+        this.baseDelayMillis = builder.baseDelayMillis;
+        this.maxDelayMillis = builder.maxDelayMillis;
+        this.budget = builder.budget;
+    }
+
+    /**
+     * Create a builder with the defaults
+     * @return Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create the policy configured by the test.retry.* properties
+     * @param config configuration
+     * @return RetryPolicy instance
+     */
+    public static RetryPolicy fromConfig(ConfigManager config) {
+        return builder()
+                .maxRetries(config.getTestRetryMaxRetries())
+                .baseDelayMillis(config.getTestRetryBaseDelayMillis())
+                .maxDelayMillis(config.getTestRetryMaxDelayMillis())
+                .budget(config.getTestRetryBudget())
+                .build();
+    }
+
+    /**
+     * Get the wait before a retry
+     * @param retry 0-based number of the retry
+     * @param retryAfterMillis delay asked for by the server, -1 if none
+     * @return milliseconds
+     */
+    public long backoffMillis(int retry, long retryAfterMillis) {
+        long delay = Math.min(maxDelayMillis, baseDelayMillis << Math.min(retry, 30));
+        long jittered = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        return Math.min(maxDelayMillis, Math.max(jittered, retryAfterMillis));
+    }
+
+    /**
+     * Parse a Retry-After header, given in seconds or as an HTTP date
+     * @param value header value, may be null
+     * @return milliseconds from now, -1 if the header is missing or invalid
+     */
+    public static long parseRetryAfterMillis(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        try {
+            return Math.max(0, Long.parseLong(trimmed) * 1000);
+        } catch (NumberFormatException e) {
+            try {
+                Instant until = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                return Math.max(0, Duration.between(Instant.now(), until).toMillis());
+            } catch (DateTimeParseException ignored) {
+                LoggerUtil.warn("Ignoring invalid Retry-After header: {}", trimmed);
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Get maximum retries of one test
+     * @return retry count
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Get wait before the first retry
+     * @return milliseconds
+     */
+    public long getBaseDelayMillis() {
+        return baseDelayMillis;
+    }
+
+    /**
+     * Get longest wait before a retry
+     * @return milliseconds
+     */
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    /**
+     * Get maximum retries of a whole suite
+     * @return retry count
+     */
+    public int getBudget() {
+        return budget;
+    }
+
+    /**
+     * Builder - Builder for RetryPolicy
+     */
+    public static final class Builder {
+        private int maxRetries = 2;
+        private long baseDelayMillis = 500;
+        private long maxDelayMillis = 10000;
+        private int budget = 20;
+
+        private Builder() {
+        }
+
+        /**
+         * Set maximum retries of one test
+         * @param maxRetries retry count, 0 to never retry
+         * @return this builder
+         */
+        public Builder maxRetries(int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("Maximum retries must not be negative: " + maxRetries);
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Set wait before the first retry; doubled for every further retry
+         * @param baseDelayMillis milliseconds
+         * @return this builder
+         */
+        public Builder baseDelayMillis(long baseDelayMillis) {
+            if (baseDelayMillis < 0) {
+                throw new IllegalArgumentException("Retry delay must not be negative: " + baseDelayMillis);
+            }
+            this.baseDelayMillis = baseDelayMillis;
+            return this;
+        }
+
+        /**
+         * Set longest wait before a retry, also capping Retry-After
+         * @param maxDelayMillis milliseconds
+         * @return this builder
+         */
+        public Builder maxDelayMillis(long maxDelayMillis) {
+            if (maxDelayMillis < 0) {
+                throw new IllegalArgumentException("Maximum retry delay must not be negative: " + maxDelayMillis);
+            }
+            this.maxDelayMillis = maxDelayMillis;
+            return this;
+        }
+
+        /**
+         * Set maximum retries of a whole suite
+         * @param budget retry count
+         * @return this builder
+         */
+        public Builder budget(int budget) {
+            if (budget < 0) {
+                throw new IllegalArgumentException("Retry budget must not be negative: " + budget);
+            }
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Build the policy
+         * @return RetryPolicy instance
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
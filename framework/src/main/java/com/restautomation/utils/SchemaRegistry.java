@@ -0,0 +1,151 @@
+package com.restautomation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * SchemaRegistry - Loads, compiles and caches classpath JSON schemas once per JVM.
+ * Compiled schemas are immutable and thread-safe, so parallel tests share them.
+ */
+public class SchemaRegistry {
+    private static final SchemaRegistry INSTANCE = new SchemaRegistry();
+
+    private final ObjectMapper objectMapper = JsonUtil.getMapper();
+    private final JsonSchemaFactory schemaFactory = JsonSchemaFactory.byDefault();
+    private final ConcurrentMap<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+
+    private SchemaRegistry() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get the shared registry
+     * @return SchemaRegistry instance
+     */
+    public static SchemaRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get a compiled schema, loading it on first use
+     * @param schemaPath classpath location, e.g. "schemas/user-schema.json"
+     * @return compiled JsonSchema
+     */
+    public JsonSchema getSchema(String schemaPath) {
+        return schemas.computeIfAbsent(normalize(schemaPath), this::compile);
+    }
+
+    /**
+     * Validate an already-parsed JSON document
+     * @param instance JSON document
+     * @param schemaPath classpath location of the schema
+     * @return validation report
+     */
+    public ProcessingReport validate(JsonNode instance, String schemaPath) {
+        try {
+            return getSchema(schemaPath).validate(instance);
+        } catch (ProcessingException e) {
+            throw new RuntimeException("Failed to validate against schema: " + schemaPath, e);
+        }
+    }
+
+    /**
+     * Compile every .json schema under a classpath directory (file system or jar)
+     * @param directory classpath directory, e.g. "schemas"
+     * @return number of schemas compiled
+     */
+    public int preload(String directory) {
+        String prefix = normalize(directory).replaceAll("/+$", "") + "/";
+        List<String> schemaPaths = new ArrayList<>();
+        try {
+            Enumeration<URL> roots = SchemaRegistry.class.getClassLoader().getResources(prefix);
+            for (URL root : Collections.list(roots)) {
+                if ("jar".equals(root.getProtocol())) {
+                    JarURLConnection connection = (JarURLConnection) root.openConnection();
+                    connection.setUseCaches(false);
+                    try (JarFile jar = connection.getJarFile()) {
+                        for (JarEntry entry : Collections.list(jar.entries())) {
+                            if (entry.getName().startsWith(prefix) && entry.getName().endsWith(".json")) {
+                                schemaPaths.add(entry.getName());
+                            }
+                        }
+                    }
+                } else if ("file".equals(root.getProtocol())) {
+                    collectFiles(new File(root.toURI()), prefix, schemaPaths);
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            LoggerUtil.error("Failed to list schemas under {}: {}", prefix, e.getMessage());
+            throw new RuntimeException("Failed to preload schemas from " + prefix, e);
+        }
+        schemaPaths.forEach(this::getSchema);
+        LoggerUtil.info("Preloaded {} JSON schemas from {}", schemaPaths.size(), prefix);
+        return schemaPaths.size();
+    }
+
+    /**
+     * Get number of compiled schemas
+     * @return cached schema count
+     */
+    public int size() {
+        return schemas.size();
+    }
+
+    /**
+     * Drop all compiled schemas
+     */
+    public void clear() {
+        schemas.clear();
+    }
+
+    private static void collectFiles(File directory, String prefix, List<String> schemaPaths) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                collectFiles(file, prefix + file.getName() + "/", schemaPaths);
+            } else if (file.getName().endsWith(".json")) {
+                schemaPaths.add(prefix + file.getName());
+            }
+        }
+    }
+
+    private JsonSchema compile(String schemaPath) {
+        LoggerUtil.info("Compiling JSON schema: {}", schemaPath);
+        try (InputStream input = SchemaRegistry.class.getClassLoader().getResourceAsStream(schemaPath)) {
+            if (input == null) {
+                throw new IllegalArgumentException("Schema not found on classpath: " + schemaPath);
+            }
+            return schemaFactory.getJsonSchema(objectMapper.readTree(input));
+        } catch (IOException | ProcessingException e) {
+            LoggerUtil.error("Failed to compile schema {}: {}", schemaPath, e.getMessage());
+            throw new RuntimeException("Failed to compile schema: " + schemaPath, e);
+        }
+    }
+
+    private static String normalize(String schemaPath) {
+        String path = schemaPath.trim();
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+}
@@ -0,0 +1,91 @@
+package com.restautomation.utils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StreamingArrayResult - Aggregates and violations collected by a StreamingArrayValidator
+ */
+public class StreamingArrayResult {
+    private final long count;
+    private final Map<String, double[]> ranges;
+    private final Map<String, Long> duplicates;
+    private final List<String> violations;
+    private final long violationCount;
+
+    StreamingArrayResult(long count, Map<String, double[]> ranges, Map<String, Long> duplicates,
+                         List<String> violations, long violationCount) {
+        this.count = count;
+        this.ranges = ranges;
+        this.duplicates = duplicates;
+        this.violations = Collections.unmodifiableList(violations);
+        this.violationCount = violationCount;
+    }
+
+    /**
+     * Get number of array elements
+     * @return element count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get smallest value of a range field
+     * @param field field registered with range()
+     * @return minimum, or NaN when no element had a numeric value
+     */
+    public double getMin(String field) {
+        double[] minMax = ranges.get(field);
+        return minMax == null ? Double.NaN : minMax[0];
+    }
+
+    /**
+     * Get largest value of a range field
+     * @param field field registered with range()
+     * @return maximum, or NaN when no element had a numeric value
+     */
+    public double getMax(String field) {
+        double[] minMax = ranges.get(field);
+        return minMax == null ? Double.NaN : minMax[1];
+    }
+
+    /**
+     * Get number of repeated values of a unique field
+     * @param field field registered with unique()
+     * @return duplicate count
+     */
+    public long getDuplicates(String field) {
+        return duplicates.getOrDefault(field, 0L);
+    }
+
+    /**
+     * Get the first violation messages (capped by maxReportedViolations)
+     * @return violation messages
+     */
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Get total number of violations, including those not kept as messages
+     * @return violation count
+     */
+    public long getViolationCount() {
+        return violationCount;
+    }
+
+    /**
+     * Check if every element passed every check
+     * @return true when there are no violations
+     */
+    public boolean isValid() {
+        return violationCount == 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StreamingArrayResult[count=%d, violations=%d]", count, violationCount);
+    }
+}
@@ -0,0 +1,335 @@
+package com.restautomation.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.report.LogLevel;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * StreamingArrayValidator - Validates a JSON array element by element with a pull parser.
+ * Only one element is held in memory at a time, so counts, ranges, per-element predicates and
+ * schema checks run in constant memory however large the body is. Uniqueness checks keep the
+ * seen values; small non-negative integer ids are tracked in a bit set.
+ *
+ * <pre>
+ * StreamingArrayValidator validator = StreamingArrayValidator.builder()
+ *         .each("albumId is positive", photo -&gt; photo.path("albumId").asInt() &gt; 0)
+ *         .schema("schemas/photo-schema.json")
+ *         .unique("id")
+ *         .range("id")
+ *         .minCount(1)
+ *         .build();
+ * StreamingArrayResult result = ResponseValidator.validateArray(photoAPI.getAllPhotosStream(), validator);
+ * </pre>
+ */
+public class StreamingArrayValidator {
+    private static final ObjectMapper objectMapper = JsonUtil.getMapper();
+    // Integer values below this are tracked in a bit set (at most 8 MB) instead of a hash set
+    private static final int MAX_BITSET_VALUE = 1 << 26;
+
+    private final List<String> arrayPath;
+    private final Map<String, Predicate<JsonNode>> predicates;
+    private final List<String> schemaPaths;
+    private final List<String> uniqueFields;
+    private final List<String> rangeFields;
+    private final long minCount;
+    private final long maxCount;
+    private final int maxReportedViolations;
+
+    private StreamingArrayValidator(Builder builder) {
+        this.arrayPath = Collections.unmodifiableList(new ArrayList<>(builder.arrayPath));
+        this.predicates = Collections.unmodifiableMap(new LinkedHashMap<>(builder.predicates));
+        this.schemaPaths = Collections.unmodifiableList(new ArrayList<>(builder.schemaPaths));
+        this.uniqueFields = Collections.unmodifiableList(new ArrayList<>(builder.uniqueFields));
+        this.rangeFields = Collections.unmodifiableList(new ArrayList<>(builder.rangeFields));
+        this.minCount = builder.minCount;
+        this.maxCount = builder.maxCount;
+        this.maxReportedViolations = builder.maxReportedViolations;
+    }
+
+    /**
+     * Create a builder for a streaming validator
+     * @return Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Stream the array and apply every check; the stream is closed afterwards
+     * @param body JSON body
+     * @return aggregates and violations
+     */
+    public StreamingArrayResult validate(InputStream body) {
+        Map<String, JsonPointer> uniquePointers = pointers(uniqueFields);
+        Map<String, JsonPointer> rangePointers = pointers(rangeFields);
+        Map<String, SeenValues> seen = new LinkedHashMap<>();
+        uniqueFields.forEach(field -> seen.put(field, new SeenValues()));
+        Map<String, double[]> ranges = new LinkedHashMap<>();
+        Map<String, Long> duplicates = new LinkedHashMap<>();
+        List<String> violations = new ArrayList<>();
+        long violationCount = 0;
+        long count = 0;
+
+        try (InputStream input = body; JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            moveToArray(parser);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() == null) {
+                    throw new IllegalStateException("Unexpected end of JSON array");
+                }
+                JsonNode element = parser.readValueAsTree();
+                if (element == null) {
+                    element = objectMapper.nullNode();
+                }
+                long index = count++;
+
+                for (Map.Entry<String, Predicate<JsonNode>> predicate : predicates.entrySet()) {
+                    if (!predicate.getValue().test(element)) {
+                        violationCount++;
+                        addViolation(violations, "[" + index + "] " + predicate.getKey() + ": " + element);
+                    }
+                }
+                for (String schemaPath : schemaPaths) {
+                    ProcessingReport report = SchemaRegistry.getInstance().validate(element, schemaPath);
+                    if (!report.isSuccess()) {
+                        violationCount++;
+                        addViolation(violations, "[" + index + "] does not match " + schemaPath + ": "
+                                + firstError(report));
+                    }
+                }
+                for (Map.Entry<String, JsonPointer> unique : uniquePointers.entrySet()) {
+                    JsonNode value = element.at(unique.getValue());
+                    if (!value.isMissingNode() && !seen.get(unique.getKey()).add(value)) {
+                        violationCount++;
+                        duplicates.merge(unique.getKey(), 1L, Long::sum);
+                        addViolation(violations, "[" + index + "] duplicate " + unique.getKey() + ": " + value);
+                    }
+                }
+                for (Map.Entry<String, JsonPointer> range : rangePointers.entrySet()) {
+                    JsonNode value = element.at(range.getValue());
+                    if (value.isNumber()) {
+                        double number = value.doubleValue();
+                        double[] minMax = ranges.computeIfAbsent(range.getKey(), field -> new double[]{number, number});
+                        minMax[0] = Math.min(minMax[0], number);
+                        minMax[1] = Math.max(minMax[1], number);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to stream JSON array: {}", e.getMessage());
+            throw new RuntimeException("Failed to stream JSON array: " + e.getMessage(), e);
+        }
+
+        if (count < minCount) {
+            violationCount++;
+            addViolation(violations, "expected at least " + minCount + " elements but found " + count);
+        }
+        if (count > maxCount) {
+            violationCount++;
+            addViolation(violations, "expected at most " + maxCount + " elements but found " + count);
+        }
+        LoggerUtil.info("Streamed {} array elements with {} violations", count, violationCount);
+        return new StreamingArrayResult(count, ranges, duplicates, violations, violationCount);
+    }
+
+    private void addViolation(List<String> violations, String violation) {
+        if (violations.size() < maxReportedViolations) {
+            violations.add(violation);
+        }
+    }
+
+    /**
+     * Advance the parser to the START_ARRAY of the configured array, skipping unrelated fields
+     */
+    private void moveToArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        for (String field : arrayPath) {
+            if (token != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Expected a JSON object containing '" + field + "' but found " + token);
+            }
+            token = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (field.equals(name)) {
+                    token = value;
+                    break;
+                }
+                parser.skipChildren();
+            }
+            if (token == null) {
+                throw new IllegalStateException("Field not found in JSON body: " + field);
+            }
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new IllegalStateException("Expected a JSON array but found " + token);
+        }
+    }
+
+    private static Map<String, JsonPointer> pointers(List<String> fields) {
+        Map<String, JsonPointer> pointers = new LinkedHashMap<>();
+        fields.forEach(field -> pointers.put(field, JsonPointer.compile("/" + field.replace('.', '/'))));
+        return pointers;
+    }
+
+    private static String firstError(ProcessingReport report) {
+        for (ProcessingMessage message : report) {
+            if (message.getLogLevel().compareTo(LogLevel.ERROR) >= 0) {
+                JsonNode pointer = message.asJson().path("instance").path("pointer");
+                return message.getMessage() + (pointer.isMissingNode() ? "" : " at '" + pointer.asText() + "'");
+            }
+        }
+        return "unknown error";
+    }
+
+    /**
+     * SeenValues - Values already seen for a unique field
+     */
+    private static final class SeenValues {
+        private final BitSet smallInts = new BitSet();
+        private final Set<Object> others = new HashSet<>();
+
+        boolean add(JsonNode value) {
+            if (value.canConvertToInt() && value.isIntegralNumber()
+                    && value.intValue() >= 0 && value.intValue() < MAX_BITSET_VALUE) {
+                int number = value.intValue();
+                if (smallInts.get(number)) {
+                    return false;
+                }
+                smallInts.set(number);
+                return true;
+            }
+            return others.add(value.isValueNode() ? value.asText() + '|' + value.getNodeType() : value.toString());
+        }
+    }
+
+    /**
+     * Builder - Fluent configuration for a StreamingArrayValidator
+     */
+    public static final class Builder {
+        private final List<String> arrayPath = new ArrayList<>();
+        private final Map<String, Predicate<JsonNode>> predicates = new LinkedHashMap<>();
+        private final List<String> schemaPaths = new ArrayList<>();
+        private final List<String> uniqueFields = new ArrayList<>();
+        private final List<String> rangeFields = new ArrayList<>();
+        private long minCount;
+        private long maxCount = Long.MAX_VALUE;
+        private int maxReportedViolations = 20;
+
+        private Builder() {
+        }
+
+        /**
+         * Validate an array nested in the body instead of a top-level array
+         * @param fieldPath dotted field path, e.g. "data" or "page.items"
+         * @return this builder
+         */
+        public Builder arrayAt(String fieldPath) {
+            arrayPath.clear();
+            for (String field : fieldPath.split("\\.")) {
+                if (!field.isEmpty()) {
+                    arrayPath.add(field);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Require every element to match a predicate
+         * @param description description used in violation messages
+         * @param predicate check applied to each element
+         * @return this builder
+         */
+        public Builder each(String description, Predicate<JsonNode> predicate) {
+            predicates.put(description, predicate);
+            return this;
+        }
+
+        /**
+         * Require every element to match a classpath JSON schema
+         * @param schemaPath schema location, e.g. "schemas/photo-schema.json"
+         * @return this builder
+         */
+        public Builder schema(String schemaPath) {
+            schemaPaths.add(schemaPath);
+            return this;
+        }
+
+        /**
+         * Require a field to be unique across elements
+         * @param field dotted field path, e.g. "id"
+         * @return this builder
+         */
+        public Builder unique(String field) {
+            uniqueFields.add(field);
+            return this;
+        }
+
+        /**
+         * Track minimum and maximum of a numeric field
+         * @param field dotted field path, e.g. "albumId"
+         * @return this builder
+         */
+        public Builder range(String field) {
+            rangeFields.add(field);
+            return this;
+        }
+
+        /**
+         * Require at least a number of elements
+         * @param minCount minimum element count
+         * @return this builder
+         */
+        public Builder minCount(long minCount) {
+            this.minCount = minCount;
+            return this;
+        }
+
+        /**
+         * Require at most a number of elements
+         * @param maxCount maximum element count
+         * @return this builder
+         */
+        public Builder maxCount(long maxCount) {
+            this.maxCount = maxCount;
+            return this;
+        }
+
+        /**
+         * Set how many violation messages are kept; all violations are still counted
+         * @param maxReportedViolations number of messages to keep
+         * @return this builder
+         */
+        public Builder maxReportedViolations(int maxReportedViolations) {
+            if (maxReportedViolations <= 0) {
+                throw new IllegalArgumentException("Reported violations must be positive");
+            }
+            this.maxReportedViolations = maxReportedViolations;
+            return this;
+        }
+
+        /**
+         * Build the validator
+         * @return StreamingArrayValidator instance
+         */
+        public StreamingArrayValidator build() {
+            return new StreamingArrayValidator(this);
+        }
+    }
+}
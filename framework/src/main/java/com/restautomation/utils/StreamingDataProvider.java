@@ -0,0 +1,241 @@
+package com.restautomation.utils;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * StreamingDataProvider - Lazy TestNG DataProvider sources for large data files. Records are
+ * read one at a time while the tests run, so the first case starts immediately and the file is
+ * never held in memory. Files are looked up as a path first, then as testdata/&lt;name&gt; on the
+ * classpath like TestDataUtil.
+ *
+ * <pre>
+ * &#64;DataProvider(name = "users")
+ * public Iterator&lt;Object[]&gt; users() {
+ *     return StreamingDataProvider.jsonLines("users.jsonl", User.class);
+ * }
+ * </pre>
+ *
+ * The iterators are thread-safe, so they also work with {@code @DataProvider(parallel = true)};
+ * note that TestNG collects all rows of a parallel DataProvider before running them, so only
+ * sequential DataProviders run in constant memory.
+ */
+public final class StreamingDataProvider {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private StreamingDataProvider() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Stream a JSON Lines file, one JSON value per line
+     * @param fileName file path or name under testdata/
+     * @param type class each line is mapped to, e.g. User.class or JsonNode.class
+     * @param <T> record type
+     * @return lazy iterator of single-element parameter arrays
+     */
+    public static <T> Iterator<Object[]> jsonLines(String fileName, Class<T> type) {
+        return json(fileName, type);
+    }
+
+    /**
+     * Stream the elements of a file holding one top-level JSON array
+     * @param fileName file path or name under testdata/
+     * @param type class each element is mapped to, e.g. User.class or JsonNode.class
+     * @param <T> record type
+     * @return lazy iterator of single-element parameter arrays
+     */
+    public static <T> Iterator<Object[]> jsonArray(String fileName, Class<T> type) {
+        return json(fileName, type);
+    }
+
+    /**
+     * Stream a CSV file with a header row; quoted fields may hold commas, quotes ("") and line breaks
+     * @param fileName file path or name under testdata/
+     * @return lazy iterator of parameter arrays holding the column values of each row as strings
+     */
+    public static Iterator<Object[]> csv(String fileName) {
+        return new RecordIterator(fileName) {
+            private BufferedReader reader;
+
+            @Override
+            protected void open(InputStream input) throws IOException {
+                reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+                if (readRow(reader) == null) {
+                    throw new IOException("CSV file has no header row: " + fileName);
+                }
+            }
+
+            @Override
+            protected Object[] readNext() throws IOException {
+                String[] row;
+                do {
+                    row = readRow(reader);
+                } while (row != null && row.length == 1 && row[0].isEmpty());
+                return row;
+            }
+        };
+    }
+
+    private static <T> Iterator<Object[]> json(String fileName, Class<T> type) {
+        return new RecordIterator(fileName) {
+            private MappingIterator<T> values;
+
+            @Override
+            protected void open(InputStream input) throws IOException {
+                // readValues reads whitespace-separated root values as well as the elements of a root array
+                values = JsonUtil.reader(type).readValues(input);
+            }
+
+            @Override
+            protected Object[] readNext() throws IOException {
+                return values.hasNextValue() ? new Object[] {values.nextValue()} : null;
+            }
+        };
+    }
+
+    /**
+     * Read one CSV record
+     * @param reader CSV source
+     * @return field values, or null at the end of the file
+     * @throws IOException if the file cannot be read or a quote is not closed
+     */
+    private static String[] readRow(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Unterminated quoted CSV field: " + field);
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * RecordIterator - Opens the file on the first hasNext() and closes it after the last record
+     */
+    private abstract static class RecordIterator implements Iterator<Object[]>, AutoCloseable {
+        private final String fileName;
+        private InputStream input;
+        private Object[] next;
+        private boolean opened;
+        private boolean done;
+
+        RecordIterator(String fileName) {
+            this.fileName = fileName;
+        }
+
+        protected abstract void open(InputStream input) throws IOException;
+
+        protected abstract Object[] readNext() throws IOException;
+
+        @Override
+        public synchronized boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (done) {
+                return false;
+            }
+            try {
+                if (!opened) {
+                    opened = true;
+                    input = openFile(fileName);
+                    open(input);
+                }
+                next = readNext();
+            } catch (IOException | RuntimeException e) {
+                close();
+                LoggerUtil.error("Error reading test data: {}", e.getMessage(), e);
+                throw new RuntimeException("Failed to read test data: " + fileName, e);
+            }
+            if (next == null) {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more records in " + fileName);
+            }
+            Object[] record = next;
+            next = null;
+            return record;
+        }
+
+        @Override
+        public synchronized void close() {
+            done = true;
+            if (input != null) {
+                try {
+                    input.close();
+                } catch (IOException e) {
+                    LoggerUtil.warn("Failed to close test data file {}: {}", fileName, e.getMessage());
+                }
+                input = null;
+            }
+        }
+
+        private static InputStream openFile(String fileName) throws IOException {
+            Path path = Paths.get(fileName);
+            if (Files.isRegularFile(path)) {
+                LoggerUtil.info("Streaming test data from: {}", path);
+                return new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE);
+            }
+            URL url = TestDataUtil.locate(fileName);
+            LoggerUtil.info("Streaming test data from: {}", url);
+            return new BufferedInputStream(url.openStream(), BUFFER_SIZE);
+        }
+    }
+}
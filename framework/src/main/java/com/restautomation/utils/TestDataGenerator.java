@@ -0,0 +1,350 @@
+package com.restautomation.utils;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.restautomation.config.ConfigManager;
+import com.restautomation.models.Album;
+import com.restautomation.models.AuthRequest;
+import com.restautomation.models.Photo;
+import com.restautomation.models.Post;
+import com.restautomation.models.Product;
+import com.restautomation.models.Todo;
+import com.restautomation.models.User;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * TestDataGenerator - Seeded generator of valid model instances for large-scale, soak and
+ * data-driven tests. Record n is a pure function of the seed and n: the same seed always gives
+ * the same data, records can be generated in any order or from many threads, and there is no
+ * shared random state to contend on. Values come from fixed word tables, so generating a record
+ * allocates little more than the record itself.
+ *
+ * <pre>
+ * TestDataGenerator generator = TestDataGenerator.fromConfig(ConfigManager.getInstance());
+ * User user = generator.user(0);
+ * generator.writeJsonLines(Paths.get("test-output/users.jsonl"), 1_000_000, generator::user);
+ * Supplier&lt;Post&gt; posts = generator.sequence(generator::post);
+ * </pre>
+ */
+public final class TestDataGenerator {
+    private static final String[] FIRST_NAMES = {
+            "Leanne", "Ervin", "Clementine", "Patricia", "Chelsey", "Dennis", "Kurtis", "Nicholas", "Glenna", "Clementina",
+            "James", "Maria", "Robert", "Linda", "Michael", "Elena", "David", "Sofia", "Daniel", "Amara",
+            "Kenji", "Priya", "Lucas", "Fatima", "Noah", "Ingrid", "Mateo", "Aisha", "Oliver", "Yuki"};
+    private static final String[] LAST_NAMES = {
+            "Graham", "Howell", "Bauch", "Lebsack", "Dietrich", "Schulist", "Weissnat", "Runolfsdottir", "Reichert", "DuBuque",
+            "Smith", "Garcia", "Johnson", "Martinez", "Brown", "Nguyen", "Miller", "Okafor", "Davis", "Kowalski",
+            "Tanaka", "Sharma", "Silva", "Haddad", "Wilson", "Larsen", "Rossi", "Mensah", "Taylor", "Sato"};
+    private static final String[] STREETS = {
+            "Kulas Light", "Victor Plains", "Douglas Extension", "Hoeger Mall", "Skiles Walks", "Norberto Crossing",
+            "Rex Trail", "Ellsworth Summit", "Dayna Park", "Kattie Turnpike", "Maple Avenue", "Harbor Road"};
+    private static final String[] CITIES = {
+            "Gwenborough", "Wisokyburgh", "McKenziehaven", "South Elvis", "Roscoeview", "South Christy",
+            "Howemouth", "Aliyaview", "Bartholomebury", "Lebsackbury", "Port Jacksonside", "East Marisa"};
+    private static final String[] DOMAINS = {"example.com", "example.org", "example.net", "test.example.com"};
+    private static final String[] COMPANY_SUFFIXES = {"Group", "LLC", "Inc", "and Sons", "Partners", "Labs"};
+    private static final String[] CATCH_PHRASE_WORDS = {
+            "multi-layered", "client-server", "proactive", "synchronised", "configurable", "implemented",
+            "neural-net", "zero tolerance", "bi-directional", "fault-tolerant", "scalable", "optimized"};
+    private static final String[] BS_WORDS = {
+            "harness", "synergize", "e-enable", "aggregate", "transition", "target",
+            "real-time", "scalable", "end-to-end", "e-markets", "web-enabled", "platforms"};
+    private static final String[] WORDS = {
+            "sunt", "aut", "facere", "repellat", "provident", "occaecati", "excepturi", "optio", "reprehenderit",
+            "qui", "est", "esse", "ea", "molestias", "quasi", "exercitationem", "nesciunt", "dolorem", "eum",
+            "magnam", "quis", "nostrum", "rerum", "tempore", "vitae", "sequi", "sint", "nihil", "odit", "velit"};
+    private static final String[] CATEGORIES = {"Electronics", "Books", "Home", "Garden", "Toys", "Sports", "Clothing", "Grocery"};
+    private static final String[] PRODUCT_NOUNS = {"Lamp", "Chair", "Headphones", "Notebook", "Backpack", "Kettle", "Watch", "Blender"};
+    private static final String[] PRODUCT_ADJECTIVES = {"Compact", "Deluxe", "Wireless", "Classic", "Ergonomic", "Portable", "Smart", "Premium"};
+    private static final char[] PASSWORD_CHARS = "abcdefghijkmnopqrstuvwxyzABCDEFGHJKLMNPQRSTUVWXYZ23456789".toCharArray();
+
+    private final long seed;
+
+    /**
+     * Create a generator
+     * @param seed seed; the same seed always generates the same records
+     */
+    public TestDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Create a generator seeded by testdata.generator.seed
+     * @param config configuration
+     * @return TestDataGenerator instance
+     */
+    public static TestDataGenerator fromConfig(ConfigManager config) {
+        return new TestDataGenerator(config.getTestDataGeneratorSeed());
+    }
+
+    /**
+     * Generate a user with address, geo location and company
+     * @param index 0-based record number; the id is index + 1
+     * @return User instance
+     */
+    public User user(long index) {
+        String firstName = pick(FIRST_NAMES, index, 1);
+        String lastName = pick(LAST_NAMES, index, 2);
+        String username = firstName + "." + lastName + (index + 1);
+        return User.builder()
+                .id(id(index))
+                .name(firstName + " " + lastName)
+                .username(username)
+                .email(username.toLowerCase() + "@" + pick(DOMAINS, index, 3))
+                .phone(digits(index, 4, 10))
+                .website(lastName.toLowerCase() + (index + 1) + "." + pick(DOMAINS, index, 5))
+                .address(User.Address.builder()
+                        .street(pick(STREETS, index, 6))
+                        .suite("Apt. " + (100 + bounded(index, 7, 900)))
+                        .city(pick(CITIES, index, 8))
+                        .zipcode(digits(index, 9, 5) + "-" + digits(index, 10, 4))
+                        .geo(User.Address.Geo.builder()
+                                .lat(coordinate(index, 11, 90))
+                                .lng(coordinate(index, 12, 180))
+                                .build())
+                        .build())
+                .company(User.Company.builder()
+                        .name(lastName + " " + pick(COMPANY_SUFFIXES, index, 13))
+                        .catchPhrase(words(CATCH_PHRASE_WORDS, index, 14, 3))
+                        .bs(words(BS_WORDS, index, 15, 3))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Generate a post; each user has ten posts
+     * @param index 0-based record number; the id is index + 1
+     * @return Post instance
+     */
+    public Post post(long index) {
+        return Post.builder()
+                .id(id(index))
+                .userId(id(index / 10))
+                .title(words(WORDS, index, 1, 3 + bounded(index, 2, 5)))
+                .body(words(WORDS, index, 3, 20 + bounded(index, 4, 20)))
+                .build();
+    }
+
+    /**
+     * Generate a todo; each user has twenty todos
+     * @param index 0-based record number; the id is index + 1
+     * @return Todo instance
+     */
+    public Todo todo(long index) {
+        return Todo.builder()
+                .id(id(index))
+                .userId(id(index / 20))
+                .title(words(WORDS, index, 1, 2 + bounded(index, 2, 5)))
+                .completed(bounded(index, 3, 2) == 0)
+                .build();
+    }
+
+    /**
+     * Generate an album; each user has ten albums
+     * @param index 0-based record number; the id is index + 1
+     * @return Album instance
+     */
+    public Album album(long index) {
+        return Album.builder()
+                .id(id(index))
+                .userId(id(index / 10))
+                .title(words(WORDS, index, 1, 2 + bounded(index, 2, 5)))
+                .build();
+    }
+
+    /**
+     * Generate a photo; each album has fifty photos
+     * @param index 0-based record number; the id is index + 1
+     * @return Photo instance
+     */
+    public Photo photo(long index) {
+        String color = Integer.toHexString(0x1000000 | bounded(index, 2, 0x1000000)).substring(1);
+        return Photo.builder()
+                .id(id(index))
+                .albumId(id(index / 50))
+                .title(words(WORDS, index, 1, 3 + bounded(index, 3, 5)))
+                .url("https://via.placeholder.com/600/" + color)
+                .thumbnailUrl("https://via.placeholder.com/150/" + color)
+                .build();
+    }
+
+    /**
+     * Generate a product with a positive price and stock
+     * @param index 0-based record number; the id is index + 1
+     * @return Product instance
+     */
+    public Product product(long index) {
+        String name = pick(PRODUCT_ADJECTIVES, index, 1) + " " + pick(PRODUCT_NOUNS, index, 2);
+        return Product.builder()
+                .id(id(index))
+                .name(name)
+                .description(words(WORDS, index, 3, 8 + bounded(index, 4, 8)))
+                .price(BigDecimal.valueOf(99 + bounded(index, 5, 99_900), 2))
+                .stock(bounded(index, 6, 1000))
+                .category(pick(CATEGORIES, index, 7))
+                .imageUrl("https://images.example.com/products/" + (index + 1) + ".png")
+                .build();
+    }
+
+    /**
+     * Generate registration/login credentials with a 12 character letters-and-digits password
+     * @param index 0-based record number
+     * @return AuthRequest instance
+     */
+    public AuthRequest authRequest(long index) {
+        String firstName = pick(FIRST_NAMES, index, 1);
+        String lastName = pick(LAST_NAMES, index, 2);
+        char[] password = new char[12];
+        long bits = 0;
+        for (int i = 0; i < password.length; i++) {
+            if (i % 10 == 0) {
+                bits = mix(index, 3 + i) >>> 1;
+            }
+            password[i] = PASSWORD_CHARS[(int) (bits % PASSWORD_CHARS.length)];
+            bits /= PASSWORD_CHARS.length;
+        }
+        // Guarantee both a letter and a digit
+        password[0] = PASSWORD_CHARS[bounded(index, 20, 49)];
+        password[11] = (char) ('2' + bounded(index, 21, 8));
+        return AuthRequest.builder()
+                .name(firstName + " " + lastName)
+                .email(firstName.toLowerCase() + "." + lastName.toLowerCase() + (index + 1) + "@" + pick(DOMAINS, index, 5))
+                .password(new String(password))
+                .build();
+    }
+
+    /**
+     * Get a thread-safe supplier returning records 0, 1, 2, ... e.g. to feed a LoadTest operation
+     * @param factory record factory, e.g. generator::user
+     * @param <T> record type
+     * @return supplier of consecutive records
+     */
+    public <T> Supplier<T> sequence(LongFunction<T> factory) {
+        AtomicLong next = new AtomicLong();
+        return () -> factory.apply(next.getAndIncrement());
+    }
+
+    /**
+     * Get a lazy DataProvider source generating records 0 to count - 1 as they are consumed
+     * @param count number of records
+     * @param factory record factory, e.g. generator::user
+     * @param <T> record type
+     * @return thread-safe iterator of single-element parameter arrays
+     */
+    public <T> Iterator<Object[]> dataProvider(long count, LongFunction<T> factory) {
+        AtomicLong next = new AtomicLong();
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return next.get() < count;
+            }
+
+            @Override
+            public Object[] next() {
+                long index = next.getAndIncrement();
+                if (index >= count) {
+                    throw new NoSuchElementException("Generated all " + count + " records");
+                }
+                return new Object[] {factory.apply(index)};
+            }
+        };
+    }
+
+    /**
+     * Write records 0 to count - 1 to a JSON Lines file, e.g. for StreamingDataProvider.jsonLines
+     * @param file output file; parent directories are created
+     * @param count number of records
+     * @param factory record factory, e.g. generator::user
+     * @param <T> record type
+     * @return number of bytes written
+     * @throws IOException if the file cannot be written
+     */
+    public <T> long writeJsonLines(Path file, long count, LongFunction<T> factory) throws IOException {
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        if (count <= 0) {
+            Files.write(file, new byte[0]);
+            return 0;
+        }
+        Class<?> type = factory.apply(0).getClass();
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+             SequenceWriter writer = JsonUtil.writer(type).withRootValueSeparator("\n").writeValues(output)) {
+            for (long i = 0; i < count; i++) {
+                writer.write(factory.apply(i));
+            }
+            writer.flush();
+            output.write('\n');
+        }
+        LoggerUtil.info("Generated {} {} records in {}", count, type.getSimpleName(), file);
+        return Files.size(file);
+    }
+
+    private static int id(long index) {
+        return Math.toIntExact(index + 1);
+    }
+
+    /**
+     * Mix the seed, record number and field into 64 well-distributed bits (SplitMix64)
+     */
+    private long mix(long index, int field) {
+        long z = seed + index * 0x9E3779B97F4A7C15L + field * 0xD1B54A32D192ED03L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private int bounded(long index, int field, int bound) {
+        return (int) ((mix(index, field) >>> 1) % bound);
+    }
+
+    private String pick(String[] values, long index, int field) {
+        return values[bounded(index, field, values.length)];
+    }
+
+    private String words(String[] values, long index, int field, int count) {
+        StringBuilder sb = new StringBuilder(count * 8);
+        long bits = 0;
+        for (int i = 0; i < count; i++) {
+            if (i % 12 == 0) {
+                bits = mix(index, field * 64 + i);
+            }
+            if (i > 0) {
+                sb.append(' ');
+            }
+            // 5 bits per word; the tables have at most 32 entries
+            sb.append(values[(int) ((bits & 31) % values.length)]);
+            bits >>>= 5;
+        }
+        return sb.toString();
+    }
+
+    private String digits(long index, int field, int count) {
+        char[] chars = new char[count];
+        long bits = mix(index, field) >>> 1;
+        for (int i = 0; i < count; i++) {
+            chars[i] = (char) ('0' + bits % 10);
+            bits /= 10;
+        }
+        if (chars[0] == '0') {
+            chars[0] = '1';
+        }
+        return new String(chars);
+    }
+
+    private String coordinate(long index, int field, int degrees) {
+        // Four decimals in [-degrees, degrees]
+        long scaled = (mix(index, field) >>> 1) % (2L * degrees * 10_000 + 1) - (long) degrees * 10_000;
+        return BigDecimal.valueOf(scaled, 4).toPlainString();
+    }
+}
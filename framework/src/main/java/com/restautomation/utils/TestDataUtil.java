@@ -1,44 +1,136 @@
 package com.restautomation.utils;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restautomation.config.ConfigManager;
 import lombok.extern.log4j.Log4j2;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * TestDataUtil - Utility for managing test data
+ * TestDataUtil - Utility for managing test data. Files are read from testdata/ on the classpath
+ * (falling back to src/test/resources/testdata/), parsed once and kept in a bounded cache, so
+ * data-driven tests do no disk I/O or parsing after the first read of a file. A cached file is
+ * re-read when its modification time changes. Callers get their own copy of the data, so a test
+ * changing it cannot affect other tests.
  */
 @Log4j2
 public class TestDataUtil {
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final String TEST_DATA_DIR = "src/test/resources/testdata/";
+    private static final String TEST_DATA_RESOURCE = "testdata/";
+    private static final String TEST_DATA_DIR = "src/test/resources/" + TEST_DATA_RESOURCE;
+    private static final ConcurrentMap<String, CachedTestData> cache = new ConcurrentHashMap<>();
+    private static final AtomicLong accessCounter = new AtomicLong();
+    private static final AtomicLong loadCount = new AtomicLong();
     
     private TestDataUtil() {
         // Private constructor to prevent instantiation
     }
     
     /**
-     * Load test data from JSON file
+     * Load test data from JSON file, parsing it only on first use or after it changed on disk
      * @param fileName JSON file name
-     * @return JsonNode with test data
+     * @return copy of the test data, free to modify
      */
     public static JsonNode loadTestData(String fileName) {
+        return cachedTestData(fileName).deepCopy();
+    }
+    
+    /**
+     * Get the cached tree of a file; it is shared by all callers and must not be modified
+     * @param fileName JSON file name
+     * @return parsed test data
+     */
+    private static JsonNode cachedTestData(String fileName) {
+        CachedTestData cached = cache.get(fileName);
+        boolean loaded = false;
+        if (cached == null || cached.isStale()) {
+            // Keep an entry another thread read meanwhile, otherwise read the file once
+            CachedTestData stale = cached;
+            cached = cache.compute(fileName, (key, current) -> current != null && current != stale ? current : read(key));
+            loaded = true;
+        }
+        // Stamp before evicting, so the file just read is never taken for the eldest
+        cached.lastAccess = accessCounter.incrementAndGet();
+        if (loaded) {
+            evictIfFull();
+        }
+        return cached.data;
+    }
+    
+    /**
+     * Drop all cached test data; the next read of each file parses it again
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+    
+    /**
+     * Get number of times a test data file was read and parsed
+     * @return parse count since start
+     */
+    public static long getLoadCount() {
+        return loadCount.get();
+    }
+    
+    private static CachedTestData read(String fileName) {
         try {
-            String filePath = TEST_DATA_DIR + fileName;
-            LoggerUtil.info("Loading test data from: {}", filePath);
-            return objectMapper.readTree(new File(filePath));
-        } catch (IOException e) {
+            URL url = locate(fileName);
+            LoggerUtil.info("Loading test data from: {}", url);
+            loadCount.incrementAndGet();
+            if ("file".equals(url.getProtocol())) {
+                Path path = Paths.get(url.toURI());
+                FileTime lastModified = Files.getLastModifiedTime(path);
+                return new CachedTestData(JsonUtil.getMapper().readTree(path.toFile()), path, lastModified);
+            }
+            try (InputStream input = url.openStream()) {
+                return new CachedTestData(JsonUtil.getMapper().readTree(input), null, null);
+            }
+        } catch (IOException | URISyntaxException e) {
             LoggerUtil.error("Error loading test data: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to load test data", e);
         }
     }
     
+    /**
+     * Find a test data file on the classpath, or in the source tree when run outside Maven
+     * @param fileName JSON file name
+     * @return file location
+     * @throws IOException if the file does not exist
+     */
+    static URL locate(String fileName) throws IOException {
+        URL url = TestDataUtil.class.getClassLoader().getResource(TEST_DATA_RESOURCE + fileName);
+        if (url != null) {
+            return url;
+        }
+        Path path = Paths.get(TEST_DATA_DIR + fileName);
+        if (!Files.exists(path)) {
+            throw new IOException("Test data file not found: " + TEST_DATA_RESOURCE + fileName);
+        }
+        return path.toUri().toURL();
+    }
+    
+    private static void evictIfFull() {
+        int maxFiles = Math.max(1, ConfigManager.getInstance().getTestDataCacheMaxFiles());
+        while (cache.size() > maxFiles) {
+            cache.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                    .ifPresent(eldest -> cache.remove(eldest.getKey(), eldest.getValue()));
+        }
+    }
+    
     /**
      * Get test data for a specific test
      * @param fileName JSON file name
@@ -46,9 +138,9 @@ public class TestDataUtil {
      * @return JsonNode with test data for specified test
      */
     public static JsonNode getTestData(String fileName, String testName) {
-        JsonNode rootNode = loadTestData(fileName);
+        JsonNode rootNode = cachedTestData(fileName);
         if (rootNode.has(testName)) {
-            return rootNode.get(testName);
+            return rootNode.get(testName).deepCopy();
         } else {
             LoggerUtil.error("Test data not found for test: {} in file: {}", testName, fileName);
             throw new RuntimeException("Test data not found for test: " + testName);
@@ -62,7 +154,7 @@ public class TestDataUtil {
      */
     public static Map<String, Object> convertJsonToMap(JsonNode jsonNode) {
         try {
-            return objectMapper.convertValue(jsonNode, HashMap.class);
+            return JsonUtil.getMapper().convertValue(jsonNode, HashMap.class);
         } catch (Exception e) {
             LoggerUtil.error("Error converting JSON to Map: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to convert JSON to Map", e);
@@ -76,9 +168,11 @@ public class TestDataUtil {
      */
     public static String loadJsonFileAsString(String fileName) {
         try {
-            String filePath = TEST_DATA_DIR + fileName;
-            LoggerUtil.info("Loading JSON file as string: {}", filePath);
-            return new String(Files.readAllBytes(Paths.get(filePath)));
+            URL url = locate(fileName);
+            LoggerUtil.info("Loading JSON file as string: {}", url);
+            try (InputStream input = url.openStream()) {
+                return new String(input.readAllBytes());
+            }
         } catch (IOException e) {
             LoggerUtil.error("Error loading JSON file: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to load JSON file", e);
@@ -92,7 +186,7 @@ public class TestDataUtil {
      */
     public static String objectToJson(Object object) {
         try {
-            return objectMapper.writeValueAsString(object);
+            return JsonUtil.toJson(object);
         } catch (IOException e) {
             LoggerUtil.error("Error converting object to JSON: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to convert object to JSON", e);
@@ -108,10 +202,48 @@ public class TestDataUtil {
      */
     public static <T> T jsonToObject(String json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, clazz);
+            return JsonUtil.fromJson(json, clazz);
         } catch (IOException e) {
             LoggerUtil.error("Error converting JSON to object: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to convert JSON to object", e);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * CachedTestData - Parsed test data file and the modification time it was read at
+     */
+    private static final class CachedTestData {
+        private final JsonNode data;
+        private final Path path;
+        private final FileTime lastModified;
+        private volatile long lastChecked = System.nanoTime();
+        private volatile long lastAccess;
+
+        private CachedTestData(JsonNode data, Path path, FileTime lastModified) {
+            this.data = data;
+            this.path = path;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Check if the file changed since it was read, at most every checkIntervalMillis
+         * @return true if the file must be read again
+         */
+        private boolean isStale() {
+            if (path == null) {
+                return false;
+            }
+            long now = System.nanoTime();
+            long interval = TimeUnit.MILLISECONDS.toNanos(ConfigManager.getInstance().getTestDataCacheCheckIntervalMillis());
+            if (now - lastChecked < interval) {
+                return false;
+            }
+            lastChecked = now;
+            try {
+                return !Files.getLastModifiedTime(path).equals(lastModified);
+            } catch (IOException e) {
+                return true;
+            }
+        }
+    }
+}
@@ -1,65 +1,40 @@
 package com.seleniumautomation.config;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Properties;
-
 /**
- * ConfigManager - Singleton class to manage configuration properties
+ * ConfigManager - Singleton class to manage configuration properties; reads the same layered,
+ * immutable configuration as com.restautomation.config.ConfigManager
  */
 public class ConfigManager {
-    private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
-    private static final Properties properties = new Properties();
-    private static ConfigManager instance;
-    private static final String CONFIG_FILE = "src/test/resources/config/dev-config.properties";
+    private static volatile ConfigManager instance;
+    private final com.restautomation.config.ConfigManager config = com.restautomation.config.ConfigManager.getInstance();
 
     private ConfigManager() {
-        loadConfig();
     }
 
     public static ConfigManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigManager();
-        }
-        return instance;
-    }
-
-    private void loadConfig() {
-        try {
-            logger.info("Loading configuration from: {}", CONFIG_FILE);
-            try (InputStream input = new FileInputStream(CONFIG_FILE)) {
-                properties.load(input);
+        ConfigManager manager = instance;
+        if (manager == null) {
+            synchronized (ConfigManager.class) {
+                manager = instance;
+                if (manager == null) {
+                    manager = new ConfigManager();
+                    instance = manager;
+                }
             }
-        } catch (IOException e) {
-            logger.error("Failed to load configuration: {}", e.getMessage());
-            throw new RuntimeException("Failed to load configuration", e);
         }
+        return manager;
     }
 
     public String getProperty(String key) {
-        String value = properties.getProperty(key);
-        if (value == null) {
-            logger.error("Configuration property not found: {}", key);
-            throw new RuntimeException("Configuration property not found: " + key);
-        }
-        return value;
+        return config.getProperty(key);
     }
 
     public String getProperty(String key, String defaultValue) {
-        String value = properties.getProperty(key);
-        if (value == null) {
-            logger.warn("Configuration property not found: {}. Using default: {}", key, defaultValue);
-            return defaultValue;
-        }
-        return value;
+        return config.getProperty(key, defaultValue);
     }
 
     public void setProperty(String key, String value) {
-        properties.setProperty(key, value);
-        logger.info("Set configuration property: {} = {}", key, value);
+        config.setProperty(key, value);
     }
 
     public String getBrowser() {
@@ -67,7 +42,7 @@ public class ConfigManager {
     }
     
     public boolean isHeadless() {
-        return Boolean.parseBoolean(getProperty("headless", "false"));
+        return config.getSnapshot().getBoolean("headless", false);
     }
     
     public String getBaseUrl() {
@@ -75,12 +50,7 @@ public class ConfigManager {
     }
     
     public int getExplicitWait() {
-        try {
-            return Integer.parseInt(getProperty("explicitWait", "30"));
-        } catch (NumberFormatException e) {
-            logger.warn("Invalid explicit wait value, using default 30 seconds");
-            return 30;
-        }
+        return config.getSnapshot().getInt("explicitWait", 30);
     }
     
     public String getDbUrl() {
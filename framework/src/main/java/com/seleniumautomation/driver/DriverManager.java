@@ -123,10 +123,12 @@ public class DriverManager {
         if (getDriver() != null) {
             try {
                 getDriver().quit();
-                driver.remove();
                 LoggerUtil.info("Closed browser and removed WebDriver instance");
             } catch (Exception e) {
                 LoggerUtil.error("Error closing browser: {}", e.getMessage());
+            } finally {
+                // Always clear the slot so a reused (or virtual) worker thread never sees a dead driver
+                driver.remove();
             }
         }
     }
@@ -0,0 +1,105 @@
+package com.restautomation.tests;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.restautomation.api.PostAPI;
+import com.restautomation.api.UserAPI;
+import com.restautomation.base.BaseAPI;
+import com.restautomation.config.ConfigManager;
+import com.restautomation.config.ConfigSnapshot;
+import com.restautomation.factory.APIFactory;
+import com.restautomation.utils.LoggerUtil;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/**
+ * APIFactoryTest - Tests for the shared API client instances of APIFactory
+ */
+public class APIFactoryTest {
+    private static final int PORT = 8999;
+    private static final String BASE_URL = "http://localhost:" + PORT;
+    private final ConfigManager config = ConfigManager.getInstance();
+    private WireMockServer wireMockServer;
+    private ConfigSnapshot savedConfig;
+
+    @BeforeClass
+    public void setup() {
+        LoggerUtil.info("Starting WireMock server on port: {}", PORT);
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().port(PORT));
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlEqualTo("/users/1")).willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": 1, \"name\": \"Leanne Graham\"}")));
+        savedConfig = config.getSnapshot();
+        config.setProperty("baseUrl", BASE_URL);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        config.setSnapshot(savedConfig);
+        APIFactory.getInstance().clear();
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+        // Drop the pooled connections to the stopped server
+        BaseAPI.shutdownTransport();
+    }
+
+    @Test(description = "Test concurrent callers share one client per type")
+    public void testSharedClients() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<UserAPI>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> APIFactory.getInstance().getUserAPI()));
+            }
+            UserAPI userAPI = APIFactory.getInstance().getUserAPI();
+            for (Future<UserAPI> future : futures) {
+                Assert.assertSame(future.get(10, TimeUnit.SECONDS), userAPI);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        PostAPI postAPI = APIFactory.getInstance().getPostAPI();
+        Assert.assertSame(APIFactory.getInstance().getPostAPI(), postAPI);
+    }
+
+    @Test(description = "Test clients are kept per base URL and can be dropped")
+    public void testClientsPerBaseUrl() {
+        UserAPI userAPI = APIFactory.getInstance().getUserAPI();
+
+        config.setProperty("baseUrl", "http://localhost:1");
+        try {
+            Assert.assertNotSame(APIFactory.getInstance().getUserAPI(), userAPI);
+        } finally {
+            config.setProperty("baseUrl", BASE_URL);
+        }
+        Assert.assertSame(APIFactory.getInstance().getUserAPI(), userAPI);
+
+        APIFactory.getInstance().clear();
+        Assert.assertNotSame(APIFactory.getInstance().getUserAPI(), userAPI);
+    }
+
+    @Test(description = "Test a shared client keeps working after the transport is shut down")
+    public void testClientSurvivesTransportShutdown() {
+        UserAPI userAPI = APIFactory.getInstance().getUserAPI();
+        Assert.assertEquals(userAPI.getUserById(1).jsonPath().getString("name"), "Leanne Graham");
+
+        BaseAPI.shutdownTransport();
+
+        Assert.assertEquals(userAPI.getUserById(1).getStatusCode(), 200);
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/users/1")));
+    }
+}
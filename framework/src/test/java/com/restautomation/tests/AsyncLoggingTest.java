@@ -0,0 +1,81 @@
+package com.restautomation.tests;
+
+import com.restautomation.utils.LoggerUtil;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.RandomAccessFileAppender;
+import org.apache.logging.log4j.core.async.AsyncLoggerConfig;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * AsyncLoggingTest - Tests for the asynchronous log4j2 configuration
+ */
+public class AsyncLoggingTest {
+    private static final int THREADS = 8;
+    private static final int MESSAGES_PER_THREAD = 500;
+
+    @Test(description = "Test the root logger is asynchronous and the file appender is buffered")
+    public void testAsyncConfiguration() {
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        LoggerConfig root = context.getConfiguration().getRootLogger();
+
+        Assert.assertTrue(root instanceof AsyncLoggerConfig, "Root logger should be an AsyncRoot but was " + root);
+        Appender file = context.getConfiguration().getAppender("File");
+        Assert.assertTrue(file instanceof RandomAccessFileAppender, "File appender should be buffered");
+        Assert.assertFalse(((RandomAccessFileAppender) file).getImmediateFlush(), "File should flush per batch");
+    }
+
+    @Test(description = "Test messages logged from parallel threads all reach the log file")
+    public void testParallelLoggingIsFlushed() throws Exception {
+        String marker = UUID.randomUUID().toString();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int threadId = thread;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < MESSAGES_PER_THREAD; i++) {
+                    LoggerUtil.info("Async logging {} thread {} message {}", marker, threadId, i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // The background thread flushes the file at the end of each batch without a shutdown
+        Path logFile = Path.of("logs/test-automation.log");
+        long expected = (long) THREADS * MESSAGES_PER_THREAD;
+        long found = 0;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (found < expected && System.currentTimeMillis() < deadline) {
+            found = countLines(logFile, marker);
+            if (found < expected) {
+                Thread.sleep(50);
+            }
+        }
+        Assert.assertEquals(found, expected, "Every message should be written to the log file");
+    }
+
+    private static long countLines(Path logFile, String marker) throws IOException {
+        try (Stream<String> lines = Files.lines(logFile, StandardCharsets.UTF_8)) {
+            return lines.filter(line -> line.contains(marker)).count();
+        }
+    }
+}
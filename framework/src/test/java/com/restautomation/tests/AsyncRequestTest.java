@@ -0,0 +1,147 @@
+package com.restautomation.tests;
+
+import com.restautomation.base.BaseAPI;
+import com.restautomation.config.ConfigManager;
+import com.restautomation.config.ConfigSnapshot;
+import com.restautomation.constants.StatusCodes;
+import com.restautomation.logging.HttpExchangeBuffer;
+import com.restautomation.models.User;
+import com.restautomation.utils.LoggerUtil;
+import com.restautomation.utils.ResponseValidator;
+import io.restassured.response.Response;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.net.ssl.SSLException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/**
+ * AsyncRequestTest - Tests for the asynchronous BaseAPI request methods
+ */
+public class AsyncRequestTest {
+    private static final int PORT = 8991;
+    private static final int HTTPS_PORT = 8988;
+    private static final String BASE_URL = "http://localhost:" + PORT;
+    private static final int DELAY_MILLIS = 500;
+    private WireMockServer wireMockServer;
+    private BaseAPI api;
+
+    @BeforeClass
+    public void setup() {
+        LoggerUtil.info("Starting WireMock server on port: {}", PORT);
+        // WireMock serves HTTPS with a self-signed certificate
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().port(PORT).httpsPort(HTTPS_PORT)
+                .containerThreads(64));
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlPathMatching("/photos/.*"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(DELAY_MILLIS)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\": 7, \"title\": \"Async Photo\"}")));
+        wireMockServer.stubFor(post(urlEqualTo("/users"))
+                .withRequestBody(matchingJsonPath("$.name", equalTo("Async User")))
+                .willReturn(aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\": 101, \"name\": \"Async User\"}")));
+        api = new BaseAPI();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    @Test(description = "Test independent GET requests run concurrently")
+    public void testFanOutGetRequests() {
+        int requestCount = 50;
+        long start = System.currentTimeMillis();
+
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
+        for (int id = 1; id <= requestCount; id++) {
+            futures.add(api.getAsync(BASE_URL + "/photos/{id}", Collections.singletonMap("id", id), null));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        long elapsed = System.currentTimeMillis() - start;
+        LoggerUtil.info("Completed {} async requests in {} ms", requestCount, elapsed);
+        Assert.assertTrue(elapsed < requestCount * DELAY_MILLIS / 2,
+                "Async requests should overlap instead of running one after another");
+
+        for (CompletableFuture<Response> future : futures) {
+            Response response = future.join();
+            ResponseValidator.validateStatusCode(response, StatusCodes.OK);
+            ResponseValidator.validateContentType(response, "application/json");
+            ResponseValidator.validateFieldValue(response, "title", "Async Photo");
+            ResponseValidator.validateResponseTime(response, 5000);
+            Assert.assertTrue(response.getTime() >= DELAY_MILLIS, "Response time should be measured");
+        }
+        wireMockServer.verify(requestCount, getRequestedFor(urlPathMatching("/photos/.*")));
+    }
+
+    @Test(description = "Test POST request body is serialized asynchronously")
+    public void testPostAsync() {
+        User user = User.builder()
+                .name("Async User")
+                .email("async@example.com")
+                .build();
+
+        Response response = api.postAsync(BASE_URL + "/users", user, null).join();
+
+        ResponseValidator.validateStatusCode(response, StatusCodes.CREATED);
+        ResponseValidator.validateFieldValue(response, "id", 101);
+        ResponseValidator.validateFieldValue(response, "name", "Async User");
+    }
+
+    @Test(description = "Test async responses carry the reason phrase and are buffered for the failure log")
+    public void testStatusLineAndLogging() {
+        HttpExchangeBuffer.start();
+        User user = User.builder().name("Async User").build();
+
+        Response response = api.postAsync(BASE_URL + "/users", user, null).join();
+
+        Assert.assertEquals(response.getStatusLine(), "HTTP/1.1 201 Created");
+        Assert.assertEquals(HttpExchangeBuffer.size(), 1, "The async call should be buffered on the sending thread");
+        String rendered = HttpExchangeBuffer.renderAndClear();
+        Assert.assertTrue(rendered.contains(">>> POST " + BASE_URL + "/users"), rendered);
+        Assert.assertTrue(rendered.contains("\"name\":\"Async User\""), rendered);
+        Assert.assertTrue(rendered.contains("<<< HTTP/1.1 201 Created"), rendered);
+    }
+
+    @Test(description = "Test api.sslVerification=false also relaxes HTTPS validation of async requests")
+    public void testRelaxedHttpsValidation() {
+        String url = "https://localhost:" + HTTPS_PORT + "/photos/{id}";
+        ConfigManager config = ConfigManager.getInstance();
+        ConfigSnapshot savedConfig = config.getSnapshot();
+        try {
+            BaseAPI.shutdownTransport();
+            CompletionException rejected = Assert.expectThrows(CompletionException.class,
+                    () -> api.getAsync(url, Collections.singletonMap("id", 1), null).join());
+            Assert.assertTrue(rejected.getCause() instanceof SSLException, rejected.toString());
+
+            config.setProperty("api.sslVerification", "false");
+            BaseAPI.shutdownTransport();
+            Response response = api.getAsync(url, Collections.singletonMap("id", 1), null).join();
+            ResponseValidator.validateStatusCode(response, StatusCodes.OK);
+        } finally {
+            config.setSnapshot(savedConfig);
+            BaseAPI.shutdownTransport();
+        }
+    }
+}
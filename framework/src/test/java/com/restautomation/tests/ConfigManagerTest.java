@@ -0,0 +1,163 @@
+package com.restautomation.tests;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.config.ConfigSnapshot;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigManagerTest - Tests for the layered, immutable configuration of ConfigManager
+ */
+public class ConfigManagerTest {
+    private final ConfigManager config = ConfigManager.getInstance();
+    private ConfigSnapshot savedConfig;
+
+    @BeforeMethod
+    public void saveConfig() {
+        savedConfig = config.getSnapshot();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreConfig() {
+        System.clearProperty("env");
+        System.clearProperty("config.test.url");
+        System.clearProperty("config.test.missing");
+        System.clearProperty("CONFIG_TEST_HOST");
+        System.clearProperty("api.timeout");
+        config.setSnapshot(savedConfig);
+    }
+
+    @Test(description = "Test the -Denv profile overlays dev-config and system properties override both")
+    public void testLayers() {
+        Assert.assertEquals(config.getProperty("api.baseUrl"), "https://jsonplaceholder.typicode.com");
+
+        System.setProperty("env", "qa");
+        System.setProperty("test.parallelThreads", "7");
+        try {
+            config.reload();
+        } finally {
+            System.clearProperty("test.parallelThreads");
+        }
+
+        Assert.assertEquals(config.getProperty("api.baseUrl"), "https://qa-api.example.com", "Profile overrides dev-config");
+        Assert.assertEquals(config.getProperty("test.retryCount"), "3", "Profile overrides dev-config");
+        Assert.assertEquals(config.getProperty("test.parallelThreads"), "7", "System property overrides the profile");
+        Assert.assertNotNull(config.getProperty("api.timeout"), "Keys missing from the profile come from dev-config");
+    }
+
+    @Test(description = "Test an unknown -Denv profile is skipped and the run uses dev-config")
+    public void testUnknownProfile() {
+        System.setProperty("env", "nowhere");
+        config.reload();
+
+        Assert.assertEquals(config.getProperty("api.baseUrl"), "https://jsonplaceholder.typicode.com");
+    }
+
+    @Test(description = "Test environment variables override the files and system properties override them")
+    public void testEnvironmentLayer() {
+        Map<String, String> environment = new HashMap<>();
+        environment.put("API_TIMEOUT", "45");
+        environment.put("TEST_PARALLEL_THREADS", "8");
+        environment.put("REPORT_DIR", "/tmp/env-reports");
+        environment.put("CONFIG_TEST_HOST", "localhost:9090");
+        System.setProperty("test.parallelThreads", "7");
+        System.setProperty("config.test.url", "http://${CONFIG_TEST_HOST}/api");
+        try {
+            config.reload(environment);
+        } finally {
+            System.clearProperty("test.parallelThreads");
+        }
+
+        Assert.assertEquals(ConfigSnapshot.environmentName("http.pool.maxPerRoute"), "HTTP_POOL_MAX_PER_ROUTE");
+        Assert.assertEquals(config.getProperty("api.timeout"), "45", "Environment overrides dev-config");
+        Assert.assertEquals(config.getProperty("test.parallelThreads"), "7", "System property overrides the environment");
+        Assert.assertEquals(config.getReportDir(), "/tmp/env-reports", "Keys missing from the files come from the environment");
+        Assert.assertEquals(config.getProperty("config.test.url"), "http://localhost:9090/api");
+        Assert.assertEquals(config.getSnapshot().with("retry.count", "9").get("report.dir"), "/tmp/env-reports");
+    }
+
+    @Test(description = "Test ${NAME} placeholders are resolved, and unresolved ones keep the file value or fail")
+    public void testPlaceholders() {
+        System.setProperty("CONFIG_TEST_HOST", "localhost:8080");
+        System.setProperty("config.test.url", "http://${CONFIG_TEST_HOST}/api");
+        System.setProperty("api.timeout", "${CONFIG_TEST_UNSET_VARIABLE}");
+        config.reload();
+
+        Assert.assertEquals(config.getProperty("config.test.url"), "http://localhost:8080/api");
+        Assert.assertEquals(config.getProperty("api.timeout"), savedConfig.get("api.timeout"),
+                "An unresolved override keeps the dev-config value");
+
+        System.setProperty("config.test.missing", "${CONFIG_TEST_UNSET_VARIABLE}");
+        ConfigSnapshot loaded = config.getSnapshot();
+        IllegalStateException failure = Assert.expectThrows(IllegalStateException.class, config::reload);
+        Assert.assertTrue(failure.getMessage().contains("config.test.missing"), failure.getMessage());
+        Assert.assertSame(config.getSnapshot(), loaded, "A failed reload keeps the current configuration");
+    }
+
+    @Test(description = "Test typed values are parsed once and invalid values fall back to the default")
+    public void testTypedValues() {
+        Map<String, String> values = new HashMap<>();
+        values.put("timeout", " 45 ");
+        values.put("ratio", "0.25");
+        values.put("enabled", "TRUE");
+        values.put("broken", "forty");
+        ConfigSnapshot snapshot = new ConfigSnapshot(values);
+
+        Assert.assertEquals(snapshot.getInt("timeout", 30), 45);
+        Assert.assertEquals(snapshot.getDouble("ratio", 1.0), 0.25);
+        Assert.assertTrue(snapshot.getBoolean("enabled", false));
+        Assert.assertEquals(snapshot.getInt("broken", 30), 30);
+        Assert.assertEquals(snapshot.getInt("broken", 31), 31, "Invalid values keep falling back to the default");
+        Assert.assertEquals(snapshot.getInt("unset", 5), 5);
+
+        config.setSnapshot(snapshot);
+        Assert.assertEquals(config.getTimeout(), 45);
+    }
+
+    @Test(description = "Test setProperty swaps in a new snapshot and leaves earlier snapshots unchanged")
+    public void testImmutableSnapshots() {
+        ConfigSnapshot before = config.getSnapshot();
+        int retryCount = config.getHttpRetryCount();
+        config.setProperty("retry.count", "9");
+
+        Assert.assertEquals(config.getHttpRetryCount(), 9);
+        Assert.assertNotSame(config.getSnapshot(), before);
+        Assert.assertEquals(before.get("retry.count"), savedConfig.get("retry.count"));
+        Assert.expectThrows(UnsupportedOperationException.class, () -> before.asMap().put("retry.count", "1"));
+
+        config.setSnapshot(before);
+        Assert.assertEquals(config.getHttpRetryCount(), retryCount);
+    }
+
+    @Test(description = "Test concurrent setProperty calls do not lose updates")
+    public void testConcurrentUpdates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[200];
+            for (int i = 0; i < futures.length; i++) {
+                String key = "config.test.key" + i;
+                futures[i] = executor.submit(() -> {
+                    config.setProperty(key, "value");
+                    config.getTimeout();
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        for (int i = 0; i < 200; i++) {
+            Assert.assertEquals(config.getProperty("config.test.key" + i), "value");
+        }
+    }
+}
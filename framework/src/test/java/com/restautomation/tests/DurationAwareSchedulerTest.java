@@ -0,0 +1,250 @@
+package com.restautomation.tests;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.config.ConfigSnapshot;
+import com.restautomation.execution.DurationAwareScheduler;
+import com.restautomation.metrics.PerformanceBaseline;
+import org.testng.Assert;
+import org.testng.IAnnotationTransformer;
+import org.testng.ITestResult;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DurationAwareSchedulerTest - Tests for longest-first scheduling and sharding of test classes
+ */
+public class DurationAwareSchedulerTest {
+    // Declared only for the nested runs: a dependency on the sample classes, which the build also
+    // picks up directly, would make TestNG order the whole enclosing suite by dependencies
+    private static final IAnnotationTransformer DEPENDENCIES = new IAnnotationTransformer() {
+        @Override
+        public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+            if (testMethod != null && testMethod.getDeclaringClass() == SampleDependentTests.class
+                    && testMethod.getName().equals("dependent")) {
+                annotation.setDependsOnGroups(new String[]{"scheduler-setup", "scheduler-provider"});
+            }
+        }
+    };
+
+    private static List<String> run(PerformanceBaseline baseline, int shardIndex, int shardCount) {
+        return run(baseline, shardIndex, shardCount, false);
+    }
+
+    private static List<String> run(PerformanceBaseline baseline, int shardIndex, int shardCount, boolean preserveOrder) {
+        return run(baseline, shardIndex, shardCount, preserveOrder,
+                SampleFastTests.class, SampleSlowTests.class, SampleMediumTests.class);
+    }
+
+    private static List<String> run(PerformanceBaseline baseline, int shardIndex, int shardCount, boolean preserveOrder,
+                                    Class<?>... classes) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Scheduler Suite");
+        XmlTest test = new XmlTest(suite);
+        test.setName("Scheduler Test");
+        test.setPreserveOrder(preserveOrder);
+        List<XmlClass> xmlClasses = new ArrayList<>();
+        for (Class<?> testClass : classes) {
+            xmlClasses.add(new XmlClass(testClass));
+        }
+        test.setXmlClasses(xmlClasses);
+        TestNG testNG = new TestNG(false);
+        testNG.setXmlSuites(Collections.singletonList(suite));
+        testNG.addListener(new DurationAwareScheduler(baseline, shardIndex, shardCount));
+        testNG.addListener(DEPENDENCIES);
+        List<String> started = Collections.synchronizedList(new ArrayList<>());
+        testNG.addListener(new TestListenerAdapter() {
+            @Override
+            public void onTestStart(ITestResult result) {
+                started.add(result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName());
+            }
+        });
+        testNG.setVerbose(0);
+        testNG.run();
+        Assert.assertFalse(testNG.hasFailure(), "Sample tests failed");
+        return started;
+    }
+
+    private static PerformanceBaseline baseline() throws IOException {
+        PerformanceBaseline baseline = PerformanceBaseline.load(Files.createTempDirectory("perf-baseline"), 10);
+        Map<String, Double> durations = new HashMap<>();
+        durations.put(SampleSlowTests.class.getName() + ".first", 400.0);
+        durations.put(SampleSlowTests.class.getName() + ".second", 300.0);
+        durations.put(SampleMediumTests.class.getName() + ".only[1]", 150.0);
+        durations.put(SampleMediumTests.class.getName() + ".only[2]", 150.0);
+        durations.put(SampleFastTests.class.getName() + ".first", 5.0);
+        durations.put(SampleFastTests.class.getName() + ".second", 5.0);
+        baseline.addRun(durations, Collections.emptyMap());
+        return baseline;
+    }
+
+    @Test(description = "Test classes are assigned longest-first to the least loaded shard")
+    public void testPlan() {
+        Map<String, Double> classes = new LinkedHashMap<>();
+        classes.put("E", 30.0);
+        classes.put("D", 40.0);
+        classes.put("C", 50.0);
+        classes.put("B", 60.0);
+        classes.put("A", 100.0);
+
+        List<List<String>> shards = DurationAwareScheduler.plan(classes, 2);
+        Assert.assertEquals(shards, Arrays.asList(Arrays.asList("A", "D"), Arrays.asList("B", "C", "E")));
+        Assert.assertEquals(DurationAwareScheduler.plan(classes, 1),
+                Collections.singletonList(Arrays.asList("A", "B", "C", "D", "E")));
+        Assert.assertEquals(DurationAwareScheduler.plan(classes, 6).get(5), Collections.emptyList());
+        Assert.assertEquals(DurationAwareScheduler.plan(classes, Collections.singleton("E"), 2),
+                Arrays.asList(Arrays.asList("B", "C", "E"), Arrays.asList("A", "D")));
+        Assert.expectThrows(IllegalArgumentException.class, () -> new DurationAwareScheduler(null, 2, 2));
+    }
+
+    @Test(description = "Test the slowest class of the baseline runs first")
+    public void testLongestFirst() throws IOException {
+        List<String> started = run(baseline(), 0, 1);
+
+        Assert.assertEquals(started, Arrays.asList("SampleSlowTests.first", "SampleSlowTests.second",
+                "SampleMediumTests.only", "SampleMediumTests.only", "SampleFastTests.first", "SampleFastTests.second"));
+    }
+
+    @Test(description = "Test a test with preserve-order keeps the XML class order")
+    public void testXmlOrderIsKept() throws IOException {
+        List<String> started = run(baseline(), 0, 1, true);
+
+        Assert.assertEquals(started, Arrays.asList("SampleFastTests.first", "SampleFastTests.second",
+                "SampleSlowTests.first", "SampleSlowTests.second", "SampleMediumTests.only", "SampleMediumTests.only"));
+    }
+
+    @Test(description = "Test sharding fails fast unless the shards only read the baseline")
+    public void testShardingRequiresReadOnlyBaseline() throws IOException {
+        ConfigManager config = ConfigManager.getInstance();
+        ConfigSnapshot savedConfig = config.getSnapshot();
+        try {
+            config.setProperty("perf.baseline.dir", Files.createTempDirectory("perf-baseline").toString());
+            config.setProperty("perf.regression.enabled", "true");
+            config.setProperty("shard.index", "1");
+            config.setProperty("shard.count", "2");
+            config.setProperty("perf.baseline.update", "true");
+            IllegalStateException failure = Assert.expectThrows(IllegalStateException.class, DurationAwareScheduler::new);
+            Assert.assertTrue(failure.getMessage().contains("perf.baseline.update=false"), failure.getMessage());
+
+            config.setProperty("perf.baseline.update", "false");
+            new DurationAwareScheduler();
+        } finally {
+            config.setSnapshot(savedConfig);
+        }
+    }
+
+    @Test(description = "Test the shards of a suite are disjoint and together run every test")
+    public void testShards() throws IOException {
+        PerformanceBaseline baseline = baseline();
+        List<String> first = run(baseline, 0, 2);
+        List<String> second = run(baseline, 1, 2);
+
+        Assert.assertEquals(first, Arrays.asList("SampleSlowTests.first", "SampleSlowTests.second"));
+        Set<String> all = new HashSet<>(first);
+        all.addAll(second);
+        Assert.assertEquals(first.size() + second.size(), 6);
+        Assert.assertEquals(all.size(), 5, "Shards overlap: " + first + " " + second);
+    }
+
+    @Test(description = "Test classes linked by dependencies run only on the first shard")
+    public void testDependenciesStayOnFirstShard() throws IOException {
+        PerformanceBaseline baseline = baseline();
+        List<String> first = run(baseline, 0, 2, false, SampleSlowTests.class, SampleMediumTests.class,
+                SampleFastTests.class, SampleDependentTests.class, SampleGroupTests.class);
+        List<String> second = run(baseline, 1, 2, false, SampleSlowTests.class, SampleMediumTests.class,
+                SampleFastTests.class, SampleDependentTests.class, SampleGroupTests.class);
+
+        Assert.assertTrue(first.containsAll(Arrays.asList("SampleDependentTests.setUp", "SampleDependentTests.dependent",
+                "SampleGroupTests.provider")), first.toString());
+        Assert.assertTrue(second.stream().noneMatch(name -> name.startsWith("SampleDependentTests")
+                || name.startsWith("SampleGroupTests")), second.toString());
+        Assert.assertEquals(first.size() + second.size(), 9, first + " " + second);
+    }
+
+    /**
+     * SampleSlowTests - The slowest class of the primed baseline
+     */
+    public static class SampleSlowTests {
+
+        @Test
+        public void first() {
+        }
+
+        @Test
+        public void second() {
+        }
+    }
+
+    /**
+     * SampleMediumTests - A data-driven class of the primed baseline
+     */
+    public static class SampleMediumTests {
+
+        @DataProvider
+        public Object[][] values() {
+            return new Object[][]{{1}, {2}};
+        }
+
+        @Test(dataProvider = "values")
+        public void only(int value) {
+            Assert.assertTrue(value > 0);
+        }
+    }
+
+    /**
+     * SampleFastTests - The fastest class of the primed baseline
+     */
+    public static class SampleFastTests {
+
+        @Test
+        public void first() {
+        }
+
+        @Test
+        public void second() {
+        }
+    }
+
+    /**
+     * SampleDependentTests - A class whose test depends on a group of another class in the nested runs
+     */
+    public static class SampleDependentTests {
+
+        @Test(groups = "scheduler-setup")
+        public void setUp() {
+        }
+
+        @Test
+        public void dependent() {
+        }
+    }
+
+    /**
+     * SampleGroupTests - A class providing a group other classes depend on
+     */
+    public static class SampleGroupTests {
+
+        @Test(groups = "scheduler-provider")
+        public void provider() {
+        }
+    }
+}
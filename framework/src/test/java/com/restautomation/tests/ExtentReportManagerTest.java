@@ -0,0 +1,154 @@
+package com.restautomation.tests;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.model.Category;
+import com.aventstack.extentreports.model.Log;
+import com.restautomation.exceptions.APIException;
+import com.restautomation.execution.VirtualThreadExecutorFactory;
+import com.restautomation.config.ConfigManager;
+import com.restautomation.config.ConfigSnapshot;
+import com.restautomation.listeners.TestListener;
+import com.restautomation.reports.ExtentReportManager;
+import com.restautomation.utils.RetryAnalyzer;
+import org.testng.Assert;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * ExtentReportManagerTest - Tests for result-keyed report tests under parallel and retried runs
+ */
+public class ExtentReportManagerTest {
+
+    @Test(description = "Test parallel tests on virtual threads log only into their own report test")
+    public void testParallelTestsAreAttributedCorrectly() throws IOException {
+        SampleReportTests.flakyAttempts.set(0);
+        // A listener of the enclosing suite may be tracking this test itself
+        int activeTests = ExtentReportManager.getActiveTestCount();
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Report Suite");
+        suite.setParallel(XmlSuite.ParallelMode.METHODS);
+        suite.setThreadCount(SampleReportTests.METHOD_COUNT);
+        XmlTest test = new XmlTest(suite);
+        test.setName("Report Test");
+        test.setXmlClasses(Collections.singletonList(new XmlClass(SampleReportTests.class)));
+
+        TestNG testNG = new TestNG(false);
+        testNG.setExecutorFactory(new VirtualThreadExecutorFactory());
+        testNG.setXmlSuites(Collections.singletonList(suite));
+        testNG.setVerbose(0);
+        ConfigManager config = ConfigManager.getInstance();
+        ConfigSnapshot savedConfig = config.getSnapshot();
+        String favourCustomExecutor = System.setProperty(VirtualThreadExecutorFactory.FAVOUR_CUSTOM_EXECUTOR, "true");
+        int reportedTests;
+        try {
+            // Keep the sample tests out of the real performance baseline and report directory
+            config.setProperty("perf.regression.enabled", "false");
+            config.setProperty("report.dir", Files.createTempDirectory("reports").toString());
+            // The report outlives this test, so only look at tests reported by the nested run
+            reportedTests = ExtentReportManager.initReports().getReport().getTestList().size();
+            testNG.addListener(new TestListener());
+            testNG.run();
+        } finally {
+            config.setSnapshot(savedConfig);
+            if (favourCustomExecutor == null) {
+                System.clearProperty(VirtualThreadExecutorFactory.FAVOUR_CUSTOM_EXECUTOR);
+            } else {
+                System.setProperty(VirtualThreadExecutorFactory.FAVOUR_CUSTOM_EXECUTOR, favourCustomExecutor);
+            }
+        }
+
+        Assert.assertFalse(testNG.hasFailure(), "Sample tests should pass");
+        Assert.assertEquals(SampleReportTests.flakyAttempts.get(), 2, "The flaky test should be retried once");
+        Assert.assertEquals(ExtentReportManager.getActiveTestCount(), activeTests, "Finished tests should not stay tracked");
+
+        List<com.aventstack.extentreports.model.Test> reported = new ArrayList<>();
+        List<com.aventstack.extentreports.model.Test> testList = ExtentReportManager.initReports().getReport().getTestList();
+        synchronized (testList) {
+            for (com.aventstack.extentreports.model.Test model : testList.subList(reportedTests, testList.size())) {
+                if (model.getCategorySet().stream().map(Category::getName)
+                        .anyMatch(SampleReportTests.class.getSimpleName()::equals)) {
+                    reported.add(model);
+                }
+            }
+        }
+
+        Assert.assertEquals(reported.size(), SampleReportTests.METHOD_COUNT + 1,
+                "Each test should be reported once, retried attempts excluded");
+        for (com.aventstack.extentreports.model.Test model : reported) {
+            List<String> markers = model.getLogs().stream().map(Log::getDetails)
+                    .filter(details -> details != null && details.startsWith("marker:"))
+                    .collect(Collectors.toList());
+            Assert.assertEquals(markers, Collections.singletonList("marker:" + model.getName()),
+                    "Report test " + model.getName() + " should only contain its own log");
+            Assert.assertEquals(model.getStatus(), Status.PASS, model.getName());
+        }
+    }
+
+    /**
+     * SampleReportTests - Overlapping tests that log into the report from their own thread
+     */
+    public static class SampleReportTests {
+        static final int METHOD_COUNT = 6;
+        static final AtomicInteger flakyAttempts = new AtomicInteger();
+
+        private void logAndBlock(String name) throws InterruptedException {
+            // There is no report test when these run outside the nested suite
+            ExtentTest test = ExtentReportManager.getTest();
+            if (test != null) {
+                test.info("marker:" + name);
+            }
+            Thread.sleep(200);
+        }
+
+        @Test
+        public void first() throws InterruptedException {
+            logAndBlock("first");
+        }
+
+        @Test
+        public void second() throws InterruptedException {
+            logAndBlock("second");
+        }
+
+        @Test
+        public void third() throws InterruptedException {
+            logAndBlock("third");
+        }
+
+        @Test
+        public void fourth() throws InterruptedException {
+            logAndBlock("fourth");
+        }
+
+        @Test
+        public void fifth() throws InterruptedException {
+            logAndBlock("fifth");
+        }
+
+        @Test
+        public void sixth() throws InterruptedException {
+            logAndBlock("sixth");
+        }
+
+        @Test(retryAnalyzer = RetryAnalyzer.class)
+        public void flaky() throws InterruptedException {
+            logAndBlock("flaky");
+            if (flakyAttempts.incrementAndGet() == 1) {
+                throw new APIException("First attempt is unavailable", 503);
+            }
+        }
+    }
+}
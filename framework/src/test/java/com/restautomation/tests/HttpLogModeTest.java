@@ -0,0 +1,150 @@
+package com.restautomation.tests;
+
+import com.restautomation.base.BaseAPI;
+import com.restautomation.logging.HttpExchangeBuffer;
+import com.restautomation.logging.HttpLogFilter;
+import com.restautomation.logging.HttpLogMode;
+import com.restautomation.utils.LoggerUtil;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/**
+ * HttpLogModeTest - Tests for the HTTP logging modes and the per-test failure buffer
+ */
+public class HttpLogModeTest {
+    private static final int PORT = 8996;
+    private static final String BASE_URL = "http://localhost:" + PORT;
+    private static final String LARGE_BODY = "{\"data\":\"" + "x".repeat(20_000) + "\"}";
+    private WireMockServer wireMockServer;
+
+    @BeforeClass
+    public void setup() {
+        LoggerUtil.info("Starting WireMock server on port: {}", PORT);
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().port(PORT));
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlEqualTo("/logging/user"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\": 1, \"name\": \"Leanne Graham\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/logging/large"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(LARGE_BODY)));
+    }
+
+    @AfterClass
+    public void tearDown() {
+        HttpExchangeBuffer.clear();
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    @BeforeMethod
+    public void startBuffer() {
+        // As TestListener does when a test starts
+        HttpExchangeBuffer.start();
+    }
+
+    private static Response call(HttpLogMode mode, double sampleRate, String path) {
+        return RestAssured.given()
+                .filter(new HttpLogFilter(mode, sampleRate, 10000))
+                .get(BASE_URL + path)
+                .then()
+                .extract()
+                .response();
+    }
+
+    @Test(description = "Test BaseAPI buffers calls by default and renders them on demand")
+    public void testOnFailureIsDefault() {
+        Response response = new BaseAPI().get(BASE_URL + "/logging/user", null);
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(HttpExchangeBuffer.size(), 1, "The call should be buffered, not logged");
+
+        String rendered = HttpExchangeBuffer.renderAndClear();
+        Assert.assertTrue(rendered.contains(">>> GET " + BASE_URL + "/logging/user"), rendered);
+        Assert.assertTrue(rendered.contains("<<< HTTP/1.1 200 OK"), rendered);
+        Assert.assertTrue(rendered.contains("Leanne Graham"), rendered);
+        Assert.assertEquals(HttpExchangeBuffer.size(), 0, "Rendering should clear the buffer");
+    }
+
+    @Test(description = "Test the failure buffer keeps only the latest calls")
+    public void testBufferIsBounded() {
+        for (int i = 0; i < 25; i++) {
+            call(HttpLogMode.ON_FAILURE, 0, "/logging/user");
+        }
+
+        Assert.assertEquals(HttpExchangeBuffer.size(), 20);
+        Assert.assertTrue(HttpExchangeBuffer.renderAndClear().contains("--- HTTP call 20 of 20 ---"));
+    }
+
+    @Test(description = "Test threads without a started test, such as load test workers, buffer nothing")
+    public void testThreadsWithoutTestDoNotBuffer() {
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            int buffered = CompletableFuture.supplyAsync(() -> {
+                call(HttpLogMode.ON_FAILURE, 0, "/logging/large");
+                return HttpExchangeBuffer.size();
+            }, worker).join();
+            Assert.assertEquals(buffered, 0);
+        } finally {
+            worker.shutdown();
+        }
+
+        HttpExchangeBuffer.clear();
+        call(HttpLogMode.ON_FAILURE, 0, "/logging/user");
+        Assert.assertEquals(HttpExchangeBuffer.size(), 0, "A finished test should not buffer later calls");
+    }
+
+    @Test(description = "Test OFF and HEADERS modes do not buffer calls")
+    public void testOffAndHeadersDoNotBuffer() {
+        call(HttpLogMode.OFF, 0, "/logging/user");
+        call(HttpLogMode.HEADERS, 0, "/logging/user");
+
+        Assert.assertEquals(HttpExchangeBuffer.size(), 0);
+    }
+
+    @Test(description = "Test sampled calls are still buffered for failures")
+    public void testSampledBuffers() {
+        call(HttpLogMode.SAMPLED, 1.0, "/logging/user");
+        call(HttpLogMode.SAMPLED, 0.0, "/logging/user");
+
+        Assert.assertEquals(HttpExchangeBuffer.size(), 2);
+    }
+
+    @Test(description = "Test large bodies are truncated when rendered but untouched in the response")
+    public void testLargeBodyIsTruncated() {
+        Response response = call(HttpLogMode.ON_FAILURE, 0, "/logging/large");
+
+        String rendered = HttpExchangeBuffer.renderAndClear();
+
+        Assert.assertTrue(rendered.contains("more characters)"), "Rendered body should be truncated");
+        Assert.assertTrue(rendered.length() < LARGE_BODY.length());
+        Assert.assertEquals(response.asString(), LARGE_BODY);
+    }
+
+    @Test(description = "Test mode names are parsed leniently")
+    public void testModeParsing() {
+        Assert.assertEquals(HttpLogMode.fromString("on-failure"), HttpLogMode.ON_FAILURE);
+        Assert.assertEquals(HttpLogMode.fromString(" full "), HttpLogMode.FULL);
+        Assert.expectThrows(IllegalArgumentException.class, () -> HttpLogMode.fromString("verbose"));
+    }
+}
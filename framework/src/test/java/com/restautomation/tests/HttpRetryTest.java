@@ -0,0 +1,275 @@
+package com.restautomation.tests;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.restautomation.base.BaseAPI;
+import com.restautomation.base.CircuitBreaker;
+import com.restautomation.config.ConfigManager;
+import com.restautomation.config.ConfigSnapshot;
+import com.restautomation.exceptions.APIException;
+import com.restautomation.load.LoadTest;
+import com.restautomation.load.OperationStats;
+import com.restautomation.utils.FailureType;
+import com.restautomation.utils.LoggerUtil;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/**
+ * HttpRetryTest - Tests for HTTP-level retries and the per-host circuit breaker of BaseAPI
+ */
+public class HttpRetryTest {
+    private static final int PORT = 8998;
+    private static final String BASE_URL = "http://localhost:" + PORT;
+    private static final String USER_BODY = "{\"id\": 1, \"name\": \"Leanne Graham\"}";
+    private final ConfigManager config = ConfigManager.getInstance();
+    private WireMockServer wireMockServer;
+    private ConfigSnapshot savedConfig;
+
+    @BeforeClass
+    public void setup() {
+        LoggerUtil.info("Starting WireMock server on port: {}", PORT);
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().port(PORT));
+        wireMockServer.start();
+        savedConfig = config.getSnapshot();
+        config.setProperty("retry.interval", "1");
+    }
+
+    @BeforeMethod
+    public void resetState() {
+        wireMockServer.resetAll();
+        CircuitBreaker.resetAll();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        config.setSnapshot(savedConfig);
+        CircuitBreaker.resetAll();
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+        // Drop the pooled connections to the stopped server
+        BaseAPI.shutdownTransport();
+    }
+
+    @Test(description = "Test a GET failing with 503 is sent again instead of failing the test")
+    public void testRetriesTransientGet() {
+        wireMockServer.stubFor(get(urlEqualTo("/retry/users/1")).inScenario("flaky")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withStatus(503).withHeader("Retry-After", "0"))
+                .willSetStateTo("recovered"));
+        wireMockServer.stubFor(get(urlEqualTo("/retry/users/1")).inScenario("flaky")
+                .whenScenarioStateIs("recovered")
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(USER_BODY)));
+
+        Response response = new BaseAPI().get(BASE_URL + "/retry/users/1", null);
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(response.jsonPath().getString("name"), "Leanne Graham");
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/retry/users/1")));
+    }
+
+    @Test(description = "Test a GET still failing after retry.count retries returns the last response")
+    public void testGivesUpAfterRetryCount() {
+        wireMockServer.stubFor(get(urlEqualTo("/retry/down")).willReturn(aResponse().withStatus(503)));
+
+        Response response = new BaseAPI().get(BASE_URL + "/retry/down", null);
+
+        Assert.assertEquals(response.getStatusCode(), 503);
+        wireMockServer.verify(1 + config.getHttpRetryCount(), getRequestedFor(urlEqualTo("/retry/down")));
+        Assert.assertNotNull(Reporter.getCurrentTestResult().getAttribute("retry.httpRetriesExhausted"),
+                "A test whose request ran out of re-sends should not be retried as well");
+    }
+
+    @Test(description = "Test POST and non-transient errors are sent only once")
+    public void testNotRetried() {
+        wireMockServer.stubFor(post(urlEqualTo("/retry/users")).willReturn(aResponse().withStatus(503)));
+        wireMockServer.stubFor(get(urlEqualTo("/retry/missing")).willReturn(aResponse().withStatus(404)));
+
+        BaseAPI api = new BaseAPI();
+        Assert.assertEquals(api.post(BASE_URL + "/retry/users", USER_BODY, null).getStatusCode(), 503);
+        Assert.assertEquals(api.get(BASE_URL + "/retry/missing", null).getStatusCode(), 404);
+
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/retry/users")));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/retry/missing")));
+    }
+
+    @Test(description = "Test an async GET failing with 503 is sent again, and gives up after retry.count retries")
+    public void testAsyncRetries() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/retry/users/1")).inScenario("flaky")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withStatus(503).withHeader("Retry-After", "0"))
+                .willSetStateTo("recovered"));
+        wireMockServer.stubFor(get(urlEqualTo("/retry/users/1")).inScenario("flaky")
+                .whenScenarioStateIs("recovered")
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(USER_BODY)));
+        wireMockServer.stubFor(get(urlEqualTo("/retry/down")).willReturn(aResponse().withStatus(503)));
+
+        BaseAPI api = new BaseAPI();
+        Response recovered = api.getAsync(BASE_URL + "/retry/users/1", null).get(10, TimeUnit.SECONDS);
+        Response down = api.getAsync(BASE_URL + "/retry/down", null).get(10, TimeUnit.SECONDS);
+
+        Assert.assertEquals(recovered.getStatusCode(), 200);
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/retry/users/1")));
+        Assert.assertEquals(down.getStatusCode(), 503);
+        wireMockServer.verify(1 + config.getHttpRetryCount(), getRequestedFor(urlEqualTo("/retry/down")));
+        Assert.assertNotNull(Reporter.getCurrentTestResult().getAttribute("retry.httpRetriesExhausted"),
+                "The test should be marked even though the async request completed on another thread");
+    }
+
+    @Test(description = "Test async requests go through the circuit breaker of their host")
+    public void testAsyncCircuitBreaker() {
+        ConfigSnapshot classConfig = config.getSnapshot();
+        config.setProperty("retry.count", "0");
+        config.setProperty("circuitBreaker.failureThreshold", "1");
+        try {
+            BaseAPI api = new BaseAPI();
+            String unreachable = "http://localhost:1/users/1";
+
+            ExecutionException refused = Assert.expectThrows(ExecutionException.class,
+                    () -> api.getAsync(unreachable, null).get(10, TimeUnit.SECONDS));
+            Assert.assertEquals(FailureType.classify(refused.getCause()), FailureType.TRANSIENT, refused.toString());
+            ExecutionException open = Assert.expectThrows(ExecutionException.class,
+                    () -> api.getAsync(unreachable, null).get(10, TimeUnit.SECONDS));
+            Assert.assertTrue(open.getCause().getMessage().startsWith("Circuit breaker open for localhost:1"),
+                    open.getCause().getMessage());
+        } finally {
+            config.setSnapshot(classConfig);
+        }
+    }
+
+    @Test(description = "Test load runs measure every attempt instead of sending failed requests again")
+    public void testLoadRunsDoNotResend() {
+        wireMockServer.stubFor(get(urlEqualTo("/retry/down")).willReturn(aResponse().withStatus(503)));
+        BaseAPI api = new BaseAPI();
+
+        OperationStats stats = LoadTest.builder("resends")
+                .operation("GET /retry/down", () -> api.get(BASE_URL + "/retry/down", null))
+                .closedModel(1)
+                .iterations(3)
+                .duration(Duration.ofMinutes(1))
+                .build()
+                .run()
+                .getOperation("GET /retry/down");
+
+        Assert.assertEquals(stats.getCount(), 3);
+        Assert.assertEquals(stats.getErrors(), 3, "Every 503 should count as an error");
+        wireMockServer.verify(3, getRequestedFor(urlEqualTo("/retry/down")));
+        Assert.assertNull(Reporter.getCurrentTestResult().getAttribute("retry.httpRetriesExhausted"));
+        // Outside the load run the same call is sent again as usual
+        CircuitBreaker.resetAll();
+        Assert.assertEquals(new BaseAPI().get(BASE_URL + "/retry/down", null).getStatusCode(), 503);
+        wireMockServer.verify(3 + 1 + config.getHttpRetryCount(), getRequestedFor(urlEqualTo("/retry/down")));
+    }
+
+    @Test(description = "Test requests to a host that refuses connections fail fast once the circuit opens")
+    public void testCircuitBreakerFailsFast() {
+        BaseAPI api = new BaseAPI();
+        String unreachable = "http://localhost:1/users/1";
+
+        RuntimeException refused = Assert.expectThrows(RuntimeException.class, () -> api.get(unreachable, null));
+        Assert.assertEquals(FailureType.classify(refused), FailureType.TRANSIENT, refused.toString());
+
+        long start = System.nanoTime();
+        APIException open = Assert.expectThrows(APIException.class, () -> api.get(unreachable, null));
+        Assert.assertTrue(open.getMessage().startsWith("Circuit breaker open for localhost:1"), open.getMessage());
+        Assert.assertEquals(FailureType.classify(open), FailureType.PERMANENT, "An open circuit is not retried");
+        Assert.expectThrows(APIException.class, () -> api.get(unreachable, null));
+        Assert.assertTrue(System.nanoTime() - start < 5_000_000_000L, "Open circuit should fail fast");
+        Assert.assertEquals(CircuitBreaker.forHost("localhost:1").getState(), CircuitBreaker.State.OPEN);
+    }
+
+    @Test(description = "Test a trial request failing before it reaches the host does not leave the circuit half-open")
+    public void testHalfOpenTrialIsReleased() throws InterruptedException {
+        wireMockServer.stubFor(get(urlEqualTo("/retry/users/1")).willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(USER_BODY)));
+        ConfigSnapshot classConfig = config.getSnapshot();
+        config.setProperty("circuitBreaker.failureThreshold", "1");
+        config.setProperty("circuitBreaker.openMillis", "50");
+        try {
+            CircuitBreaker circuitBreaker = CircuitBreaker.forHost("localhost:" + PORT);
+            circuitBreaker.onFailure();
+            Thread.sleep(80);
+
+            BaseAPI api = new BaseAPI() {
+                @Override
+                protected Response send(String method, String endpoint, Supplier<Response> request) {
+                    return super.send(method, endpoint, () -> {
+                        throw new IllegalStateException("Broken request filter");
+                    });
+                }
+            };
+            Assert.expectThrows(IllegalStateException.class, () -> api.get(BASE_URL + "/retry/users/1", null));
+            Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+
+            Assert.assertEquals(new BaseAPI().get(BASE_URL + "/retry/users/1", null).getStatusCode(), 200);
+            Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+        } finally {
+            config.setSnapshot(classConfig);
+        }
+    }
+
+    @Test(description = "Test a GET interrupted while backing off throws instead of returning a closed response")
+    public void testInterruptedBackoff() {
+        wireMockServer.stubFor(get(urlEqualTo("/retry/down")).willReturn(aResponse().withStatus(503)));
+
+        Thread.currentThread().interrupt();
+        try {
+            APIException failure = Assert.expectThrows(APIException.class,
+                    () -> new BaseAPI().get(BASE_URL + "/retry/down", null));
+            Assert.assertTrue(failure.getMessage().contains("interrupted"), failure.getMessage());
+            Assert.assertTrue(Thread.currentThread().isInterrupted(), "The interrupt should be kept");
+        } finally {
+            Thread.interrupted();
+        }
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/retry/down")));
+    }
+
+    @Test(description = "Test an open circuit lets one trial request through after the open period")
+    public void testCircuitBreakerHalfOpen() throws InterruptedException {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("example.com", 2, 50);
+        circuitBreaker.onFailure();
+        circuitBreaker.acquire();
+        circuitBreaker.onFailure();
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.expectThrows(APIException.class, circuitBreaker::acquire);
+
+        Thread.sleep(80);
+        circuitBreaker.acquire();
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        Assert.expectThrows(APIException.class, circuitBreaker::acquire);
+        circuitBreaker.onFailure();
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN, "A failed trial opens the circuit again");
+
+        Thread.sleep(80);
+        circuitBreaker.acquire();
+        circuitBreaker.release();
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+        circuitBreaker.acquire();
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.HALF_OPEN,
+                "A released trial lets the next request through at once");
+        circuitBreaker.onSuccess();
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+        circuitBreaker.acquire();
+    }
+}
@@ -0,0 +1,64 @@
+package com.restautomation.tests;
+
+import com.restautomation.base.BaseAPI;
+import com.restautomation.constants.StatusCodes;
+import com.restautomation.utils.LoggerUtil;
+import com.restautomation.utils.ResponseValidator;
+import io.restassured.response.Response;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+import org.apache.http.pool.PoolStats;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/**
+ * HttpTransportTest - Tests for the shared pooled HTTP transport
+ */
+public class HttpTransportTest {
+    private static final int PORT = 8990;
+    private static final String BASE_URL = "http://localhost:" + PORT;
+    private WireMockServer wireMockServer;
+
+    @BeforeClass
+    public void setup() {
+        LoggerUtil.info("Starting WireMock server on port: {}", PORT);
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().port(PORT));
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlPathMatching("/users/.*"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\": 1, \"name\": \"John Doe\"}")));
+    }
+
+    @AfterClass
+    public void tearDown() {
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    @Test(description = "Test connections are returned to the shared pool and reused")
+    public void testConnectionsAreReused() {
+        BaseAPI firstClient = new BaseAPI();
+        BaseAPI secondClient = new BaseAPI();
+
+        for (int i = 0; i < 5; i++) {
+            Response response = (i % 2 == 0 ? firstClient : secondClient).get(BASE_URL + "/users/" + i, null);
+            ResponseValidator.validateStatusCode(response, StatusCodes.OK);
+        }
+
+        PoolStats stats = BaseAPI.getConnectionPoolStats();
+        LoggerUtil.info("Connection pool stats: {}", stats);
+        Assert.assertEquals(stats.getLeased(), 0, "All connections should be released after the responses are read");
+        Assert.assertTrue(stats.getAvailable() >= 1, "Released connections should stay pooled for reuse");
+        Assert.assertTrue(stats.getAvailable() < 5, "Sequential requests should reuse pooled connections");
+        Assert.assertEquals(stats.getPending(), 0, "No requests should be waiting for a connection");
+    }
+}
@@ -0,0 +1,74 @@
+package com.restautomation.tests;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.restautomation.models.Post;
+import com.restautomation.models.User;
+import com.restautomation.utils.JsonUtil;
+import com.restautomation.utils.TestDataUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtilTest - Tests for the shared, accelerated JSON mapper of JsonUtil
+ */
+public class JsonUtilTest {
+
+    @Test(description = "Test the shared mapper has the Blackbird module and caches readers and writers per type")
+    public void testSharedMapper() {
+        Assert.assertTrue(JsonUtil.getMapper().getRegisteredModuleIds().contains(new BlackbirdModule().getTypeId()));
+        Assert.assertSame(JsonUtil.reader(User.class), JsonUtil.reader(User.class));
+        Assert.assertSame(JsonUtil.writer(User.class), JsonUtil.writer(User.class));
+        Assert.assertNotSame(JsonUtil.writer(User.class), JsonUtil.writer(Post.class));
+    }
+
+    @Test(description = "Test models round-trip through JsonUtil and TestDataUtil")
+    public void testRoundTrip() throws Exception {
+        User user = user(7);
+
+        String json = JsonUtil.toJson(user);
+        Assert.assertFalse(json.contains("phone"), "Null fields are left out: " + json);
+        Assert.assertEquals(JsonUtil.fromJson(json, User.class), user);
+        Assert.assertEquals(TestDataUtil.jsonToObject(TestDataUtil.objectToJson(user), User.class), user);
+        Assert.assertEquals(new String(JsonUtil.toJsonBytes(user), "UTF-8"), json);
+        Assert.assertEquals(JsonUtil.fromJson("{\"id\": 1, \"unknown\": true}", User.class).getId(), Integer.valueOf(1));
+    }
+
+    @Test(description = "Test a large model list is (de)serialized correctly from many threads")
+    public void testConcurrentLists() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            users.add(user(i));
+        }
+        String json = JsonUtil.toJson(users);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<User>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> JsonUtil.getMapper().readValue(json, new TypeReference<List<User>>() { })));
+            }
+            for (Future<List<User>> future : futures) {
+                Assert.assertEquals(future.get(30, TimeUnit.SECONDS), users);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static User user(int id) {
+        return User.builder()
+                .id(id)
+                .name("User " + id)
+                .email("user" + id + "@example.com")
+                .address(User.Address.builder().street("Kulas Light").city("Gwenborough").build())
+                .build();
+    }
+}
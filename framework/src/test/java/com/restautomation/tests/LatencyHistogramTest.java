@@ -0,0 +1,108 @@
+package com.restautomation.tests;
+
+import com.restautomation.base.BaseAPI;
+import com.restautomation.metrics.LatencyHistogram;
+import com.restautomation.metrics.LatencyRegistry;
+import com.restautomation.metrics.LatencySnapshot;
+import com.restautomation.utils.LoggerUtil;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/**
+ * LatencyHistogramTest - Tests for latency histograms and per-endpoint recording in BaseAPI
+ */
+public class LatencyHistogramTest {
+    private static final int PORT = 8993;
+    private static final String BASE_URL = "http://localhost:" + PORT;
+    private static final int DELAY_MILLIS = 20;
+    private WireMockServer wireMockServer;
+    private BaseAPI api;
+
+    @BeforeClass
+    public void setup() {
+        LoggerUtil.info("Starting WireMock server on port: {}", PORT);
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().port(PORT));
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlPathMatching("/latency/.*"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(DELAY_MILLIS)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\": 1}")));
+        api = new BaseAPI();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    @Test(description = "Test percentiles stay within the histogram precision")
+    public void testPercentileAccuracy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 10_000; millis++) {
+            histogram.recordNanos(millis * 1_000_000);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        Assert.assertEquals(snapshot.getCount(), 10_000);
+        Assert.assertEquals(snapshot.getP50Millis(), 5_000, 5_000 * 0.02);
+        Assert.assertEquals(snapshot.getP99Millis(), 9_900, 9_900 * 0.02);
+        Assert.assertEquals(snapshot.getP999Millis(), 9_990, 9_990 * 0.02);
+        Assert.assertEquals(snapshot.getMinMillis(), 1.0);
+        Assert.assertEquals(snapshot.getMaxMillis(), 10_000.0);
+        Assert.assertEquals(snapshot.getMeanMillis(), 5_000.5, 0.01);
+    }
+
+    @Test(description = "Test concurrent recording loses no samples")
+    public void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 8;
+        int samplesPerThread = 10_000;
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(Thread.ofPlatform().start(() -> {
+                for (int sample = 0; sample < samplesPerThread; sample++) {
+                    histogram.recordNanos((sample % 500 + 1) * 1_000_000L);
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        Assert.assertEquals(snapshot.getCount(), (long) threads * samplesPerThread);
+        Assert.assertEquals(snapshot.getMaxMillis(), 500.0);
+    }
+
+    @Test(description = "Test BaseAPI records calls under the endpoint template")
+    public void testBaseApiRecordsEndpointTemplate() {
+        LatencyRegistry registry = LatencyRegistry.getInstance();
+        long before = registry.getSnapshot("GET", "/latency/{id}").getCount();
+
+        for (int id = 1; id <= 5; id++) {
+            api.get(BASE_URL + "/latency/{id}", Collections.singletonMap("id", id), null);
+        }
+        api.getAsync(BASE_URL + "/latency/{id}", Collections.singletonMap("id", 6), null).join();
+
+        LatencySnapshot snapshot = registry.getSnapshot("GET", "/latency/{id}");
+        Assert.assertEquals(snapshot.getCount() - before, 6, "Every call should be recorded under the template");
+        Assert.assertTrue(snapshot.getP50Millis() >= DELAY_MILLIS, "Latency should include the server delay");
+        Assert.assertTrue(registry.getSnapshots().containsKey("GET /latency/{id}"));
+    }
+}
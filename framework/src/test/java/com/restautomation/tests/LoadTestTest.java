@@ -0,0 +1,102 @@
+package com.restautomation.tests;
+
+import com.restautomation.base.BaseAPI;
+import com.restautomation.load.LoadResult;
+import com.restautomation.load.LoadTest;
+import com.restautomation.load.OperationStats;
+import com.restautomation.utils.LoggerUtil;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/**
+ * LoadTestTest - Tests for the open and closed load models
+ */
+public class LoadTestTest {
+    private static final int PORT = 8992;
+    private static final String BASE_URL = "http://localhost:" + PORT;
+    private static final int DELAY_MILLIS = 50;
+    private WireMockServer wireMockServer;
+    private BaseAPI api;
+
+    @BeforeClass
+    public void setup() {
+        LoggerUtil.info("Starting WireMock server on port: {}", PORT);
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().port(PORT).containerThreads(64));
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlEqualTo("/users/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(DELAY_MILLIS)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\": 1, \"name\": \"Load User\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/missing"))
+                .willReturn(aResponse().withStatus(404)));
+        api = new BaseAPI();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    @Test(description = "Test open model holds the target arrival rate and skips warm-up calls")
+    public void testOpenModel() {
+        LoadResult result = LoadTest.builder("open model")
+                .operation("GET /users/{id}", 3, () -> api.get(BASE_URL + "/users/1", null))
+                .operation("GET /missing", 1, () -> api.get(BASE_URL + "/missing", null))
+                .openModel(40)
+                .warmUp(Duration.ofMillis(500))
+                .duration(Duration.ofSeconds(2))
+                .build()
+                .run();
+
+        OperationStats users = result.getOperation("GET /users/{id}");
+        OperationStats missing = result.getOperation("GET /missing");
+        long recorded = users.getCount() + missing.getCount();
+        Assert.assertTrue(recorded >= 50 && recorded <= 70,
+                "Expected about 60 calls after warm-up but recorded " + recorded);
+        Assert.assertEquals(users.getErrors(), 0, "Successful calls should not count as errors");
+        Assert.assertEquals(missing.getErrors(), missing.getCount(), "404 responses should count as errors");
+        Assert.assertTrue(users.getP50Millis() >= DELAY_MILLIS, "Latency should include the server delay");
+        Assert.assertTrue(users.getP99Millis() >= users.getP50Millis(), "Percentiles should be ordered");
+        Assert.assertTrue(result.getTotalThroughput() > 0, "Throughput should be reported");
+    }
+
+    @Test(description = "Test closed model keeps one call in flight per virtual user")
+    public void testClosedModel() {
+        int users = 4;
+        LoadResult result = LoadTest.builder("closed model")
+                .operation("GET /users/{id}", () -> api.get(BASE_URL + "/users/1", null))
+                .closedModel(users)
+                .thinkTime(Duration.ofMillis(50))
+                .duration(Duration.ofSeconds(1))
+                .build()
+                .run();
+
+        OperationStats stats = result.getOperation("GET /users/{id}");
+        // Each user completes at most one call per (delay + think time)
+        long maxCalls = users * (1000 / (DELAY_MILLIS + 50) + 1);
+        Assert.assertTrue(stats.getCount() >= users && stats.getCount() <= maxCalls,
+                "Expected between " + users + " and " + maxCalls + " calls but recorded " + stats.getCount());
+        Assert.assertEquals(stats.getErrors(), 0, "Successful calls should not count as errors");
+    }
+
+    @Test(description = "Test load test needs a workload model")
+    public void testBuildWithoutModelFails() {
+        Assert.assertThrows(IllegalStateException.class, () -> LoadTest.builder("invalid")
+                .operation("GET /users/{id}", () -> api.get(BASE_URL + "/users/1", null))
+                .build());
+    }
+}
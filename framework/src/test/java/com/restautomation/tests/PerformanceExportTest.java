@@ -0,0 +1,278 @@
+package com.restautomation.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.restautomation.base.BaseAPI;
+import com.restautomation.config.ConfigManager;
+import com.restautomation.config.ConfigSnapshot;
+import com.restautomation.exceptions.APIException;
+import com.restautomation.listeners.TestListener;
+import com.restautomation.metrics.RequestTiming;
+import com.restautomation.metrics.TestPerformance;
+import com.restautomation.reports.PerformanceBinaryFormat;
+import com.restautomation.reports.PerformanceExporter;
+import com.restautomation.utils.LoggerUtil;
+import com.restautomation.utils.RetryAnalyzer;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.TestNG;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/**
+ * PerformanceExportTest - Tests for the per-test and per-request performance export
+ */
+public class PerformanceExportTest {
+    private static final int PORT = 8997;
+    private static final String BASE_URL = "http://localhost:" + PORT;
+    private static final String USER_BODY = "{\"id\": 1, \"name\": \"Leanne Graham\"}";
+    private final ConfigManager config = ConfigManager.getInstance();
+    private Path directory;
+    private WireMockServer wireMockServer;
+    private List<TestPerformance> exported;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        // Export files stay open for the whole JVM, so every run of this class needs its own directory
+        directory = Files.createTempDirectory("perf-export");
+        LoggerUtil.info("Starting WireMock server on port: {}", PORT);
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().port(PORT));
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlEqualTo("/perf/users/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(USER_BODY)));
+        wireMockServer.stubFor(post(urlEqualTo("/perf/users"))
+                .willReturn(aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(USER_BODY)));
+
+        runSampleSuite("Performance Suite", directory);
+        exported = read(directory);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    private static List<TestPerformance> read(Path directory) {
+        List<TestPerformance> tests = new ArrayList<>();
+        PerformanceBinaryFormat.read(directory.resolve(PerformanceExporter.RESULTS_BINARY), tests::add);
+        return tests;
+    }
+
+    private void runSampleSuite(String name, Path reportDir) {
+        SamplePerformanceTests.flakyAttempts.set(0);
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName(name);
+        XmlTest test = new XmlTest(suite);
+        test.setName("Performance Test");
+        test.setXmlClasses(Collections.singletonList(new XmlClass(SamplePerformanceTests.class)));
+
+        TestNG testNG = new TestNG(false);
+        testNG.setXmlSuites(Collections.singletonList(suite));
+        testNG.setVerbose(0);
+        ConfigSnapshot savedConfig = config.getSnapshot();
+        SamplePerformanceTests.nested = true;
+        try {
+            // Keep the sample tests out of the real performance baseline; tests of the enclosing
+            // suite are exported too, so only redirect the report directory for the nested run
+            config.setProperty("perf.regression.enabled", "false");
+            config.setProperty("report.dir", reportDir.toString());
+            testNG.addListener(new TestListener());
+            testNG.run();
+        } finally {
+            SamplePerformanceTests.nested = false;
+            config.setSnapshot(savedConfig);
+        }
+    }
+
+    private TestPerformance find(String name, String status) {
+        return exported.stream()
+                .filter(test -> test.getName().equals(name) && test.getStatus().equals(status))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + status + " record for " + name + " in " + exported.size()));
+    }
+
+    @Test(description = "Test each call of a test is exported with endpoint template, status and sizes")
+    public void testRequestsAreAttributedToTests() {
+        TestPerformance test = find("getAndPost", "PASS");
+
+        Assert.assertEquals(test.getRequestCount(), 2);
+        Map<String, RequestTiming> byEndpoint = test.getRequests().stream()
+                .collect(Collectors.toMap(RequestTiming::getEndpoint, request -> request));
+        Assert.assertEquals(byEndpoint.keySet(), new HashSet<>(List.of("GET /perf/users/1", "POST /perf/users")));
+        Assert.assertEquals(byEndpoint.get("GET /perf/users/1").getStatusCode(), 200);
+        Assert.assertEquals(byEndpoint.get("GET /perf/users/1").getBytesReceived(), USER_BODY.length());
+        Assert.assertEquals(byEndpoint.get("POST /perf/users").getStatusCode(), 201);
+        Assert.assertTrue(byEndpoint.get("POST /perf/users").getBytesSent() > 0, "POST body size should be known");
+        Assert.assertTrue(test.getTotalLatencyNanos() >= test.getMaxLatencyNanos() && test.getMaxLatencyNanos() > 0);
+        Assert.assertEquals(test.getBytesReceived(), 2L * USER_BODY.length());
+        Assert.assertEquals(test.getSuite(), "Performance Suite");
+        Assert.assertEquals(test.getRetries(), 0);
+    }
+
+    @Test(description = "Test async calls are attributed to the test that sent them")
+    public void testAsyncRequestsAreAttributed() {
+        TestPerformance test = find("async", "PASS");
+
+        Assert.assertEquals(test.getRequestCount(), 3);
+        Assert.assertTrue(test.getRequests().stream().allMatch(request -> request.getEndpoint().equals("GET /perf/users/1")));
+        Assert.assertTrue(test.getRequests().stream().allMatch(request -> request.getBytesReceived() == USER_BODY.length()));
+    }
+
+    @Test(description = "Test retried attempts are exported with increasing retry counts")
+    public void testRetriesAreCounted() {
+        Assert.assertEquals(find("flaky", "RETRIED").getRetries(), 0);
+        Assert.assertEquals(find("flaky", "PASS").getRetries(), 1);
+        Assert.assertEquals(find("noCalls", "PASS").getRequestCount(), 0);
+    }
+
+    @Test(description = "Test repeated invocations of a test are not counted as retries")
+    public void testInvocationsAreNotRetries() {
+        List<TestPerformance> repeated = exported.stream()
+                .filter(test -> test.getName().equals("repeated"))
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(repeated.size(), 3);
+        Assert.assertTrue(repeated.stream().allMatch(test -> test.getRetries() == 0), repeated.toString());
+    }
+
+    @Test(description = "Test a later suite of the same run appends to the export instead of overwriting it")
+    public void testSuitesShareTheExport() throws IOException {
+        Path shared = Files.createTempDirectory("perf-export-suites");
+        runSampleSuite("First Suite", shared);
+        runSampleSuite("Second Suite", shared);
+
+        List<TestPerformance> tests = read(shared);
+        Assert.assertEquals(tests.size(), 2 * exported.size());
+        Assert.assertEquals(tests.stream().map(TestPerformance::getSuite).distinct().collect(Collectors.toList()),
+                List.of("First Suite", "Second Suite"));
+        List<String> testRows = Files.readAllLines(shared.resolve(PerformanceExporter.TESTS_CSV), StandardCharsets.UTF_8);
+        Assert.assertEquals(testRows.size() - 1, tests.size(), "The CSV header should only be written once");
+        Assert.assertEquals(Files.readAllLines(shared.resolve(PerformanceExporter.RESULTS_JSONL), StandardCharsets.UTF_8).size(),
+                tests.size());
+    }
+
+    @Test(description = "Test an unknown export format disables the export instead of failing the listener")
+    public void testUnknownFormatDisablesExport() throws IOException {
+        Path disabled = Files.createTempDirectory("perf-export-disabled");
+        ConfigSnapshot savedConfig = config.getSnapshot();
+        try {
+            config.setProperty("perf.export.formats", "csv, xml");
+            config.setProperty("report.dir", disabled.toString());
+            PerformanceExporter.getInstance().write(TestPerformance.builder()
+                    .test("Suite", PerformanceExportTest.class.getName(), "disabled", null)
+                    .outcome("PASS", System.currentTimeMillis(), 1, 0, Thread.currentThread().getName())
+                    .build());
+            PerformanceExporter.getInstance().flush();
+        } finally {
+            config.setSnapshot(savedConfig);
+        }
+
+        try (Stream<Path> files = Files.list(disabled)) {
+            Assert.assertEquals(files.count(), 0L, "No export file should be written");
+        }
+    }
+
+    @Test(description = "Test the CSV and JSON Lines exports hold the same tests as the binary export")
+    public void testTextFormats() throws IOException {
+        List<String> testRows = Files.readAllLines(directory.resolve(PerformanceExporter.TESTS_CSV), StandardCharsets.UTF_8);
+        List<String> requestRows = Files.readAllLines(directory.resolve(PerformanceExporter.REQUESTS_CSV), StandardCharsets.UTF_8);
+        List<String> jsonLines = Files.readAllLines(directory.resolve(PerformanceExporter.RESULTS_JSONL), StandardCharsets.UTF_8);
+
+        int requestCount = exported.stream().mapToInt(TestPerformance::getRequestCount).sum();
+        Assert.assertTrue(testRows.get(0).startsWith("suite,class,name"), testRows.get(0));
+        Assert.assertEquals(testRows.size() - 1, exported.size());
+        Assert.assertEquals(requestRows.size() - 1, requestCount);
+        Assert.assertEquals(jsonLines.size(), exported.size());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Integer> jsonRequests = new HashMap<>();
+        for (String line : jsonLines) {
+            JsonNode node = objectMapper.readTree(line);
+            jsonRequests.merge(node.path("name").asText(), node.path("requests").size(), Integer::sum);
+        }
+        Assert.assertEquals(jsonRequests.get("getAndPost"), Integer.valueOf(2));
+    }
+
+    /**
+     * SamplePerformanceTests - Tests making HTTP calls inside the nested suite
+     */
+    public static class SamplePerformanceTests {
+        static final AtomicInteger flakyAttempts = new AtomicInteger();
+        static volatile boolean nested;
+
+        @Test(priority = 1)
+        public void getAndPost() {
+            // WireMock only runs for the nested suite, not when the build picks this class up directly
+            if (!nested) {
+                return;
+            }
+            BaseAPI api = new BaseAPI();
+            api.get(BASE_URL + "/perf/users/1", null);
+            Map<String, Object> user = new HashMap<>();
+            user.put("name", "Leanne Graham");
+            api.post(BASE_URL + "/perf/users", user, null);
+        }
+
+        @Test(priority = 2)
+        public void async() {
+            if (!nested) {
+                return;
+            }
+            BaseAPI api = new BaseAPI();
+            List<CompletableFuture<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(api.getAsync(BASE_URL + "/perf/users/1", null));
+            }
+            futures.forEach(CompletableFuture::join);
+        }
+
+        @Test(priority = 3, retryAnalyzer = RetryAnalyzer.class)
+        public void flaky() {
+            if (nested && flakyAttempts.incrementAndGet() == 1) {
+                throw new APIException("First attempt is unavailable", 503);
+            }
+        }
+
+        @Test(priority = 4)
+        public void noCalls() {
+            Assert.assertTrue(true);
+        }
+
+        @Test(priority = 5, invocationCount = 3)
+        public void repeated() {
+            Assert.assertTrue(true);
+        }
+    }
+}
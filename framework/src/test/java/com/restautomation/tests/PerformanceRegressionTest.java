@@ -0,0 +1,181 @@
+package com.restautomation.tests;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.config.ConfigSnapshot;
+import com.restautomation.listeners.TestListener;
+import com.restautomation.metrics.PerformanceBaseline;
+import com.restautomation.metrics.Regression;
+import com.restautomation.metrics.RegressionDetector;
+import com.restautomation.metrics.RegressionPolicy;
+import com.restautomation.metrics.RequestTiming;
+import com.restautomation.metrics.RobustStats;
+import com.restautomation.metrics.TestPerformance;
+import org.testng.Assert;
+import org.testng.TestNG;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PerformanceRegressionTest - Tests for the build-over-build performance regression detector
+ */
+public class PerformanceRegressionTest {
+    private static final List<Double> STABLE = Arrays.asList(100.0, 102.0, 98.0, 101.0, 99.0, 250.0);
+    private final ConfigManager config = ConfigManager.getInstance();
+    private ConfigSnapshot savedConfig;
+    private Path directory;
+
+    @BeforeMethod
+    public void createBaselineDirectory() throws IOException {
+        directory = Files.createTempDirectory("perf-baseline");
+        // The regression report of the sample runs goes next to their baseline, not to the real reports
+        savedConfig = config.getSnapshot();
+        config.setProperty("report.dir", directory.toString());
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreDetector() {
+        RegressionDetector.getInstance().configure(null, null);
+        config.setSnapshot(savedConfig);
+    }
+
+    private static TestPerformance run(String name, long durationMillis, long requestMillis) {
+        RequestTiming request = new RequestTiming("GET /users/{id}", 200, 0,
+                TimeUnit.MILLISECONDS.toNanos(requestMillis), 0, 100, "main");
+        return TestPerformance.builder()
+                .test("Suite", "com.example.UserApiTest", name, null)
+                .outcome("PASS", 0, durationMillis, 0, "main")
+                .totals(1, request.getLatencyNanos(), request.getLatencyNanos(), 0, 100)
+                .requests(Collections.singletonList(request))
+                .build();
+    }
+
+    @Test(description = "Test median, MAD and percentiles ignore a single outlier")
+    public void testRobustStats() {
+        Assert.assertEquals(RobustStats.median(STABLE), 100.5, 0.001);
+        Assert.assertEquals(RobustStats.mad(STABLE), 1.5, 0.001);
+        Assert.assertEquals(RobustStats.percentile(Arrays.asList(1.0, 2.0, 3.0, 4.0, 5.0), 90), 4.6, 0.001);
+        Assert.assertTrue(Double.isNaN(RobustStats.median(Collections.emptyList())));
+    }
+
+    @Test(description = "Test only slowdowns beyond the relative, absolute and MAD thresholds are regressions")
+    public void testPolicy() {
+        RegressionPolicy policy = RegressionPolicy.builder().threshold(0.3).failThreshold(1.0).minRuns(3).build();
+
+        Assert.assertNull(policy.evaluate(Regression.Kind.TEST, "t", 120, STABLE), "20% slower is within the threshold");
+        Assert.assertNull(policy.evaluate(Regression.Kind.TEST, "t", 500, STABLE.subList(0, 2)), "Too few runs");
+        Assert.assertNull(policy.evaluate(Regression.Kind.TEST, "t", 15, Arrays.asList(5.0, 5.0, 5.0)),
+                "A 10 ms slowdown is below the minimum delta");
+
+        Regression regression = policy.evaluate(Regression.Kind.TEST, "t", 140, STABLE);
+        Assert.assertNotNull(regression);
+        Assert.assertFalse(regression.isFailing());
+        Assert.assertEquals(regression.getChange(), 140 / 100.5 - 1, 0.001);
+        Assert.assertTrue(policy.evaluate(Regression.Kind.TEST, "t", 210, STABLE).isFailing());
+    }
+
+    @Test(description = "Test the detector compares tests and endpoints with the baseline of previous runs")
+    public void testDetectorAgainstBaseline() {
+        RegressionDetector detector = RegressionDetector.getInstance();
+        detector.configure(directory, RegressionPolicy.builder().minRuns(3).maxRuns(4).build());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertNull(detector.record(run("getUser", 100 + i, 20)), "No baseline yet in run " + i);
+            Assert.assertTrue(detector.finishRun().isEmpty());
+        }
+
+        Regression slowTest = detector.record(run("getUser", 200, 80));
+        Assert.assertNotNull(slowTest);
+        Assert.assertEquals(slowTest.getKind(), Regression.Kind.TEST);
+        Assert.assertEquals(slowTest.getKey(), "com.example.UserApiTest.getUser");
+        Assert.assertEquals(slowTest.getMedianMillis(), 102.5, 0.001, "Only the last 4 runs are kept");
+
+        List<Regression> regressions = detector.finishRun();
+        Assert.assertEquals(regressions.size(), 2, regressions.toString());
+        Assert.assertTrue(regressions.stream().anyMatch(regression -> regression.getKind() == Regression.Kind.ENDPOINT
+                && regression.getKey().equals("GET /users/{id}")), regressions.toString());
+
+        PerformanceBaseline baseline = PerformanceBaseline.load(directory, 4);
+        Assert.assertEquals(baseline.getRuns(), 6);
+        Assert.assertEquals(baseline.getTestHistory("com.example.UserApiTest.getUser"), Arrays.asList(102.0, 103.0, 104.0, 200.0));
+    }
+
+    @Test(description = "Test compare-only runs leave the baseline unchanged")
+    public void testCompareOnly() {
+        RegressionDetector detector = RegressionDetector.getInstance();
+        detector.configure(directory, RegressionPolicy.builder().updateBaseline(false).build());
+        detector.record(run("getUser", 100, 20));
+        detector.finishRun();
+
+        Assert.assertFalse(Files.exists(directory.resolve(PerformanceBaseline.FILE_NAME)));
+    }
+
+    @Test(description = "Test TestListener fails the suite when a test is slower than the fail threshold")
+    public void testListenerFailsSuite() {
+        PerformanceBaseline baseline = PerformanceBaseline.load(directory, 10);
+        for (int i = 0; i < 3; i++) {
+            baseline.addRun(Collections.singletonMap(SampleRegressionTests.class.getName() + ".slow", 10.0),
+                    Collections.emptyMap());
+        }
+        baseline.save();
+        RegressionDetector.getInstance().configure(directory, RegressionPolicy.builder().failThreshold(1.0).build());
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Regression Suite");
+        XmlTest test = new XmlTest(suite);
+        test.setName("Regression Test");
+        test.setXmlClasses(Collections.singletonList(new XmlClass(SampleRegressionTests.class)));
+        TestNG testNG = new TestNG(false);
+        testNG.setXmlSuites(Collections.singletonList(suite));
+        testNG.addListener(new TestListener());
+        testNG.setVerbose(0);
+
+        IllegalStateException failure = Assert.expectThrows(IllegalStateException.class, testNG::run);
+        Assert.assertTrue(failure.getMessage().contains(SampleRegressionTests.class.getName() + ".slow"), failure.getMessage());
+        Assert.assertTrue(Files.exists(directory.resolve("perf-regressions.txt")),
+                "The regression report should be written to report.dir");
+    }
+
+    @Test(description = "Test suites run by other framework tests leave the real performance baseline untouched")
+    public void testNestedSuitesLeaveBaselineUntouched() throws IOException {
+        Path baseline = Paths.get(config.getPerfBaselineDir(), PerformanceBaseline.FILE_NAME);
+        byte[] before = Files.exists(baseline) ? Files.readAllBytes(baseline) : null;
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Nested Suites");
+        XmlTest test = new XmlTest(suite);
+        test.setName("Nested Suite Tests");
+        test.setXmlClasses(Arrays.asList(new XmlClass(ExtentReportManagerTest.class),
+                new XmlClass(TestEventSinkTest.class), new XmlClass(PerformanceExportTest.class)));
+        TestNG testNG = new TestNG(false);
+        testNG.setXmlSuites(Collections.singletonList(suite));
+        testNG.setVerbose(0);
+        testNG.run();
+
+        Assert.assertFalse(testNG.hasFailure(), "Tests running nested suites should pass");
+        byte[] after = Files.exists(baseline) ? Files.readAllBytes(baseline) : null;
+        Assert.assertEquals(after, before, "Nested suites should not add runs to " + baseline);
+    }
+
+    /**
+     * SampleRegressionTests - A test much slower than its primed baseline
+     */
+    public static class SampleRegressionTests {
+
+        @Test
+        public void slow() throws InterruptedException {
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.restautomation.tests;
+
+import com.restautomation.base.BaseAPI;
+import com.restautomation.load.OperationStats;
+import com.restautomation.metrics.PerformanceSla;
+import com.restautomation.utils.LoggerUtil;
+import com.restautomation.utils.ResponseValidator;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/**
+ * PerformanceSlaTest - Tests for percentile, error rate and throughput assertions
+ */
+public class PerformanceSlaTest {
+    private static final int PORT = 8994;
+    private static final String BASE_URL = "http://localhost:" + PORT;
+    private static final int DELAY_MILLIS = 30;
+    private WireMockServer wireMockServer;
+    private BaseAPI api;
+
+    @BeforeClass
+    public void setup() {
+        LoggerUtil.info("Starting WireMock server on port: {}", PORT);
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().port(PORT).containerThreads(32));
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlPathMatching("/sla/posts/.*"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\": 1}")));
+        wireMockServer.stubFor(get(urlEqualTo("/sla/slow"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(DELAY_MILLIS)));
+        wireMockServer.stubFor(get(urlEqualTo("/sla/broken"))
+                .willReturn(aResponse().withStatus(500)));
+        api = new BaseAPI();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    @Test(description = "Test sequential calls meet a generous SLA and are recorded per template")
+    public void testSequentialSlaPasses() {
+        PerformanceSla sla = PerformanceSla.builder()
+                .percentile(50, 2000)
+                .percentile(99, 5000)
+                .maxErrorRate(0)
+                .samples(100)
+                .build();
+
+        OperationStats stats = ResponseValidator.validatePerformance("GET /sla/posts/{id}",
+                () -> api.get(BASE_URL + "/sla/posts/{id}", Collections.singletonMap("id", 1), null), sla);
+
+        Assert.assertEquals(stats.getCount(), 100, "Exactly the requested samples should be measured");
+        ResponseValidator.validateRecordedLatency("GET", "/sla/posts/{id}", sla);
+    }
+
+    @Test(description = "Test calls at a fixed rate meet the throughput target")
+    public void testRateSlaPasses() {
+        PerformanceSla sla = PerformanceSla.builder()
+                .percentile(90, 5000)
+                .maxErrorRate(0.01)
+                .minThroughput(30)
+                .rate(40)
+                .samples(40)
+                .build();
+
+        OperationStats stats = ResponseValidator.validatePerformance("GET /sla/posts/{id}",
+                () -> api.get(BASE_URL + "/sla/posts/{id}", Collections.singletonMap("id", 2), null), sla);
+
+        Assert.assertTrue(stats.getCount() >= 35, "About 40 calls should be measured but got " + stats.getCount());
+    }
+
+    @Test(description = "Test a slow endpoint fails the percentile with its confidence interval")
+    public void testPercentileViolation() {
+        PerformanceSla sla = PerformanceSla.builder()
+                .percentile(90, 5)
+                .samples(20)
+                .build();
+
+        AssertionError error = Assert.expectThrows(AssertionError.class, () -> ResponseValidator
+                .validatePerformance("GET /sla/slow", () -> api.get(BASE_URL + "/sla/slow", null), sla));
+
+        Assert.assertTrue(error.getMessage().contains("p90 = "), error.getMessage());
+        Assert.assertTrue(error.getMessage().contains("95% CI"), error.getMessage());
+        Assert.assertTrue(error.getMessage().contains("exceeds 5.0 ms"), error.getMessage());
+    }
+
+    @Test(description = "Test high percentiles need enough samples")
+    public void testTooFewSamplesForPercentile() {
+        PerformanceSla sla = PerformanceSla.builder()
+                .percentile(99, 5000)
+                .samples(20)
+                .build();
+
+        AssertionError error = Assert.expectThrows(AssertionError.class, () -> ResponseValidator
+                .validatePerformance("GET /sla/posts/{id}",
+                        () -> api.get(BASE_URL + "/sla/posts/{id}", Collections.singletonMap("id", 3), null), sla));
+
+        Assert.assertTrue(error.getMessage().contains("p99 needs at least 100 samples"), error.getMessage());
+    }
+
+    @Test(description = "Test failing calls break the error rate")
+    public void testErrorRateViolation() {
+        PerformanceSla sla = PerformanceSla.builder()
+                .maxErrorRate(0.1)
+                .samples(10)
+                .build();
+
+        AssertionError error = Assert.expectThrows(AssertionError.class, () -> ResponseValidator
+                .validatePerformance("GET /sla/broken", () -> api.get(BASE_URL + "/sla/broken", null), sla));
+
+        Assert.assertTrue(error.getMessage().contains("error rate 100.00% (10/10 calls"), error.getMessage());
+    }
+}
@@ -7,6 +7,8 @@ import com.restautomation.models.Photo;
 import com.restautomation.utils.LoggerUtil;
 import com.restautomation.utils.ResponseValidator;
 import com.restautomation.utils.RetryAnalyzer;
+import com.restautomation.utils.StreamingArrayResult;
+import com.restautomation.utils.StreamingArrayValidator;
 import io.restassured.response.Response;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -35,10 +37,28 @@ public class PhotoApiTest {
         ResponseValidator.validateStatusCode(response, StatusCodes.OK);
         ResponseValidator.validateResponseTime(response, 5000);
         
-        // Validate response is a non-empty array
-        Assert.assertTrue(response.jsonPath().getList("").size() > 0, "Photos list should not be empty");
+        // Validate response is a non-empty array without materialising it
+        StreamingArrayResult result = ResponseValidator.validateArray(response,
+                StreamingArrayValidator.builder().minCount(1).build());
         
-        LoggerUtil.info("Retrieved {} photos", response.jsonPath().getList("").size());
+        LoggerUtil.info("Retrieved {} photos", result.getCount());
+    }
+    
+    @Test(description = "Test streaming validation of all photos", retryAnalyzer = RetryAnalyzer.class)
+    public void testStreamAllPhotos() {
+        StreamingArrayValidator validator = StreamingArrayValidator.builder()
+                .schema("schemas/photo-schema.json")
+                .unique("id")
+                .range("albumId")
+                .minCount(1)
+                .build();
+        
+        // Each photo is parsed and checked on its own, so the array is never held in memory
+        StreamingArrayResult result = ResponseValidator.validateArray(photoAPI.getAllPhotosStream(), validator);
+        
+        Assert.assertTrue(result.getMin("albumId") >= 1, "Album IDs should be positive");
+        LoggerUtil.info("Streamed {} photos across albums {} to {}", result.getCount(),
+                result.getMin("albumId"), result.getMax("albumId"));
     }
     
     @Test(description = "Test getting photo by ID", retryAnalyzer = RetryAnalyzer.class)
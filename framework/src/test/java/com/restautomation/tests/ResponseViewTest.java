@@ -0,0 +1,98 @@
+package com.restautomation.tests;
+
+import com.restautomation.utils.ResponseValidator;
+import com.restautomation.utils.ResponseView;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ResponseViewTest - Tests for the parse-once response view and batched field validation
+ */
+public class ResponseViewTest {
+    private static final String PHOTOS_JSON = "[{\"albumId\":1,\"id\":1,\"title\":\"first\",\"rating\":4.5,"
+            + "\"tags\":[\"a\",\"b\"],\"owner\":{\"name\":\"Leanne\",\"geo\":{\"lat\":\"-37.3159\"}},\"size\":12345678901},"
+            + "{\"albumId\":1,\"id\":2,\"title\":\"second\",\"rating\":3,\"tags\":[],\"owner\":{\"name\":\"Ervin\"},"
+            + "\"published\":true,\"deleted\":null}]";
+    private static final String USER_JSON = "{\"id\":7,\"name\":\"Kurtis\",\"address\":{\"city\":\"Howemouth\","
+            + "\"geo\":{\"lat\":\"24.8918\"}},\"roles\":[{\"name\":\"admin\"},{\"name\":\"editor\"}]}";
+
+    private static Response jsonResponse(String body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setStatusLine("HTTP/1.1 200 OK")
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+
+    @Test(description = "Test the view returns the same values as JsonPath")
+    public void testMatchesJsonPath() {
+        Response photos = jsonResponse(PHOTOS_JSON);
+        Response user = jsonResponse(USER_JSON);
+        List<String> photoPaths = Arrays.asList("", "$", "[0]", "[0].id", "[1].title", "[-1].id", "title", "id",
+                "owner.name", "owner.geo", "owner.geo.lat", "deleted", "[0].rating", "[1].rating", "[0].tags",
+                "[0].tags[1]", "[0].size", "[1].published", "[1].deleted", "[5].id", "missing", "size()", "findAll { it.id > 1 }.title");
+        List<String> userPaths = Arrays.asList("id", "name", "address.city", "address.geo.lat", "roles.name",
+                "roles[0].name", "roles[-1].name", "address.zipcode", "address.missing.deeper", "roles.size()");
+
+        for (String path : photoPaths) {
+            Assert.assertEquals(ResponseView.of(photos).get(path), photos.jsonPath().get(path), "Path: " + path);
+        }
+        for (String path : userPaths) {
+            Assert.assertEquals(ResponseView.of(user).get(path), user.jsonPath().get(path), "Path: " + path);
+        }
+    }
+
+    @Test(description = "Test the body is parsed once per response")
+    public void testViewIsSharedPerResponse() {
+        Response response = jsonResponse(USER_JSON);
+
+        ResponseView view = ResponseView.of(response);
+
+        Assert.assertSame(ResponseView.of(response), view, "The same response should reuse its view");
+        Assert.assertNotSame(ResponseView.of(jsonResponse(USER_JSON)), view, "Another response gets its own view");
+        Assert.assertEquals(view.getTree().get("name").textValue(), "Kurtis");
+    }
+
+    @Test(description = "Test batched field validation passes on matching values")
+    public void testValidateFields() {
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", 7);
+        expected.put("name", "Kurtis");
+        expected.put("address.city", "Howemouth");
+        expected.put("roles.name", Arrays.asList("admin", "editor"));
+
+        ResponseValidator.validateFields(jsonResponse(USER_JSON), expected);
+    }
+
+    @Test(description = "Test batched field validation reports every mismatch")
+    public void testValidateFieldsReportsAllMismatches() {
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", 8);
+        expected.put("name", "Kurtis");
+        expected.put("address.city", "Gwenborough");
+
+        AssertionError error = Assert.expectThrows(AssertionError.class,
+                () -> ResponseValidator.validateFields(jsonResponse(USER_JSON), expected));
+
+        Assert.assertTrue(error.getMessage().contains("Field id value mismatch: expected [8] but found [7]"),
+                error.getMessage());
+        Assert.assertTrue(error.getMessage().contains("Field address.city value mismatch"), error.getMessage());
+        Assert.assertFalse(error.getMessage().contains("Field name"), error.getMessage());
+    }
+
+    @Test(description = "Test non-JSON bodies fall back to JsonPath")
+    public void testNonJsonBody() {
+        Response response = new ResponseBuilder().setStatusCode(200).setBody("not json").build();
+
+        Assert.assertNull(ResponseView.of(response).getTree());
+    }
+}
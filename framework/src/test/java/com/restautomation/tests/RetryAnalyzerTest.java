@@ -0,0 +1,174 @@
+package com.restautomation.tests;
+
+import com.restautomation.constants.StatusCodes;
+import com.restautomation.exceptions.APIException;
+import com.restautomation.exceptions.StatusCodeAssertionError;
+import com.restautomation.utils.FailureType;
+import com.restautomation.utils.ResponseValidator;
+import com.restautomation.utils.RetryAnalyzer;
+import com.restautomation.utils.RetryPolicy;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.TestNG;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RetryAnalyzerTest - Tests for failure classification, backoff and the retry budget of RetryAnalyzer
+ */
+public class RetryAnalyzerTest {
+
+    @AfterMethod(alwaysRun = true)
+    public void restorePolicy() {
+        RetryAnalyzer.configure(null);
+    }
+
+    @Test(description = "Test only timeouts, dropped connections and overload statuses are transient")
+    public void testClassify() {
+        Assert.assertEquals(FailureType.classify(new APIException("Unavailable", 503)), FailureType.TRANSIENT);
+        Assert.assertEquals(FailureType.classify(new APIException("Too many requests", 429)), FailureType.TRANSIENT);
+        Assert.assertEquals(FailureType.classify(new CompletionException(new SocketTimeoutException("Read timed out"))),
+                FailureType.TRANSIENT);
+        Assert.assertEquals(FailureType.classify(new APIException("Failed", new ConnectException("Connection refused"))),
+                FailureType.TRANSIENT);
+
+        Assert.assertEquals(FailureType.classify(new AssertionError("expected [1] but found [2]")), FailureType.ASSERTION);
+        Assert.assertEquals(FailureType.classify(new APIException("Not found", 404)), FailureType.PERMANENT);
+        Assert.assertEquals(FailureType.classify(new UnknownHostException("jsonplaceholder.typicode.com")),
+                FailureType.PERMANENT);
+        Assert.assertEquals(FailureType.classify(new NullPointerException()), FailureType.PERMANENT);
+        Assert.assertEquals(FailureType.classify(null), FailureType.PERMANENT);
+    }
+
+    @Test(description = "Test backoff doubles with jitter, honours Retry-After and is capped")
+    public void testBackoff() {
+        RetryPolicy policy = RetryPolicy.builder().baseDelayMillis(100).maxDelayMillis(1000).build();
+        for (int i = 0; i < 100; i++) {
+            long first = policy.backoffMillis(0, -1);
+            long third = policy.backoffMillis(2, -1);
+            Assert.assertTrue(first >= 50 && first <= 100, "First backoff: " + first);
+            Assert.assertTrue(third >= 200 && third <= 400, "Third backoff: " + third);
+            Assert.assertTrue(policy.backoffMillis(40, -1) <= 1000);
+        }
+        Assert.assertEquals(policy.backoffMillis(0, 800), 800);
+        Assert.assertEquals(policy.backoffMillis(0, 60000), 1000, "Retry-After is capped");
+    }
+
+    @Test(description = "Test Retry-After is parsed in seconds and as an HTTP date")
+    public void testParseRetryAfter() {
+        Assert.assertEquals(RetryPolicy.parseRetryAfterMillis("2"), 2000);
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(10));
+        long millis = RetryPolicy.parseRetryAfterMillis(date);
+        Assert.assertTrue(millis > 8000 && millis <= 10000, "Retry-After date: " + millis);
+        Assert.assertEquals(RetryPolicy.parseRetryAfterMillis("soon"), -1);
+        Assert.assertEquals(RetryPolicy.parseRetryAfterMillis(null), -1);
+    }
+
+    @Test(description = "Test an unexpected 503 fails the status assertion, classified as retryable")
+    public void testTransientStatusValidation() {
+        Response response = new ResponseBuilder()
+                .setStatusCode(503)
+                .setStatusLine("HTTP/1.1 503 Service Unavailable")
+                .setHeaders(new Headers(new Header("Retry-After", "3")))
+                .setBody("")
+                .build();
+
+        StatusCodeAssertionError failure = Assert.expectThrows(StatusCodeAssertionError.class,
+                () -> ResponseValidator.validateStatusCode(response, StatusCodes.OK));
+        Assert.assertEquals(failure.getStatusCode(), 503);
+        Assert.assertEquals(failure.getRetryAfterMillis(), 3000);
+        Assert.assertTrue(failure.getMessage().contains("expected [200] but found [503]"), failure.getMessage());
+        Assert.assertEquals(FailureType.classify(failure), FailureType.TRANSIENT);
+        Assert.assertEquals(FailureType.classify(new StatusCodeAssertionError("Not found", 404, -1)), FailureType.ASSERTION);
+    }
+
+    @Test(description = "Test only transient failures are retried, within the suite budget")
+    public void testRetriesInSuite() {
+        RetryAnalyzer.configure(RetryPolicy.builder().maxRetries(2).baseDelayMillis(1).budget(2).build());
+        SampleRetryTests.transientAttempts.set(0);
+        SampleRetryTests.assertionAttempts.set(0);
+        SampleRetryTests.outageAttempts.set(0);
+        SampleRetryTests.resentAttempts.set(0);
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Retry Suite");
+        XmlTest test = new XmlTest(suite);
+        test.setName("Retry Test");
+        test.setXmlClasses(Collections.singletonList(new XmlClass(SampleRetryTests.class)));
+        TestNG testNG = new TestNG(false);
+        testNG.setXmlSuites(Collections.singletonList(suite));
+        testNG.setVerbose(0);
+        SampleRetryTests.nested = true;
+        try {
+            testNG.run();
+        } finally {
+            SampleRetryTests.nested = false;
+        }
+
+        Assert.assertEquals(SampleRetryTests.transientAttempts.get(), 2, "Retried once, then passed");
+        Assert.assertEquals(SampleRetryTests.assertionAttempts.get(), 1, "Failed assertions are not retried");
+        Assert.assertEquals(SampleRetryTests.outageAttempts.get(), 2, "Only one retry was left in the budget");
+        Assert.assertEquals(SampleRetryTests.resentAttempts.get(), 1, "Requests already sent again are not retried");
+    }
+
+    /**
+     * SampleRetryTests - Tests failing with a transient error, an assertion, an outage and after HTTP re-sends
+     */
+    public static class SampleRetryTests {
+        static volatile boolean nested;
+        static final AtomicInteger transientAttempts = new AtomicInteger();
+        static final AtomicInteger assertionAttempts = new AtomicInteger();
+        static final AtomicInteger outageAttempts = new AtomicInteger();
+        static final AtomicInteger resentAttempts = new AtomicInteger();
+
+        @Test(priority = 0, retryAnalyzer = RetryAnalyzer.class)
+        public void unavailableAfterResends() {
+            if (nested) {
+                resentAttempts.incrementAndGet();
+                // As BaseAPI does when a request still fails after retry.count re-sends
+                RetryAnalyzer.onHttpRetriesExhausted();
+                throw new APIException("Service unavailable", 503);
+            }
+        }
+
+        @Test(priority = 1, retryAnalyzer = RetryAnalyzer.class)
+        public void unavailableOnce() {
+            if (nested && transientAttempts.incrementAndGet() == 1) {
+                // As ResponseValidator.validateStatusCode does for an unexpected 503
+                throw new StatusCodeAssertionError("Status code validation failed expected [200] but found [503]", 503, 0);
+            }
+        }
+
+        @Test(priority = 2, retryAnalyzer = RetryAnalyzer.class)
+        public void wrongValue() {
+            if (nested) {
+                assertionAttempts.incrementAndGet();
+                Assert.assertEquals(1, 2, "Wrong value");
+            }
+        }
+
+        @Test(priority = 3, retryAnalyzer = RetryAnalyzer.class)
+        public void outage() {
+            if (nested) {
+                outageAttempts.incrementAndGet();
+                throw new APIException("Too many requests", 429, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.restautomation.tests;
+
+import com.restautomation.utils.ResponseValidator;
+import com.restautomation.utils.SchemaRegistry;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * SchemaRegistryTest - Tests for compiled schema caching and validateSchema
+ */
+public class SchemaRegistryTest {
+    private static final String USER_SCHEMA = "schemas/user-schema.json";
+    private static final String VALID_USER = "{\"id\":1,\"name\":\"Leanne Graham\",\"username\":\"Bret\","
+            + "\"email\":\"Sincere@april.biz\",\"address\":{\"street\":\"Kulas Light\",\"city\":\"Gwenborough\","
+            + "\"zipcode\":\"92998-3874\"}}";
+    private static final String INVALID_USER = "{\"id\":\"one\",\"name\":\"Leanne Graham\",\"username\":\"Bret\","
+            + "\"email\":\"Sincere@april.biz\"}";
+    private static final String INCOMPLETE_USER = "{\"id\":1,\"name\":\"Leanne Graham\",\"email\":\"Sincere@april.biz\"}";
+
+    private static Response jsonResponse(String body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setStatusLine("HTTP/1.1 200 OK")
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+
+    @Test(description = "Test a schema is compiled once and shared")
+    public void testSchemaIsCached() {
+        SchemaRegistry registry = SchemaRegistry.getInstance();
+
+        Assert.assertSame(registry.getSchema(USER_SCHEMA), registry.getSchema("/" + USER_SCHEMA),
+                "The same schema should be compiled only once");
+    }
+
+    @Test(description = "Test a valid body passes schema validation")
+    public void testValidBodyPasses() {
+        ResponseValidator.validateSchema(jsonResponse(VALID_USER), USER_SCHEMA);
+    }
+
+    @Test(description = "Test schema violations are reported with their location")
+    public void testInvalidBodyFails() {
+        AssertionError error = Assert.expectThrows(AssertionError.class,
+                () -> ResponseValidator.validateSchema(jsonResponse(INVALID_USER), USER_SCHEMA));
+
+        Assert.assertTrue(error.getMessage().contains("at '/id'"), error.getMessage());
+    }
+
+    @Test(description = "Test missing required fields are reported")
+    public void testMissingRequiredFieldFails() {
+        AssertionError error = Assert.expectThrows(AssertionError.class,
+                () -> ResponseValidator.validateSchema(jsonResponse(INCOMPLETE_USER), USER_SCHEMA));
+
+        Assert.assertTrue(error.getMessage().contains("missing required properties ([\"username\"])"),
+                error.getMessage());
+    }
+
+    @Test(description = "Test a non-JSON body fails schema validation")
+    public void testNonJsonBodyFails() {
+        Response response = new ResponseBuilder().setStatusCode(200).setBody("not json").build();
+
+        AssertionError error = Assert.expectThrows(AssertionError.class,
+                () -> ResponseValidator.validateSchema(response, USER_SCHEMA));
+
+        Assert.assertTrue(error.getMessage().contains("not JSON"), error.getMessage());
+    }
+
+    @Test(description = "Test a missing schema is reported")
+    public void testMissingSchema() {
+        RuntimeException error = Assert.expectThrows(RuntimeException.class,
+                () -> SchemaRegistry.getInstance().getSchema("schemas/missing-schema.json"));
+
+        Assert.assertTrue(error.getMessage().contains("missing-schema.json"), error.getMessage());
+    }
+
+    @Test(description = "Test every schema on the classpath can be preloaded")
+    public void testPreload() {
+        int loaded = SchemaRegistry.getInstance().preload("schemas");
+
+        Assert.assertTrue(loaded >= 1, "At least the user schema should be preloaded");
+        Assert.assertTrue(SchemaRegistry.getInstance().size() >= loaded);
+    }
+}
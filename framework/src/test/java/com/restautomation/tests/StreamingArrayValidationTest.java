@@ -0,0 +1,183 @@
+package com.restautomation.tests;
+
+import com.restautomation.base.BaseAPI;
+import com.restautomation.logging.HttpExchangeBuffer;
+import com.restautomation.utils.LoggerUtil;
+import com.restautomation.utils.ResponseValidator;
+import com.restautomation.utils.StreamingArrayResult;
+import com.restautomation.utils.StreamingArrayValidator;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/**
+ * StreamingArrayValidationTest - Tests for element-by-element validation of large JSON arrays
+ */
+public class StreamingArrayValidationTest {
+    private static final int PORT = 8995;
+    private static final String BASE_URL = "http://localhost:" + PORT;
+    private static final int PHOTO_COUNT = 20_000;
+    private static final int PAGE_SIZE = 100;
+    private WireMockServer wireMockServer;
+    private BaseAPI api;
+
+    @BeforeClass
+    public void setup() {
+        LoggerUtil.info("Starting WireMock server on port: {}", PORT);
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().port(PORT));
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlEqualTo("/stream/photos"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(photos(PHOTO_COUNT))));
+        wireMockServer.stubFor(get(urlEqualTo("/stream/photos/page"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(photos(PAGE_SIZE))));
+        api = new BaseAPI();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    private static String photos(int count) {
+        StringBuilder body = new StringBuilder("[");
+        for (int id = 1; id <= count; id++) {
+            if (id > 1) {
+                body.append(',');
+            }
+            body.append(photo(id, (id - 1) / 50 + 1));
+        }
+        return body.append(']').toString();
+    }
+
+    private static String photo(int id, int albumId) {
+        return "{\"albumId\":" + albumId + ",\"id\":" + id + ",\"title\":\"photo " + id + "\","
+                + "\"url\":\"https://via.placeholder.com/600/" + id + "\","
+                + "\"thumbnailUrl\":\"https://via.placeholder.com/150/" + id + "\"}";
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(description = "Test a large array is streamed and aggregated")
+    public void testLargeArrayAggregates() {
+        StreamingArrayValidator validator = StreamingArrayValidator.builder()
+                .each("albumId is positive", photo -> photo.path("albumId").asInt() > 0)
+                .schema("schemas/photo-schema.json")
+                .unique("id")
+                .range("id")
+                .range("albumId")
+                .minCount(1)
+                .build();
+        HttpExchangeBuffer.start();
+
+        StreamingArrayResult result = ResponseValidator.validateArray(
+                api.getStream(BASE_URL + "/stream/photos", null), validator);
+
+        Assert.assertEquals(HttpExchangeBuffer.size(), 0, "Streamed responses should not be kept for the failure log");
+        HttpExchangeBuffer.clear();
+        Assert.assertEquals(result.getCount(), PHOTO_COUNT);
+        Assert.assertEquals(result.getMin("id"), 1.0);
+        Assert.assertEquals(result.getMax("id"), (double) PHOTO_COUNT);
+        Assert.assertEquals(result.getMax("albumId"), (double) PHOTO_COUNT / 50);
+        Assert.assertEquals(result.getDuplicates("id"), 0);
+    }
+
+    @Test(description = "Test the same validator works on a buffered Response")
+    public void testBufferedResponse() {
+        StreamingArrayValidator validator = StreamingArrayValidator.builder().unique("id").build();
+
+        StreamingArrayResult result = ResponseValidator.validateArray(
+                api.get(BASE_URL + "/stream/photos/page", null), validator);
+
+        Assert.assertEquals(result.getCount(), PAGE_SIZE);
+    }
+
+    @Test(description = "Test duplicates, predicate and schema violations are all reported")
+    public void testViolationsAreReported() {
+        String body = "[" + photo(1, 1) + "," + photo(2, 0) + "," + photo(1, 1) + ",{\"id\":3}]";
+        StreamingArrayValidator validator = StreamingArrayValidator.builder()
+                .each("albumId is positive", photo -> photo.path("albumId").asInt() > 0)
+                .schema("schemas/photo-schema.json")
+                .unique("id")
+                .build();
+
+        StreamingArrayResult result = validator.validate(json(body));
+
+        Assert.assertFalse(result.isValid());
+        Assert.assertEquals(result.getCount(), 4);
+        Assert.assertEquals(result.getDuplicates("id"), 1);
+        Assert.assertEquals(result.getViolationCount(), 4, result.getViolations().toString());
+        Assert.assertTrue(result.getViolations().get(0).startsWith("[1] albumId is positive"),
+                result.getViolations().toString());
+
+        AssertionError error = Assert.expectThrows(AssertionError.class,
+                () -> ResponseValidator.validateArray(json(body), validator));
+        Assert.assertTrue(error.getMessage().contains("[2] duplicate id: 1"), error.getMessage());
+        Assert.assertTrue(error.getMessage().contains("[3] does not match schemas/photo-schema.json"),
+                error.getMessage());
+    }
+
+    @Test(description = "Test only the first violations are kept as messages")
+    public void testViolationMessagesAreCapped() {
+        StreamingArrayValidator validator = StreamingArrayValidator.builder()
+                .each("never true", photo -> false)
+                .maxReportedViolations(5)
+                .build();
+
+        InputStream body = api.getStream(BASE_URL + "/stream/photos", null);
+        Assert.assertFalse(body instanceof ByteArrayInputStream, "The body should not be buffered");
+        StreamingArrayResult result = validator.validate(body);
+
+        Assert.assertEquals(result.getViolationCount(), PHOTO_COUNT);
+        Assert.assertEquals(result.getViolations().size(), 5);
+    }
+
+    @Test(description = "Test an array nested in an envelope object and element count limits")
+    public void testNestedArrayAndCounts() {
+        String body = "{\"meta\":{\"page\":1,\"tags\":[1,2]},\"page\":{\"total\":2,\"items\":["
+                + photo(1, 1) + "," + photo(2, 1) + "]}}";
+
+        StreamingArrayResult result = StreamingArrayValidator.builder()
+                .arrayAt("page.items")
+                .range("id")
+                .build()
+                .validate(json(body));
+        Assert.assertEquals(result.getCount(), 2);
+        Assert.assertEquals(result.getMax("id"), 2.0);
+
+        StreamingArrayResult tooFew = StreamingArrayValidator.builder()
+                .arrayAt("page.items")
+                .minCount(3)
+                .build()
+                .validate(json(body));
+        Assert.assertEquals(tooFew.getViolations().get(0), "expected at least 3 elements but found 2");
+    }
+
+    @Test(description = "Test a body that is not an array is rejected")
+    public void testNotAnArray() {
+        IllegalStateException error = Assert.expectThrows(IllegalStateException.class,
+                () -> StreamingArrayValidator.builder().build().validate(json("{\"id\":1}")));
+
+        Assert.assertTrue(error.getMessage().contains("Expected a JSON array"), error.getMessage());
+    }
+}
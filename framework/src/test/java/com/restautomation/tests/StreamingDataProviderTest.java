@@ -0,0 +1,176 @@
+package com.restautomation.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.restautomation.models.User;
+import com.restautomation.utils.JsonUtil;
+import com.restautomation.utils.StreamingDataProvider;
+import org.testng.Assert;
+import org.testng.TestNG;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StreamingDataProviderTest - Tests for the lazy JSON Lines, JSON array and CSV DataProvider sources
+ */
+public class StreamingDataProviderTest {
+    private static final int RECORDS = 100_000;
+    private Path usersFile;
+
+    @BeforeClass
+    public void setup() throws Exception {
+        usersFile = Files.createTempFile("users", ".jsonl");
+        try (BufferedWriter writer = Files.newBufferedWriter(usersFile, StandardCharsets.UTF_8)) {
+            for (int i = 1; i <= RECORDS; i++) {
+                writer.write(JsonUtil.toJson(User.builder().id(i).name("User " + i).email("user" + i + "@example.com").build()));
+                writer.newLine();
+            }
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(usersFile);
+    }
+
+    @Test(description = "Test a JSON Lines file is streamed record by record as model objects")
+    public void testJsonLines() {
+        Iterator<Object[]> users = StreamingDataProvider.jsonLines(usersFile.toString(), User.class);
+
+        int count = 0;
+        while (users.hasNext()) {
+            Object[] parameters = users.next();
+            Assert.assertEquals(parameters.length, 1);
+            Assert.assertEquals(((User) parameters[0]).getId(), Integer.valueOf(++count));
+        }
+        Assert.assertEquals(count, RECORDS);
+        Assert.assertFalse(users.hasNext());
+    }
+
+    @Test(description = "Test the elements of a top-level JSON array are streamed")
+    public void testJsonArray() throws Exception {
+        Path file = Files.createTempFile("posts", ".json");
+        try {
+            Files.write(file, "[{\"id\": 1, \"title\": \"a\"}, {\"id\": 2, \"title\": \"b\"}]".getBytes(StandardCharsets.UTF_8));
+            Iterator<Object[]> posts = StreamingDataProvider.jsonArray(file.toString(), JsonNode.class);
+
+            Assert.assertEquals(((JsonNode) posts.next()[0]).get("title").asText(), "a");
+            Assert.assertEquals(((JsonNode) posts.next()[0]).get("id").asInt(), 2);
+            Assert.assertFalse(posts.hasNext());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(description = "Test CSV rows are streamed without the header, honouring quoted fields")
+    public void testCsv() throws Exception {
+        Path file = Files.createTempFile("users", ".csv");
+        try {
+            Files.write(file, ("name,email,note\n"
+                    + "John Doe,john@example.com,plain\n"
+                    + "\n"
+                    + "\"Doe, Jane\",jane@example.com,\"said \"\"hi\"\"\nthen left\"\n").getBytes(StandardCharsets.UTF_8));
+            Iterator<Object[]> rows = StreamingDataProvider.csv(file.toString());
+
+            Assert.assertEquals(rows.next(), new Object[] {"John Doe", "john@example.com", "plain"});
+            Assert.assertEquals(rows.next(), new Object[] {"Doe, Jane", "jane@example.com", "said \"hi\"\nthen left"});
+            Assert.assertFalse(rows.hasNext());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(description = "Test files are opened lazily and missing files fail on first read")
+    public void testLazyOpen() {
+        Iterator<Object[]> missing = StreamingDataProvider.jsonLines("missing.jsonl", User.class);
+        RuntimeException failure = Assert.expectThrows(RuntimeException.class, missing::hasNext);
+        Assert.assertEquals(failure.getMessage(), "Failed to read test data: missing.jsonl");
+        Assert.assertFalse(missing.hasNext());
+    }
+
+    @Test(description = "Test sequential and parallel DataProviders run every streamed record once")
+    public void testDataProviders() {
+        SampleStreamingTests.file = usersFile.toString();
+        SampleStreamingTests.sequentialIds.clear();
+        SampleStreamingTests.parallelIds.clear();
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Streaming Suite");
+        suite.setDataProviderThreadCount(4);
+        XmlTest test = new XmlTest(suite);
+        test.setName("Streaming Test");
+        test.setXmlClasses(Collections.singletonList(new XmlClass(SampleStreamingTests.class)));
+        TestNG testNG = new TestNG(false);
+        testNG.setXmlSuites(Collections.singletonList(suite));
+        testNG.setVerbose(0);
+        try {
+            testNG.run();
+        } finally {
+            SampleStreamingTests.file = null;
+        }
+
+        Assert.assertEquals(SampleStreamingTests.sequentialIds.size(), 1000);
+        Assert.assertEquals(SampleStreamingTests.parallelIds.size(), 1000);
+        Assert.assertEquals(testNG.getStatus(), 0, "All streamed cases should pass");
+    }
+
+    /**
+     * SampleStreamingTests - Data-driven tests fed by streamed records
+     */
+    public static class SampleStreamingTests {
+        // Set only while testDataProviders runs the class, so a direct run has no cases
+        static volatile String file;
+        static final Set<Integer> sequentialIds = ConcurrentHashMap.newKeySet();
+        static final Set<Integer> parallelIds = ConcurrentHashMap.newKeySet();
+
+        @DataProvider(name = "users")
+        public Iterator<Object[]> users() {
+            return file == null ? Collections.emptyIterator() : limit(StreamingDataProvider.jsonLines(file, User.class));
+        }
+
+        @DataProvider(name = "parallelUsers", parallel = true)
+        public Iterator<Object[]> parallelUsers() {
+            return file == null ? Collections.emptyIterator() : limit(StreamingDataProvider.jsonLines(file, User.class));
+        }
+
+        @Test(dataProvider = "users")
+        public void sequential(User user) {
+            Assert.assertTrue(sequentialIds.add(user.getId()));
+        }
+
+        @Test(dataProvider = "parallelUsers")
+        public void parallel(User user) {
+            Assert.assertTrue(parallelIds.add(user.getId()));
+        }
+
+        private static Iterator<Object[]> limit(Iterator<Object[]> records) {
+            return new Iterator<Object[]>() {
+                private int count;
+
+                @Override
+                public boolean hasNext() {
+                    return count < 1000 && records.hasNext();
+                }
+
+                @Override
+                public Object[] next() {
+                    count++;
+                    return records.next();
+                }
+            };
+        }
+    }
+}
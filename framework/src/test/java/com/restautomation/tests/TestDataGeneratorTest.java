@@ -0,0 +1,119 @@
+package com.restautomation.tests;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.models.AuthRequest;
+import com.restautomation.models.Post;
+import com.restautomation.models.Product;
+import com.restautomation.models.User;
+import com.restautomation.utils.StreamingDataProvider;
+import com.restautomation.utils.TestDataGenerator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * TestDataGeneratorTest - Tests for the seeded synthetic data of TestDataGenerator
+ */
+public class TestDataGeneratorTest {
+    private final TestDataGenerator generator = TestDataGenerator.fromConfig(ConfigManager.getInstance());
+
+    @Test(description = "Test the same seed and index always give the same record")
+    public void testDeterministic() {
+        TestDataGenerator same = new TestDataGenerator(ConfigManager.getInstance().getTestDataGeneratorSeed());
+        TestDataGenerator other = new TestDataGenerator(7);
+
+        User last = generator.user(999_999);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(same.user(i), generator.user(i));
+            Assert.assertEquals(same.post(i), generator.post(i));
+        }
+        Assert.assertEquals(generator.user(999_999), last, "Records do not depend on generation order");
+        Assert.assertNotEquals(other.user(0), generator.user(0));
+    }
+
+    @Test(description = "Test generated models are complete and valid")
+    public void testValidRecords() {
+        for (int i = 0; i < 10_000; i++) {
+            User user = generator.user(i);
+            Assert.assertEquals(user.getId(), Integer.valueOf(i + 1));
+            Assert.assertTrue(user.getEmail().matches("[a-z0-9._]+@[a-z.]+\\.[a-z]+"), user.getEmail());
+            Assert.assertTrue(user.getUsername().length() > 3, user.getUsername());
+            Assert.assertTrue(user.getPhone().matches("[1-9][0-9]{9}"), user.getPhone());
+            Assert.assertTrue(user.getAddress().getZipcode().matches("[0-9]{5}-[0-9]{4}"), user.getAddress().getZipcode());
+            double lat = Double.parseDouble(user.getAddress().getGeo().getLat());
+            double lng = Double.parseDouble(user.getAddress().getGeo().getLng());
+            Assert.assertTrue(lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180, lat + "," + lng);
+            Assert.assertNotNull(user.getCompany().getName());
+
+            Post post = generator.post(i);
+            Assert.assertEquals(post.getUserId(), Integer.valueOf(i / 10 + 1));
+            Assert.assertFalse(post.getTitle().isEmpty());
+
+            Product product = generator.product(i);
+            Assert.assertTrue(product.getPrice().compareTo(BigDecimal.ZERO) > 0);
+            Assert.assertEquals(product.getPrice().scale(), 2);
+            Assert.assertTrue(product.getStock() >= 0);
+
+            AuthRequest credentials = generator.authRequest(i);
+            Assert.assertTrue(credentials.getPassword().matches("(?=.*[A-Za-z])(?=.*[0-9])[A-Za-z0-9]{12}"),
+                    credentials.getPassword());
+        }
+        Assert.assertNotNull(generator.todo(0).getCompleted());
+        Assert.assertEquals(generator.photo(50).getAlbumId(), Integer.valueOf(2));
+        Assert.assertNotNull(generator.album(0).getTitle());
+    }
+
+    @Test(description = "Test records written to JSON Lines stream back unchanged")
+    public void testWriteJsonLines() throws Exception {
+        Path file = Files.createTempFile("generated-users", ".jsonl");
+        try {
+            long bytes = generator.writeJsonLines(file, 10_000, generator::user);
+            Assert.assertEquals(bytes, Files.size(file));
+
+            Iterator<Object[]> users = StreamingDataProvider.jsonLines(file.toString(), User.class);
+            int count = 0;
+            while (users.hasNext()) {
+                Assert.assertEquals(users.next()[0], generator.user(count++));
+            }
+            Assert.assertEquals(count, 10_000);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(description = "Test DataProvider and load-test feeds hand out each record once")
+    public void testFeeds() throws Exception {
+        Iterator<Object[]> posts = generator.dataProvider(3, generator::post);
+        Assert.assertEquals(posts.next()[0], generator.post(0));
+        Assert.assertEquals(posts.next()[0], generator.post(1));
+        Assert.assertEquals(posts.next()[0], generator.post(2));
+        Assert.assertFalse(posts.hasNext());
+
+        Supplier<User> users = generator.sequence(generator::user);
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        ids.add(users.get().getId());
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        Assert.assertEquals(ids.size(), 8000);
+    }
+}
@@ -0,0 +1,124 @@
+package com.restautomation.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.restautomation.config.ConfigManager;
+import com.restautomation.config.ConfigSnapshot;
+import com.restautomation.utils.TestDataUtil;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestDataUtilTest - Tests for the cached test data store of TestDataUtil
+ */
+public class TestDataUtilTest {
+    private final ConfigManager config = ConfigManager.getInstance();
+    private ConfigSnapshot savedConfig;
+
+    @BeforeMethod
+    public void setup() {
+        savedConfig = config.getSnapshot();
+        TestDataUtil.clearCache();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        config.setSnapshot(savedConfig);
+        TestDataUtil.clearCache();
+    }
+
+    @Test(description = "Test a test data file is read and parsed once for repeated lookups")
+    public void testParsedOnce() {
+        long loads = TestDataUtil.getLoadCount();
+
+        JsonNode validUser = TestDataUtil.getTestData("users.json", "validUser");
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(TestDataUtil.getTestData("users.json", "validUser"), validUser);
+        }
+
+        Assert.assertEquals(validUser.get("name").asText(), "John Doe");
+        Assert.assertEquals(TestDataUtil.getLoadCount() - loads, 1);
+    }
+
+    @Test(description = "Test concurrent first reads of a file parse it once")
+    public void testConcurrentFirstRead() throws Exception {
+        long loads = TestDataUtil.getLoadCount();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<JsonNode>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> TestDataUtil.loadTestData("posts.json")));
+            }
+            JsonNode posts = TestDataUtil.loadTestData("posts.json");
+            for (Future<JsonNode> future : futures) {
+                Assert.assertEquals(future.get(10, TimeUnit.SECONDS), posts);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(TestDataUtil.getLoadCount() - loads, 1);
+    }
+
+    @Test(description = "Test a test changing its data does not change the data of other tests")
+    public void testCallersGetCopies() {
+        ObjectNode validUser = (ObjectNode) TestDataUtil.getTestData("users.json", "validUser");
+        validUser.put("name", "Changed");
+        ((ObjectNode) TestDataUtil.loadTestData("users.json")).remove("validUser");
+
+        Assert.assertEquals(TestDataUtil.getTestData("users.json", "validUser").get("name").asText(), "John Doe");
+        Assert.assertTrue(TestDataUtil.loadTestData("users.json").has("validUser"));
+    }
+
+    @Test(description = "Test a cached file is read again after it changes on disk")
+    public void testReloadsChangedFile() throws Exception {
+        config.setProperty("testdata.cache.checkIntervalMillis", "0");
+        Path directory = Paths.get(getClass().getClassLoader().getResource("testdata/users.json").toURI()).getParent();
+        Path file = directory.resolve("cache-test.json");
+        try {
+            Files.write(file, "{\"version\": 1}".getBytes());
+            Assert.assertEquals(TestDataUtil.loadTestData("cache-test.json").get("version").asInt(), 1);
+
+            Files.write(file, "{\"version\": 2}".getBytes());
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+            Assert.assertEquals(TestDataUtil.loadTestData("cache-test.json").get("version").asInt(), 2);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(description = "Test the cache keeps at most testdata.cache.maxFiles files")
+    public void testBoundedCache() {
+        config.setProperty("testdata.cache.maxFiles", "1");
+        long loads = TestDataUtil.getLoadCount();
+
+        TestDataUtil.loadTestData("users.json");
+        TestDataUtil.loadTestData("posts.json");
+        Assert.assertEquals(TestDataUtil.getLoadCount() - loads, 2);
+
+        TestDataUtil.loadTestData("posts.json");
+        Assert.assertEquals(TestDataUtil.getLoadCount() - loads, 2, "The file read last should stay cached");
+        TestDataUtil.loadTestData("users.json");
+        Assert.assertEquals(TestDataUtil.getLoadCount() - loads, 3, "users.json should have been evicted by posts.json");
+    }
+
+    @Test(description = "Test a missing file fails with a clear error")
+    public void testMissingFile() {
+        RuntimeException failure = Assert.expectThrows(RuntimeException.class,
+                () -> TestDataUtil.loadTestData("missing.json"));
+        Assert.assertEquals(failure.getMessage(), "Failed to load test data");
+        Assert.assertTrue(failure.getCause().getMessage().contains("testdata/missing.json"));
+    }
+}
@@ -0,0 +1,240 @@
+package com.restautomation.tests;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.config.ConfigSnapshot;
+import com.restautomation.exceptions.APIException;
+import com.restautomation.listeners.TestListener;
+import com.restautomation.reports.TestEventReportRenderer;
+import com.restautomation.reports.TestEventSink;
+import com.restautomation.utils.RetryAnalyzer;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * TestEventSinkTest - Tests for the streaming test event log and its HTML renderer
+ */
+public class TestEventSinkTest {
+
+    private static Map<String, Object> event(String name, String status) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("class", TestEventSinkTest.class.getName());
+        event.put("name", name);
+        event.put("status", status);
+        event.put("start", System.currentTimeMillis());
+        event.put("durationMillis", 5);
+        event.put("thread", Thread.currentThread().getName());
+        return event;
+    }
+
+    /**
+     * Write the event logs of a test to a temporary directory instead of the real reports
+     * @return configuration to restore when the test is done
+     */
+    private static ConfigSnapshot useTemporaryReportDir() throws IOException {
+        ConfigManager config = ConfigManager.getInstance();
+        ConfigSnapshot savedConfig = config.getSnapshot();
+        config.setProperty("report.dir", Files.createTempDirectory("reports").toString());
+        return savedConfig;
+    }
+
+    @Test(description = "Test recorded events are on disk after a flush, before the log is closed")
+    public void testEventsAreVisibleMidRun() throws IOException {
+        TestEventSink sink = TestEventSink.getInstance();
+        sink.close();
+        ConfigSnapshot savedConfig = useTemporaryReportDir();
+        Path events;
+        try {
+            for (int i = 0; i < 1000; i++) {
+                sink.record(event("event" + i, "PASS"));
+            }
+
+            events = sink.flush();
+            Assert.assertNotNull(events);
+            Assert.assertEquals(Files.readAllLines(events, StandardCharsets.UTF_8).size(), 1000);
+
+            sink.record(event("last", "FAIL"));
+        } finally {
+            ConfigManager.getInstance().setSnapshot(savedConfig);
+        }
+        Assert.assertEquals(sink.close(), events);
+        Assert.assertEquals(Files.readAllLines(events, StandardCharsets.UTF_8).size(), 1001);
+        Assert.assertNull(sink.close(), "A closed log should not be closed twice");
+    }
+
+    @Test(description = "Test the renderer summarises and escapes events and tolerates a cut-off last line")
+    public void testRenderer() throws IOException {
+        TestEventSink sink = TestEventSink.getInstance();
+        sink.close();
+        ConfigSnapshot savedConfig = useTemporaryReportDir();
+        Path events;
+        try {
+            sink.record(event("passes", "PASS"));
+            Map<String, Object> failed = event("fails", "FAIL");
+            failed.put("error", "expected <1> but was <2>");
+            failed.put("stackTrace", "java.lang.AssertionError: expected <1> but was <2>\n\tat Sample.fails");
+            sink.record(failed);
+            sink.record(event("skipped", "SKIP"));
+            events = sink.close();
+        } finally {
+            ConfigManager.getInstance().setSnapshot(savedConfig);
+        }
+        Files.write(events, "{\"name\":\"cut".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        String html = new String(Files.readAllBytes(TestEventReportRenderer.render(events)), StandardCharsets.UTF_8);
+
+        Assert.assertTrue(html.contains("3 results"), html);
+        Assert.assertTrue(html.contains("PASS: 1") && html.contains("FAIL: 1") && html.contains("SKIP: 1"), html);
+        Assert.assertTrue(html.contains("expected &lt;1&gt; but was &lt;2&gt;"), "Errors should be escaped");
+        Assert.assertFalse(html.contains("<1>"), "Raw markup from events should not reach the page");
+    }
+
+    @Test(description = "Test TestListener streams every outcome, including retried attempts")
+    public void testListenerRecordsOutcomes() throws IOException {
+        SampleEventTests.flakyAttempts.set(0);
+        SampleEventTests.events = null;
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Event Suite");
+        XmlTest test = new XmlTest(suite);
+        test.setName("Event Test");
+        test.setXmlClasses(Collections.singletonList(new XmlClass(SampleEventTests.class)));
+
+        TestNG testNG = new TestNG(false);
+        testNG.setXmlSuites(Collections.singletonList(suite));
+        testNG.setVerbose(0);
+        // Start a log of the nested suite's own in the temporary report directory
+        TestEventSink.getInstance().close();
+        ConfigSnapshot savedConfig = useTemporaryReportDir();
+        SampleEventTests.nested = true;
+        try {
+            // Keep the sample tests out of the real performance baseline
+            ConfigManager.getInstance().setProperty("perf.regression.enabled", "false");
+            testNG.addListener(new TestListener());
+            testNG.run();
+        } finally {
+            SampleEventTests.nested = false;
+            ConfigManager.getInstance().setSnapshot(savedConfig);
+        }
+
+        Path events = SampleEventTests.events;
+        Assert.assertNotNull(events, "The sample tests should have seen the event log");
+        // The log is shared with any enclosing suite, so only look at the nested suite's events
+        List<String> lines = Files.readAllLines(events, StandardCharsets.UTF_8).stream()
+                .filter(line -> line.contains("\"suite\":\"Event Suite\""))
+                .collect(Collectors.toList());
+        Assert.assertEquals(lines.stream().filter(line -> line.contains("\"status\":\"PASS\"")).count(), 3L, lines.toString());
+        Assert.assertEquals(lines.stream().filter(line -> line.contains("\"status\":\"FAIL\"")).count(), 1L, lines.toString());
+        Assert.assertEquals(lines.stream().filter(line -> line.contains("\"status\":\"SKIP\"")).count(), 1L, lines.toString());
+        Assert.assertEquals(lines.stream().filter(line -> line.contains("\"status\":\"RETRIED\"")).count(), 1L, lines.toString());
+
+        Path html = events.resolveSibling(events.getFileName().toString().replace(".jsonl", ".html"));
+        Assert.assertTrue(Files.exists(html), "The suite should render the log when it finishes");
+    }
+
+    @Test(description = "Test events recorded while the log is closed land in the closed or the next log")
+    public void testRecordRacesWithClose() throws Exception {
+        TestEventSink sink = TestEventSink.getInstance();
+        sink.close();
+        ConfigSnapshot savedConfig = useTemporaryReportDir();
+        int threads = 4;
+        int perThread = 5_000;
+        List<Path> logs = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> recorders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                recorders.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        sink.record(event("race" + i, "PASS"));
+                    }
+                }));
+            }
+            while (recorders.stream().anyMatch(recorder -> !recorder.isDone())) {
+                Path closed = sink.close();
+                if (closed != null) {
+                    logs.add(closed);
+                }
+            }
+            for (Future<?> recorder : recorders) {
+                recorder.get(30, TimeUnit.SECONDS);
+            }
+            Path last = sink.close();
+            if (last != null) {
+                logs.add(last);
+            }
+        } finally {
+            executor.shutdownNow();
+            ConfigManager.getInstance().setSnapshot(savedConfig);
+        }
+
+        long recorded = 0;
+        for (Path log : logs) {
+            recorded += Files.readAllLines(log, StandardCharsets.UTF_8).stream()
+                    .filter(line -> line.contains("\"name\":\"race")).count();
+        }
+        Assert.assertEquals(recorded, (long) threads * perThread, "No event should be lost to a concurrent close");
+    }
+
+    /**
+     * SampleEventTests - One test per outcome, run in order so the last one sees the event log
+     */
+    public static class SampleEventTests {
+        static final AtomicInteger flakyAttempts = new AtomicInteger();
+        static volatile Path events;
+        static volatile boolean nested;
+
+        @Test(priority = 1)
+        public void passes() {
+            Assert.assertTrue(true);
+        }
+
+        @Test(priority = 2)
+        public void fails() {
+            // Only fail inside the nested suite, not when the build picks this class up directly
+            if (nested) {
+                throw new IllegalStateException("Intentional failure");
+            }
+        }
+
+        @Test(priority = 3)
+        public void skipped() {
+            if (nested) {
+                throw new SkipException("Intentional skip");
+            }
+        }
+
+        @Test(priority = 4, retryAnalyzer = RetryAnalyzer.class)
+        public void flaky() {
+            if (nested && flakyAttempts.incrementAndGet() == 1) {
+                throw new APIException("First attempt is unavailable", 503);
+            }
+        }
+
+        @Test(priority = 5)
+        public void capturesLog() {
+            events = TestEventSink.getInstance().flush();
+        }
+    }
+}
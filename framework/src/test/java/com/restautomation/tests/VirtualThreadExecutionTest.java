@@ -0,0 +1,160 @@
+package com.restautomation.tests;
+
+import com.restautomation.config.ConfigManager;
+import com.restautomation.config.ConfigSnapshot;
+import com.restautomation.execution.VirtualThreadExecutorFactory;
+import com.restautomation.utils.LoggerUtil;
+import org.testng.Assert;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * VirtualThreadExecutionTest - Tests for running TestNG workers on virtual threads
+ */
+public class VirtualThreadExecutionTest {
+
+    @Test(description = "Test methods run concurrently on virtual threads")
+    public void testMethodsRunOnVirtualThreads() {
+        TestNG testNG = runSampleTests(SampleTests.METHOD_COUNT);
+
+        LoggerUtil.info("Sample tests ran on {} virtual threads, max concurrency {}",
+                SampleTests.virtualThreads.size(), SampleTests.maxConcurrency.get());
+        Assert.assertFalse(testNG.hasFailure(), "Sample tests should pass");
+        Assert.assertEquals(SampleTests.platformThreadRuns.get(), 0, "No sample test should run on a platform thread");
+        Assert.assertEquals(SampleTests.virtualThreads.size(), SampleTests.METHOD_COUNT,
+                "Each sample test should run on its own virtual thread");
+        Assert.assertTrue(SampleTests.maxConcurrency.get() > 1, "Sample tests should overlap");
+    }
+
+    @Test(description = "Test concurrency is capped at the HTTP connection pool size")
+    public void testConcurrencyIsCappedAtPoolSize() {
+        ConfigManager config = ConfigManager.getInstance();
+        ConfigSnapshot savedConfig = config.getSnapshot();
+        TestNG testNG;
+        try {
+            Assert.assertEquals(VirtualThreadExecutorFactory.concurrency(200), config.getPoolMaxPerRoute());
+            config.setProperty("http.pool.maxPerRoute", "2");
+            testNG = runSampleTests(SampleTests.METHOD_COUNT);
+        } finally {
+            config.setSnapshot(savedConfig);
+        }
+
+        Assert.assertFalse(testNG.hasFailure(), "Sample tests should pass");
+        Assert.assertEquals(SampleTests.runs.get(), SampleTests.METHOD_COUNT, "Every sample test should run");
+        Assert.assertEquals(SampleTests.maxConcurrency.get(), 2, "No more tests than pooled connections should overlap");
+    }
+
+    @Test(description = "Test the virtual-thread mode sizes the HTTP pool from its own concurrency setting")
+    public void testConcurrencySizesThePool() {
+        ConfigManager config = ConfigManager.getInstance();
+        ConfigSnapshot savedConfig = config.getSnapshot();
+        TestNG testNG;
+        try {
+            config.setProperty("virtualThreads", "true");
+            config.setProperty("virtualThreads.concurrency", "300");
+            Assert.assertEquals(config.getPoolMaxPerRoute(), 300, "The pool should grow to the concurrency");
+            Assert.assertEquals(config.getPoolMaxTotal(), 300);
+            Assert.assertEquals(VirtualThreadExecutorFactory.concurrency(500), 300);
+            Assert.assertEquals(VirtualThreadExecutorFactory.concurrency(250), 250);
+
+            config.setProperty("virtualThreads.concurrency", "3");
+            Assert.assertEquals(config.getPoolMaxPerRoute(), savedConfig.getInt("http.pool.maxPerRoute", 20),
+                    "A smaller concurrency should not shrink the pool");
+            testNG = runSampleTests(SampleTests.METHOD_COUNT);
+        } finally {
+            config.setSnapshot(savedConfig);
+        }
+
+        Assert.assertFalse(testNG.hasFailure(), "Sample tests should pass");
+        Assert.assertEquals(SampleTests.runs.get(), SampleTests.METHOD_COUNT, "Every sample test should run");
+        Assert.assertEquals(SampleTests.maxConcurrency.get(), 3, "No more than virtualThreads.concurrency tests should overlap");
+    }
+
+    private static TestNG runSampleTests(int threadCount) {
+        SampleTests.reset();
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Virtual Thread Suite");
+        suite.setParallel(XmlSuite.ParallelMode.METHODS);
+        suite.setThreadCount(threadCount);
+        XmlTest test = new XmlTest(suite);
+        test.setName("Virtual Thread Test");
+        test.setXmlClasses(Collections.singletonList(new XmlClass(SampleTests.class)));
+
+        TestNG testNG = new TestNG(false);
+        testNG.setExecutorFactory(new VirtualThreadExecutorFactory());
+        testNG.setXmlSuites(Collections.singletonList(suite));
+        testNG.setVerbose(0);
+        String favourCustomExecutor = System.setProperty(VirtualThreadExecutorFactory.FAVOUR_CUSTOM_EXECUTOR, "true");
+        try {
+            testNG.run();
+        } finally {
+            if (favourCustomExecutor == null) {
+                System.clearProperty(VirtualThreadExecutorFactory.FAVOUR_CUSTOM_EXECUTOR);
+            } else {
+                System.setProperty(VirtualThreadExecutorFactory.FAVOUR_CUSTOM_EXECUTOR, favourCustomExecutor);
+            }
+        }
+        return testNG;
+    }
+
+    /**
+     * SampleTests - Blocking tests executed by the nested TestNG run
+     */
+    public static class SampleTests {
+        static final int METHOD_COUNT = 4;
+        static final Set<Long> virtualThreads = ConcurrentHashMap.newKeySet();
+        static final AtomicInteger runs = new AtomicInteger();
+        static final AtomicInteger platformThreadRuns = new AtomicInteger();
+        static final AtomicInteger running = new AtomicInteger();
+        static final AtomicInteger maxConcurrency = new AtomicInteger();
+
+        static void reset() {
+            virtualThreads.clear();
+            runs.set(0);
+            platformThreadRuns.set(0);
+            running.set(0);
+            maxConcurrency.set(0);
+        }
+
+        private void block() throws InterruptedException {
+            runs.incrementAndGet();
+            if (Thread.currentThread().isVirtual()) {
+                virtualThreads.add(Thread.currentThread().threadId());
+            } else {
+                platformThreadRuns.incrementAndGet();
+            }
+            maxConcurrency.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(300);
+            running.decrementAndGet();
+        }
+
+        @Test
+        public void first() throws InterruptedException {
+            block();
+        }
+
+        @Test
+        public void second() throws InterruptedException {
+            block();
+        }
+
+        @Test
+        public void third() throws InterruptedException {
+            block();
+        }
+
+        @Test
+        public void fourth() throws InterruptedException {
+            block();
+        }
+    }
+}